@@ -0,0 +1,475 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.compiler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor to generate a reflection-free Gson type adapter for each dynamic
+ * theme class annotated with the {@code GenerateAdapter}.
+ *
+ * <p>The generated adapter extends the {@code GeneratedThemeAdapter} and only writes and
+ * reads the theme interfaces implemented by the class, in the same order and format as the
+ * {@code DynamicThemeTypeAdapter}.
+ *
+ * <p>The adapter is generated against the type argument of the {@code BaseTheme} implemented
+ * by the class, so a subclass of a concrete theme like {@code CustomAppTheme extends
+ * DynamicAppTheme} uses {@code GeneratedThemeAdapter<DynamicAppTheme>} and casts the values
+ * to the annotated class.
+ */
+public class ThemeAdapterProcessor extends AbstractProcessor {
+
+    /**
+     * Package of the dynamic theme library.
+     */
+    private static final String PACKAGE = "com.pranavpandey.android.dynamic.theme";
+
+    /**
+     * Annotation to generate the type adapter.
+     */
+    private static final String ANNOTATION = PACKAGE + ".annotation.GenerateAdapter";
+
+    /**
+     * Base interface for the dynamic themes.
+     */
+    private static final String BASE_THEME = PACKAGE + ".base.BaseTheme";
+
+    /**
+     * Class for the widget themes which can read the header.
+     */
+    private static final String APP_WIDGET_THEME = PACKAGE + ".AppWidgetTheme";
+
+    /**
+     * Suffix for the generated adapter class name.
+     */
+    private static final String SUFFIX = "_ThemeAdapter";
+
+    /**
+     * Theme properties in the same order as the {@code DynamicThemeTypeAdapter}.
+     * <p>Each property is the interface, key, value converter, getter and setter. It is
+     * cross-checked with the {@code ThemeSchema} in the tests.
+     */
+    static final String[][] PROPERTIES = new String[][] {
+            { "base.BackgroundTheme", "BACKGROUND", "Color",
+                    "getBackgroundColor(mResolve, mInverse)", "setBackgroundColor(%s, false)" },
+            { "base.BackgroundTheme", "TINT_BACKGROUND", "Color",
+                    "getTintBackgroundColor(mResolve, mInverse)", "setTintBackgroundColor(%s)" },
+            { "base.SurfaceTheme", "SURFACE", "Color",
+                    "getSurfaceColor(mResolve, mInverse)", "setSurfaceColor(%s, false)" },
+            { "base.SurfaceTheme", "TINT_SURFACE", "Color",
+                    "getTintSurfaceColor(mResolve, mInverse)", "setTintSurfaceColor(%s)" },
+            { "base.PrimaryTheme", "PRIMARY", "Color",
+                    "getPrimaryColor(mResolve, mInverse)", "setPrimaryColor(%s, false)" },
+            { "base.PrimaryTheme", "TINT_PRIMARY", "Color",
+                    "getTintPrimaryColor(mResolve, mInverse)", "setTintPrimaryColor(%s)" },
+            { "base.PrimaryTheme", "PRIMARY_DARK", "Color",
+                    "getPrimaryColorDark(mResolve, mInverse)", "setPrimaryColorDark(%s, false)" },
+            { "base.PrimaryTheme", "TINT_PRIMARY_DARK", "Color",
+                    "getTintPrimaryColorDark(mResolve, mInverse)",
+                    "setTintPrimaryColorDark(%s)" },
+            { "base.AccentTheme", "ACCENT", "Color",
+                    "getAccentColor(mResolve, mInverse)", "setAccentColor(%s, false)" },
+            { "base.AccentTheme", "TINT_ACCENT", "Color",
+                    "getTintAccentColor(mResolve, mInverse)", "setTintAccentColor(%s)" },
+            { "base.AccentTheme", "ACCENT_DARK", "Color",
+                    "getAccentColorDark(mResolve, mInverse)", "setAccentColorDark(%s, false)" },
+            { "base.AccentTheme", "TINT_ACCENT_DARK", "Color",
+                    "getTintAccentColorDark(mResolve, mInverse)",
+                    "setTintAccentColorDark(%s)" },
+            { "base.ErrorTheme", "ERROR", "Color",
+                    "getErrorColor(mResolve, mInverse)", "setErrorColor(%s, false)" },
+            { "base.ErrorTheme", "TINT_ERROR", "Color",
+                    "getTintErrorColor(mResolve, mInverse)", "setTintErrorColor(%s)" },
+            { "base.TextTheme", "TEXT_PRIMARY", "Color",
+                    "getTextPrimaryColor(mResolve, mInverse)", "setTextPrimaryColor(%s, false)" },
+            { "base.TextTheme", "TEXT_PRIMARY_INVERSE", "Color",
+                    "getTextPrimaryColorInverse(mResolve, mInverse)",
+                    "setTextPrimaryColorInverse(%s)" },
+            { "base.TextTheme", "TEXT_SECONDARY", "Color",
+                    "getTextSecondaryColor(mResolve, mInverse)",
+                    "setTextSecondaryColor(%s, false)" },
+            { "base.TextTheme", "TEXT_SECONDARY_INVERSE", "Color",
+                    "getTextSecondaryColorInverse(mResolve, mInverse)",
+                    "setTextSecondaryColorInverse(%s)" },
+            { "base.TextTheme", "FONT_SCALE", "FontScale",
+                    "getFontScale(mResolve)", "setFontScale(%s)" },
+            { "base.CornerTheme", "CORNER_RADIUS", "CornerRadius",
+                    "getCornerRadius(mResolve)", "setCornerSize(%s)" },
+            { "base.BackgroundAware", "BACKGROUND_AWARE", "BackgroundAware",
+                    "getBackgroundAware(mResolve)", "setBackgroundAware(%s)" },
+            { "base.BackgroundAware", "CONTRAST", "Contrast",
+                    "getContrast(mResolve)", "setContrast(%s)" },
+            { "base.TranslucentTheme", "OPACITY", "Opacity",
+                    "getOpacity(mResolve)", "setOpacity(%s)" },
+            { "base.ElevationTheme", "ELEVATION", "Elevation",
+                    "getElevation(mResolve)", "setElevation(%s)" },
+            { "base.StyleTheme", "STYLE", "Style",
+                    "getStyle()", "setStyle(%s)" },
+            { "base.WidgetTheme", "HEADER", "Visibility",
+                    "getHeader()", "setHeader(%s)" } };
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(ANNOTATION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        final TypeElement annotation = processingEnv.getElementUtils()
+                .getTypeElement(ANNOTATION);
+        if (annotation == null) {
+            return false;
+        }
+
+        for (Element element : round.getElementsAnnotatedWith(annotation)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "Only a class can generate the theme adapter.");
+                continue;
+            }
+
+            final TypeElement type = (TypeElement) element;
+            if (!isValid(type)) {
+                continue;
+            }
+
+            try {
+                generate(type);
+            } catch (IOException e) {
+                error(type, "Unable to generate the theme adapter: " + e.getMessage());
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks whether the adapter can be generated for the theme class.
+     *
+     * @param type The theme class to be checked.
+     *
+     * @return {@code true} if the adapter can be generated.
+     */
+    private boolean isValid(TypeElement type) {
+        if (!implementsType(type, BASE_THEME)) {
+            error(type, "The theme class must implement " + BASE_THEME + ".");
+            return false;
+        } else if (!type.getTypeParameters().isEmpty()) {
+            error(type, "The theme class must not have type parameters.");
+            return false;
+        } else if (type.getModifiers().contains(Modifier.PRIVATE)) {
+            error(type, "The theme class must not be private.");
+            return false;
+        } else if (type.getNestingKind() == NestingKind.MEMBER
+                && !type.getModifiers().contains(Modifier.STATIC)) {
+            error(type, "The nested theme class must be static.");
+            return false;
+        }
+
+        final DeclaredType themeType = getThemeType(type.asType());
+        if (themeType == null) {
+            error(type, "The theme class must implement " + BASE_THEME
+                    + " with a class as the type argument.");
+            return false;
+        } else if (!processingEnv.getTypeUtils().isAssignable(type.asType(), themeType)) {
+            error(type, "The theme class must be a subclass of " + themeType + ".");
+            return false;
+        } else if (!isAccessible(type, (TypeElement) themeType.asElement())) {
+            error(type, themeType + " must be accessible from the package of the theme class.");
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the type argument of the {@code BaseTheme} implemented by the supplied type.
+     * <p>It is the self type for the theme classes that directly implement the base theme,
+     * otherwise the ancestor that fixed the type argument.
+     *
+     * @param type The type to be checked.
+     *
+     * @return The type argument of the base theme, otherwise {@code null} if it is raw or
+     *         not a non-generic class.
+     */
+    private DeclaredType getThemeType(TypeMirror type) {
+        for (TypeMirror supertype : processingEnv.getTypeUtils().directSupertypes(type)) {
+            if (supertype.getKind() != TypeKind.DECLARED) {
+                continue;
+            }
+
+            final DeclaredType declared = (DeclaredType) supertype;
+            if (((TypeElement) declared.asElement()).getQualifiedName()
+                    .contentEquals(BASE_THEME)) {
+                if (declared.getTypeArguments().size() != 1) {
+                    return null;
+                }
+
+                final TypeMirror argument = declared.getTypeArguments().get(0);
+                return argument.getKind() == TypeKind.DECLARED
+                        && ((DeclaredType) argument).getTypeArguments().isEmpty()
+                        ? (DeclaredType) argument : null;
+            }
+
+            final DeclaredType themeType = getThemeType(supertype);
+            if (themeType != null) {
+                return themeType;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks whether the supplied class can be used by the adapter generated for the
+     * theme class.
+     *
+     * @param type The theme class to generate the adapter.
+     * @param element The class to be checked.
+     *
+     * @return {@code true} if the class is accessible from the generated adapter.
+     */
+    private boolean isAccessible(TypeElement type, TypeElement element) {
+        if (element.getModifiers().contains(Modifier.PUBLIC)) {
+            return true;
+        }
+
+        return !element.getModifiers().contains(Modifier.PRIVATE)
+                && processingEnv.getElementUtils().getPackageOf(element).equals(
+                        processingEnv.getElementUtils().getPackageOf(type));
+    }
+
+    /**
+     * Checks whether the class implements or extends the supplied type.
+     *
+     * @param type The class to be checked.
+     * @param name The qualified name of the type.
+     *
+     * @return {@code true} if the class implements or extends the supplied type.
+     */
+    private boolean implementsType(TypeElement type, String name) {
+        final TypeElement element = processingEnv.getElementUtils().getTypeElement(name);
+        if (element == null) {
+            return false;
+        }
+
+        final TypeMirror erasure = processingEnv.getTypeUtils().erasure(element.asType());
+        return processingEnv.getTypeUtils().isAssignable(
+                processingEnv.getTypeUtils().erasure(type.asType()), erasure);
+    }
+
+    /**
+     * Checks whether the theme class has an accessible no-argument constructor.
+     *
+     * @param type The theme class to be checked.
+     *
+     * @return {@code true} if the theme class can be created by the generated adapter.
+     */
+    private boolean hasConstructor(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+
+        for (ExecutableElement constructor
+                : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty()
+                    && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Generates the type adapter for the theme class.
+     *
+     * @param type The theme class to generate the adapter.
+     *
+     * @throws IOException If there is an error while writing the source file.
+     */
+    private void generate(TypeElement type) throws IOException {
+        final PackageElement element = processingEnv.getElementUtils().getPackageOf(type);
+        final String packageName = element.isUnnamed() ? "" : element.getQualifiedName().toString();
+        final String themeName = type.getQualifiedName().toString();
+        final DeclaredType themeType = getThemeType(type.asType());
+        final String baseName = ((TypeElement) themeType.asElement())
+                .getQualifiedName().toString();
+        final boolean cast = !baseName.equals(themeName);
+        final String binaryName = processingEnv.getElementUtils()
+                .getBinaryName(type).toString();
+        final String adapterName = (packageName.isEmpty() ? binaryName
+                : binaryName.substring(packageName.length() + 1)).replace('$', '_') + SUFFIX;
+
+        final List<String[]> writes = new ArrayList<>();
+        final List<String[]> reads = new ArrayList<>();
+        final List<String[]> ignores = new ArrayList<>();
+
+        for (String[] property : PROPERTIES) {
+            if (implementsType(type, PACKAGE + "." + property[0])) {
+                writes.add(property);
+            }
+
+            // The header can only be read by the app widget themes.
+            if ("HEADER".equals(property[1]) ? implementsType(type, APP_WIDGET_THEME)
+                    : implementsType(type, PACKAGE + "." + property[0])) {
+                reads.add(property);
+            } else {
+                ignores.add(property);
+            }
+        }
+
+        final StringBuilder builder = new StringBuilder();
+        builder.append("// Generated by the ").append(getClass().getSimpleName())
+                .append(", do not modify.\n");
+        if (!packageName.isEmpty()) {
+            builder.append("package ").append(packageName).append(";\n");
+        }
+
+        builder.append("\n")
+                .append("import androidx.annotation.NonNull;\n")
+                .append("\n")
+                .append("import com.google.gson.JsonIOException;\n")
+                .append("import com.google.gson.stream.JsonWriter;\n")
+                .append("import ").append(PACKAGE).append(".Theme;\n")
+                .append("import ").append(PACKAGE)
+                .append(".adapter.GeneratedThemeAdapter;\n")
+                .append("import ").append(PACKAGE).append(".util.DynamicThemeUtils;\n")
+                .append("\n")
+                .append("import java.io.IOException;\n")
+                .append("\n")
+                .append("/**\n")
+                .append(" * Generated type adapter for the {@link ").append(themeName)
+                .append("}.\n")
+                .append(" */\n")
+                .append("public final class ").append(adapterName)
+                .append(" extends GeneratedThemeAdapter<").append(baseName).append("> {\n")
+                .append("\n")
+                .append("    public ").append(adapterName)
+                .append("(boolean resolve, boolean inverse) {\n")
+                .append("        super(resolve, inverse);\n")
+                .append("    }\n")
+                .append("\n")
+                .append("    @Override\n")
+                .append("    protected void writeValues(@NonNull JsonWriter writer,\n")
+                .append("            @NonNull ").append(baseName)
+                .append(cast ? " dynamicTheme" : " value").append(") throws IOException {\n");
+
+        if (cast) {
+            builder.append("        final ").append(themeName).append(" value = (")
+                    .append(themeName).append(") dynamicTheme;\n");
+        }
+
+        for (String[] property : writes) {
+            builder.append("        writer.name(Theme.Key.").append(property[1]).append(");\n")
+                    .append("        writer.value(DynamicThemeUtils.getValueFrom")
+                    .append(property[2]).append("(value.").append(property[3]).append("));\n");
+        }
+
+        builder.append("    }\n")
+                .append("\n")
+                .append("    @Override\n")
+                .append("    protected @NonNull ").append(baseName).append(" newInstance() {\n");
+
+        if (hasConstructor(type)) {
+            builder.append("        return new ").append(themeName).append("();\n");
+        } else {
+            builder.append("        throw new JsonIOException(\"Register an instance creator for ")
+                    .append(themeName).append("\");\n");
+        }
+
+        builder.append("    }\n")
+                .append("\n")
+                .append("    @Override\n")
+                .append("    public boolean setValue(@NonNull ").append(baseName)
+                .append(cast ? " dynamicTheme,\n" : " theme,\n")
+                .append("            @NonNull String key, @NonNull String value) {\n");
+
+        if (cast) {
+            builder.append("        final ").append(themeName).append(" theme = (")
+                    .append(themeName).append(") dynamicTheme;\n");
+        }
+
+        builder.append("        switch (key) {\n");
+
+        for (String[] property : reads) {
+            builder.append("            case Theme.Key.").append(property[1]).append(":\n")
+                    .append("            case Theme.Key.Short.").append(property[1]).append(":\n")
+                    .append("                theme.").append(String.format(property[4],
+                            "DynamicThemeUtils.getValueFrom" + property[2] + "(value)"))
+                    .append(";\n")
+                    .append("                return true;\n");
+        }
+
+        for (String[] property : ignores) {
+            builder.append("            case Theme.Key.").append(property[1]).append(":\n")
+                    .append("            case Theme.Key.Short.").append(property[1]).append(":\n");
+        }
+
+        if (!ignores.isEmpty()) {
+            builder.append("                return true;\n");
+        }
+
+        builder.append("            default:\n")
+                .append("                return false;\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(
+                packageName.isEmpty() ? adapterName : packageName + "." + adapterName, type)
+                .openWriter()) {
+            writer.write(builder.toString());
+        }
+    }
+
+    /**
+     * Reports an error for the supplied element.
+     *
+     * @param element The element to report the error.
+     * @param message The error message.
+     */
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
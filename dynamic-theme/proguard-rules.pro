@@ -23,6 +23,9 @@
 # For using Gson annotation.
 -keepattributes *Annotation*
 
-# Gson specific classes.
+# Gson specific classes, Gson 2.11 bundles its own rules for the rest.
 -keep class sun.misc.Unsafe { *; }
--keep class com.google.gson.** { *; }
+
+# Generated theme adapters.
+-keepnames @com.pranavpandey.android.dynamic.theme.annotation.GenerateAdapter class *
+-keep class **_ThemeAdapter { public <init>(boolean, boolean); }
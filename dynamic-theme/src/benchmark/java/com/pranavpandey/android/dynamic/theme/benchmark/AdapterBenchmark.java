@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.benchmark;
+
+import static org.junit.Assert.assertEquals;
+
+import com.pranavpandey.android.dynamic.theme.TestTheme;
+import com.pranavpandey.android.dynamic.theme.adapter.DynamicThemeTypeAdapter;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.Random;
+
+/**
+ * Benchmarks the read and write throughput of the {@link DynamicThemeTypeAdapter} against
+ * the previous adapter with the per call {@code instanceof} checks.
+ */
+@RunWith(RobolectricTestRunner.class)
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class AdapterBenchmark {
+
+    /**
+     * Number of themes used for each operation.
+     */
+    private static final int THEMES = 64;
+
+    @Test
+    public void write() throws Exception {
+        final BaseTheme[] themes = getThemes();
+        final LegacyThemeTypeAdapter[] legacy = new LegacyThemeTypeAdapter[THEMES];
+        final DynamicThemeTypeAdapter[] adapters = new DynamicThemeTypeAdapter[THEMES];
+
+        for (int i = 0; i < THEMES; i++) {
+            legacy[i] = new LegacyThemeTypeAdapter(themes[i]);
+            adapters[i] = new DynamicThemeTypeAdapter(themes[i]);
+            assertEquals(legacy[i].toJson(themes[i]), adapters[i].toJson(themes[i]));
+        }
+
+        final double before = Benchmark.measure("adapter write legacy", new Benchmark.Task() {
+            private int index;
+
+            @Override
+            public Object run() {
+                final int i = index++ & (THEMES - 1);
+                return legacy[i].toJson(themes[i]);
+            }
+        });
+        final double after = Benchmark.measure("adapter write", new Benchmark.Task() {
+            private int index;
+
+            @Override
+            public Object run() {
+                final int i = index++ & (THEMES - 1);
+                return adapters[i].toJson(themes[i]);
+            }
+        });
+
+        Benchmark.speedup("adapter write speedup", before, after);
+    }
+
+    @Test
+    public void read() throws Exception {
+        final BaseTheme[] themes = getThemes();
+        final String[] strings = new String[THEMES];
+        final LegacyThemeTypeAdapter[] legacy = new LegacyThemeTypeAdapter[THEMES];
+        final DynamicThemeTypeAdapter[] adapters = new DynamicThemeTypeAdapter[THEMES];
+
+        for (int i = 0; i < THEMES; i++) {
+            strings[i] = new DynamicThemeTypeAdapter(themes[i]).toJson(themes[i]);
+            legacy[i] = new LegacyThemeTypeAdapter((BaseTheme) TestTheme.create());
+            adapters[i] = new DynamicThemeTypeAdapter((BaseTheme) TestTheme.create());
+            assertEquals(legacy[i].fromJson(strings[i]).toString(),
+                    adapters[i].fromJson(strings[i]).toString());
+        }
+
+        final double before = Benchmark.measure("adapter read legacy", new Benchmark.Task() {
+            private int index;
+
+            @Override
+            public Object run() throws Exception {
+                final int i = index++ & (THEMES - 1);
+                return legacy[i].fromJson(strings[i]);
+            }
+        });
+        final double after = Benchmark.measure("adapter read", new Benchmark.Task() {
+            private int index;
+
+            @Override
+            public Object run() throws Exception {
+                final int i = index++ & (THEMES - 1);
+                return adapters[i].fromJson(strings[i]);
+            }
+        });
+
+        Benchmark.speedup("adapter read speedup", before, after);
+    }
+
+    /**
+     * Returns the random themes implementing all the theme interfaces.
+     *
+     * @return The random themes implementing all the theme interfaces.
+     */
+    private static BaseTheme[] getThemes() {
+        final Random random = new Random(14);
+        final BaseTheme[] themes = new BaseTheme[THEMES];
+
+        for (int i = 0; i < THEMES; i++) {
+            themes[i] = TestTheme.create(TestTheme.random(random), TestTheme.ALL);
+        }
+
+        return themes;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.benchmark;
+
+import androidx.annotation.NonNull;
+
+import java.util.Locale;
+
+/**
+ * Minimal benchmark runner for the JVM unit tests.
+ *
+ * <p>It runs each task for a few warmup iterations and reports the average time of the
+ * measured iterations. It does not replace a benchmark harness, but is enough to compare
+ * two implementations of the same operation on the same machine.
+ */
+public final class Benchmark {
+
+    /**
+     * Number of the warmup iterations.
+     */
+    private static final int WARMUP = 5;
+
+    /**
+     * Number of the measured iterations.
+     */
+    private static final int ITERATIONS = 10;
+
+    /**
+     * Minimum duration of an iteration in nanoseconds.
+     */
+    private static final long DURATION = 50_000_000L;
+
+    /**
+     * Sink for the task results so that they are not eliminated.
+     */
+    private static volatile int sSink;
+
+    /**
+     * Task to be measured.
+     */
+    public interface Task {
+
+        /**
+         * Runs the task once.
+         *
+         * @return The result of the task.
+         *
+         * @throws Exception If there is an error in running the task.
+         */
+        Object run() throws Exception;
+    }
+
+    /**
+     * Measures the average time of the task and prints it.
+     *
+     * @param name The name of the task.
+     * @param task The task to be measured.
+     *
+     * @return The average time of the task in nanoseconds.
+     *
+     * @throws Exception If there is an error in running the task.
+     */
+    public static double measure(@NonNull String name, @NonNull Task task) throws Exception {
+        int operations = 1;
+        long elapsed = 0;
+
+        // Find the number of operations for each iteration.
+        while (elapsed < DURATION / 10) {
+            operations *= 2;
+            elapsed = run(task, operations);
+        }
+        operations = (int) Math.max(1, operations * DURATION / Math.max(1, elapsed));
+
+        for (int i = 0; i < WARMUP; i++) {
+            run(task, operations);
+        }
+
+        long total = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            total += run(task, operations);
+        }
+
+        final double average = (double) total / ((long) ITERATIONS * operations);
+        System.out.println(String.format(Locale.ROOT, "%-48s %14.1f ns/op", name, average));
+
+        return average;
+    }
+
+    /**
+     * Prints the speedup between two average times.
+     *
+     * @param name The name of the comparison.
+     * @param before The average time before the change.
+     * @param after The average time after the change.
+     */
+    public static void speedup(@NonNull String name, double before, double after) {
+        System.out.println(String.format(Locale.ROOT, "%-48s %13.1fx", name, before / after));
+    }
+
+    /**
+     * Runs the task for the supplied number of operations.
+     *
+     * @param task The task to be run.
+     * @param operations The number of operations.
+     *
+     * @return The elapsed time in nanoseconds.
+     *
+     * @throws Exception If there is an error in running the task.
+     */
+    private static long run(@NonNull Task task, int operations) throws Exception {
+        int sink = 0;
+        final long start = System.nanoTime();
+
+        for (int i = 0; i < operations; i++) {
+            final Object result = task.run();
+            sink += result != null ? result.hashCode() : 0;
+        }
+
+        final long elapsed = System.nanoTime() - start;
+        sSink += sink;
+
+        return elapsed;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.benchmark;
+
+import static org.junit.Assert.assertNotNull;
+
+import android.graphics.Bitmap;
+
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.google.zxing.qrcode.encoder.ByteMatrix;
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.TestTheme;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+import com.pranavpandey.android.dynamic.theme.base.CodeTheme;
+import com.pranavpandey.android.dynamic.theme.schema.ResolvedTheme;
+import com.pranavpandey.android.dynamic.theme.util.DynamicCodeUtils;
+import com.pranavpandey.android.dynamic.theme.util.LegacyCodeUtils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.GraphicsMode;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Benchmarks the QR Code rendering against the previous renderer that draws each data
+ * module with its own call.
+ *
+ * <p>The codes are rendered at the {@link Theme.Size#DEFAULT}, 512 and 1024 pixels, the
+ * output size is only increased if the modules of the QR Code version do not fit.
+ */
+@RunWith(RobolectricTestRunner.class)
+@GraphicsMode(GraphicsMode.Mode.NATIVE)
+public class CodeBenchmark {
+
+    /**
+     * Data for a small and a large QR Code.
+     */
+    private static final String[] DATA = new String[] { "https://pranavpandey.org",
+            "0vA-1vA-2vA-3vA-4vX12A480-5vX406A21-4ZvA-5ZvXE05ED6-8vXDB355BAF-9vA-8ZvA-9ZvA"
+                    + "-21vXACD8C2-22vXEA78AC-12vXEB49F762-12ZvA-14vX0805805F-14ZvX36CB3D-16vA"
+                    + "-17v14-18vD-25vA-20v253-26vE-23vC-19vS-0vA-1vA-2vA-3vA-4vX12A480-5vX406"
+                    + "A21-4ZvA-5ZvXE05ED6-8vXDB355BAF-9vA-8ZvA-9ZvA-21vXACD8C2-22vXEA78AC-12vX"
+                    + "EB49F762-12ZvA-14vX0805805F-14ZvX36CB3D-16vA-17v14-18vD-25vA-20v253" };
+
+    /**
+     * Output sizes of the QR Codes in pixels.
+     */
+    private static final int[] SIZES = new int[] { Theme.Size.DEFAULT, 512, 1024 };
+
+    @Test
+    public void render() throws Exception {
+        final int[] styles = new int[] { Theme.Code.Style.SQUARE,
+                Theme.Code.Style.ROUND, Theme.Code.Style.OVAL };
+
+        for (String data : DATA) {
+            final ByteMatrix matrix = DynamicCodeUtils.encodeCode(
+                    data, ErrorCorrectionLevel.H, "UTF-8");
+            assertNotNull(matrix);
+
+            for (final int size : SIZES) {
+                for (int style : styles) {
+                    final ResolvedTheme theme = getTheme(style);
+                    final Bitmap bitmap = DynamicCodeUtils.renderCode(
+                            theme, matrix, null, size);
+                    assertNotNull(bitmap);
+
+                    final String name = String.format(Locale.ROOT,
+                            "code %d modules %d px style %d",
+                            matrix.getWidth(), bitmap.getWidth(), style);
+                    final double before = Benchmark.measure(name + " legacy",
+                            new Benchmark.Task() {
+                                @Override
+                                public Object run() {
+                                    final Bitmap code = LegacyCodeUtils.renderCode(
+                                            theme, matrix, null, size);
+                                    code.recycle();
+
+                                    return code;
+                                }
+                            });
+                    final double after = Benchmark.measure(name, new Benchmark.Task() {
+                        @Override
+                        public Object run() {
+                            final Bitmap code = DynamicCodeUtils.renderCode(
+                                    theme, matrix, null, size);
+                            code.recycle();
+
+                            return code;
+                        }
+                    });
+
+                    Benchmark.speedup(name + " speedup", before, after);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the resolved code theme with the supplied style.
+     *
+     * @param style The style of the code.
+     *
+     * @return The resolved code theme with the supplied style.
+     */
+    private static ResolvedTheme getTheme(@Theme.Code.Style int style) {
+        final Map<String, Number> values = new HashMap<>();
+        values.put("CodeBackgroundColor", 0xFFF5F5F5);
+        values.put("CodeDataColor", 0xFF212121);
+        values.put("CodeFinderColor", 0xFFE91E63);
+        values.put("CodeOverlayColor", Theme.Color.UNKNOWN);
+        values.put("CodeContrastRatio", 0.45f);
+        values.put("CodeStyle", style);
+
+        return new ResolvedTheme((BaseTheme<?>) TestTheme.create(values, CodeTheme.class));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.benchmark;
+
+import static org.junit.Assert.assertEquals;
+
+import com.pranavpandey.android.dynamic.theme.TestTheme;
+import com.pranavpandey.android.dynamic.theme.base.StringTheme;
+import com.pranavpandey.android.dynamic.theme.util.DynamicCodeUtils;
+import com.pranavpandey.android.dynamic.theme.util.DynamicThemeUtils;
+import com.pranavpandey.android.dynamic.theme.util.LegacyThemeUtils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.Random;
+
+/**
+ * Benchmarks the theme string normalizer against the previous regex chain on the pretty
+ * theme JSON from 1 KB to 64 KB.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class FormatBenchmark {
+
+    /**
+     * Input sizes in bytes.
+     */
+    private static final int[] SIZES = new int[] { 1024, 4096, 16384, 65536 };
+
+    @Test
+    public void normalize() throws Exception {
+        for (int size : SIZES) {
+            final String input = getInput(size);
+            assertEquals(LegacyThemeUtils.normalize(input), DynamicThemeUtils.normalize(input));
+
+            final double before = Benchmark.measure("normalize legacy " + size,
+                    new Benchmark.Task() {
+                @Override
+                public Object run() {
+                    return LegacyThemeUtils.normalize(input);
+                }
+            });
+            final double after = Benchmark.measure("normalize " + size, new Benchmark.Task() {
+                @Override
+                public Object run() {
+                    return DynamicThemeUtils.normalize(input);
+                }
+            });
+
+            Benchmark.speedup("normalize speedup " + size, before, after);
+        }
+    }
+
+    @Test
+    public void formatCode() throws Exception {
+        for (int size : SIZES) {
+            final String input = getInput(size);
+            assertEquals(LegacyThemeUtils.formatCode(input), DynamicCodeUtils.format(input));
+
+            final double before = Benchmark.measure("code format legacy " + size,
+                    new Benchmark.Task() {
+                @Override
+                public Object run() {
+                    return LegacyThemeUtils.formatCode(input);
+                }
+            });
+            final double after = Benchmark.measure("code format " + size, new Benchmark.Task() {
+                @Override
+                public Object run() {
+                    return DynamicCodeUtils.format(input);
+                }
+            });
+
+            Benchmark.speedup("code format speedup " + size, before, after);
+        }
+    }
+
+    /**
+     * Returns the pretty theme JSON of the supplied size.
+     *
+     * @param size The size of the input.
+     *
+     * @return The pretty theme JSON of the supplied size.
+     */
+    private static String getInput(int size) {
+        final Random random = new Random(size);
+        final StringBuilder builder = new StringBuilder(size + 1024);
+
+        while (builder.length() < size) {
+            final StringTheme<?> theme = TestTheme.create(
+                    TestTheme.random(random), TestTheme.ALL);
+            builder.append(theme.toDynamicString()).append('\n');
+        }
+
+        builder.setLength(size);
+        return builder.toString();
+    }
+}
@@ -21,7 +21,7 @@ import android.graphics.Color;
 import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
 
-import com.google.gson.Gson;
+import com.pranavpandey.android.dynamic.theme.adapter.ThemeSerializer;
 import com.pranavpandey.android.dynamic.theme.base.AutoTheme;
 import com.pranavpandey.android.dynamic.theme.base.BackgroundAware;
 import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
@@ -36,7 +36,7 @@ import com.pranavpandey.android.dynamic.theme.base.StyleTheme;
 import com.pranavpandey.android.dynamic.theme.base.TextTheme;
 import com.pranavpandey.android.dynamic.theme.base.TranslucentTheme;
 import com.pranavpandey.android.dynamic.theme.base.TypeTheme;
-import com.pranavpandey.android.dynamic.theme.util.DynamicThemeUtils;
+import com.pranavpandey.android.dynamic.theme.cache.ThemeDataCache;
 import com.pranavpandey.android.dynamic.util.DynamicColorUtils;
 
 /**
@@ -65,7 +65,7 @@ public abstract class AppTheme<T extends AppTheme<T>> implements BaseTheme<T>, F
 
     @Override
     public @NonNull String getThemeData() {
-        return DynamicThemeUtils.getThemeUrl(this);
+        return ThemeDataCache.getInstance().getThemeUrl(this);
     }
 
     @Override
@@ -112,6 +112,6 @@ public abstract class AppTheme<T extends AppTheme<T>> implements BaseTheme<T>, F
 
     @Override
     public @NonNull String toJsonString() {
-        return new Gson().toJson(this);
+        return ThemeSerializer.toJsonString(this);
     }
 }
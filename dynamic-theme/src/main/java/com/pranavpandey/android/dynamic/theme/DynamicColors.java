@@ -28,6 +28,8 @@ import androidx.annotation.Nullable;
 import androidx.core.util.ObjectsCompat;
 
 import com.pranavpandey.android.dynamic.theme.base.DynamicColor;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeProperty;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeSchema;
 import com.pranavpandey.android.dynamic.util.DynamicColorUtils;
 
 import java.util.ArrayList;
@@ -351,6 +353,8 @@ public class DynamicColors implements Parcelable {
 
     /**
      * Mutate original colors for the supplied app theme.
+     * <p>It stores the {@link ThemeProperty.Flag#MUTABLE mutable} colors of the
+     * {@link ThemeSchema}.
      *
      * @param dark The map to store the mutated (dark) colors.
      * @param light The map to store the mutated (light) colors.
@@ -374,25 +378,32 @@ public class DynamicColors implements Parcelable {
             accent = background;
         }
 
-        put(dark, Theme.ColorType.BACKGROUND,
-                DynamicColorUtils.getDarkerColor(background, FACTOR));
-        put(dark, Theme.ColorType.SURFACE, Theme.AUTO);
-        put(dark, Theme.ColorType.PRIMARY,
-                DynamicColorUtils.getDarkerColor(primary, FACTOR));
-        put(dark, Theme.ColorType.PRIMARY_DARK, Theme.AUTO);
-        put(dark, Theme.ColorType.ACCENT, accent);
-        put(dark, Theme.ColorType.ACCENT_DARK, Theme.AUTO);
-        put(dark, Theme.ColorType.ERROR, Theme.AUTO);
-
-        put(light, Theme.ColorType.BACKGROUND,
-                DynamicColorUtils.getLighterColor(background, FACTOR));
-        put(light, Theme.ColorType.SURFACE, Theme.AUTO);
-        put(light, Theme.ColorType.PRIMARY,
-                DynamicColorUtils.getLighterColor(primary, FACTOR));
-        put(light, Theme.ColorType.PRIMARY_DARK, Theme.AUTO);
-        put(light, Theme.ColorType.ACCENT, accent);
-        put(light, Theme.ColorType.ACCENT_DARK, Theme.AUTO);
-        put(light, Theme.ColorType.ERROR, Theme.AUTO);
+        for (int i = 0; i < ThemeSchema.size(); i++) {
+            final ThemeProperty property = ThemeSchema.get(i);
+            if (!property.hasFlag(ThemeProperty.Flag.MUTABLE)) {
+                continue;
+            }
+
+            final @Theme.ColorType int colorType = property.getColorType();
+            switch (colorType) {
+                case Theme.ColorType.BACKGROUND:
+                    put(dark, colorType, DynamicColorUtils.getDarkerColor(background, FACTOR));
+                    put(light, colorType, DynamicColorUtils.getLighterColor(background, FACTOR));
+                    break;
+                case Theme.ColorType.PRIMARY:
+                    put(dark, colorType, DynamicColorUtils.getDarkerColor(primary, FACTOR));
+                    put(light, colorType, DynamicColorUtils.getLighterColor(primary, FACTOR));
+                    break;
+                case Theme.ColorType.ACCENT:
+                    put(dark, colorType, accent);
+                    put(light, colorType, accent);
+                    break;
+                default:
+                    put(dark, colorType, Theme.AUTO);
+                    put(light, colorType, Theme.AUTO);
+                    break;
+            }
+        }
     }
 
     /**
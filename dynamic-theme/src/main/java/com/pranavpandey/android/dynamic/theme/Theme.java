@@ -1889,4 +1889,47 @@ public @interface Theme {
          */
         int DELETE = 21;
     }
+
+    /**
+     * Interface to hold the theme format constants.
+     */
+    @Retention(RetentionPolicy.SOURCE)
+    @interface Format {
+
+        /**
+         * Constant for the prefix of an encoded format.
+         */
+        String PREFIX = "~";
+
+        /**
+         * Constant for the binary format prefix.
+         */
+        String BINARY = PREFIX + "b";
+
+        /**
+         * Constant for the binary format version.
+         */
+        int BINARY_VERSION = 1;
+
+        /**
+         * Constant for the delta format prefix with the auto values as base.
+         */
+        String DELTA = PREFIX + "d";
+
+        /**
+         * Constant for the delta format prefix with a shared base theme, followed by the
+         * identifier of the base theme.
+         */
+        String DELTA_BASE = PREFIX + "D";
+
+        /**
+         * Constant for the compressed format prefix.
+         */
+        String DEFLATE = PREFIX + "z";
+
+        /**
+         * Constant for the compressed format version.
+         */
+        int DEFLATE_VERSION = 1;
+    }
 }
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.adapter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.InstanceCreator;
+import com.google.gson.JsonIOException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * Gson type adapter factory to provide the {@link DynamicThemeTypeAdapter} for the dynamic
+ * themes.
+ *
+ * <p>It prefers the {@link GeneratedThemeAdapter} if the theme class has been annotated
+ * with the {@link com.pranavpandey.android.dynamic.theme.annotation.GenerateAdapter}, both
+ * adapters read the values according to the same {@link DynamicThemeTypeAdapter.Mode}.
+ * Gson caches the created adapter for each theme class, so it should be registered once
+ * on a shared Gson instance like the {@link ThemeSerializer}.
+ */
+public class DynamicThemeAdapterFactory implements TypeAdapterFactory {
+
+    /**
+     * {@code true} to resolve the values.
+     */
+    private final boolean mResolve;
+
+    /**
+     * {@code true} to resolve the inverse values.
+     */
+    private final boolean mInverse;
+
+    /**
+     * Mode used to read the dynamic themes.
+     */
+    private final @DynamicThemeTypeAdapter.Mode int mMode;
+
+    /**
+     * Instance creators to read the dynamic themes.
+     */
+    private final Map<Type, InstanceCreator<?>> mCreators;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param resolve {@code true} to resolve the values.
+     * @param inverse {@code true} to resolve the inverse values.
+     * @param creators The instance creators to read the dynamic themes.
+     */
+    public DynamicThemeAdapterFactory(boolean resolve, boolean inverse,
+            @NonNull Map<Type, InstanceCreator<?>> creators) {
+        this(resolve, inverse, DynamicThemeTypeAdapter.Mode.LENIENT, creators);
+    }
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param resolve {@code true} to resolve the values.
+     * @param inverse {@code true} to resolve the inverse values.
+     * @param mode The mode used to read the dynamic themes.
+     * @param creators The instance creators to read the dynamic themes.
+     */
+    public DynamicThemeAdapterFactory(boolean resolve, boolean inverse,
+            @DynamicThemeTypeAdapter.Mode int mode,
+            @NonNull Map<Type, InstanceCreator<?>> creators) {
+        this.mResolve = resolve;
+        this.mInverse = inverse;
+        this.mMode = mode;
+        this.mCreators = creators;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public @Nullable <T> TypeAdapter<T> create(@NonNull Gson gson, @NonNull TypeToken<T> type) {
+        if (!BaseTheme.class.isAssignableFrom(type.getRawType())) {
+            return null;
+        }
+
+        final InstanceCreator creator = mCreators.get(type.getType());
+        final TypeAdapter<T> generated = GeneratedThemeAdapter.get(
+                type.getRawType(), mResolve, mInverse, mMode, creator);
+        if (generated != null) {
+            return generated;
+        }
+
+        return (TypeAdapter<T>) new Adapter(type.getType(), creator, mResolve, mInverse, mMode);
+    }
+
+    /**
+     * Type adapter to read and write a dynamic theme class.
+     *
+     * @param <T> The type of the dynamic theme.
+     */
+    private static class Adapter<T extends BaseTheme<T>> extends TypeAdapter<T> {
+
+        /**
+         * Type of the dynamic theme.
+         */
+        private final Type mType;
+
+        /**
+         * Instance creator to read the dynamic theme.
+         */
+        private final InstanceCreator<T> mCreator;
+
+        /**
+         * {@code true} to resolve the values.
+         */
+        private final boolean mResolve;
+
+        /**
+         * {@code true} to resolve the inverse values.
+         */
+        private final boolean mInverse;
+
+        /**
+         * Mode used to read the dynamic theme.
+         */
+        private final @DynamicThemeTypeAdapter.Mode int mMode;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param type The type of the dynamic theme.
+         * @param creator The instance creator to read the dynamic theme.
+         * @param resolve {@code true} to resolve the values.
+         * @param inverse {@code true} to resolve the inverse values.
+         * @param mode The mode used to read the dynamic theme.
+         */
+        Adapter(@NonNull Type type, @Nullable InstanceCreator<T> creator,
+                boolean resolve, boolean inverse, @DynamicThemeTypeAdapter.Mode int mode) {
+            this.mType = type;
+            this.mCreator = creator;
+            this.mResolve = resolve;
+            this.mInverse = inverse;
+            this.mMode = mode;
+        }
+
+        @Override
+        public void write(JsonWriter writer, T value) throws IOException {
+            if (value == null) {
+                writer.nullValue();
+                return;
+            }
+
+            DynamicThemeTypeAdapter.write(writer, value, mResolve, mInverse, mMode);
+        }
+
+        @Override
+        public T read(JsonReader reader) throws IOException {
+            // Only the read keeps a state for the new instance and its counters.
+            return new DynamicThemeTypeAdapter<>(newInstance(),
+                    mResolve, mInverse, mMode).read(reader);
+        }
+
+        /**
+         * Returns a new instance of the dynamic theme to read the values.
+         * <p>It uses the registered instance creator, otherwise the no-argument constructor.
+         *
+         * @return The new instance of the dynamic theme.
+         */
+        @SuppressWarnings("unchecked")
+        private @NonNull T newInstance() {
+            if (mCreator != null) {
+                return mCreator.createInstance(mType);
+            }
+
+            try {
+                return ((Class<T>) TypeToken.get(mType).getRawType())
+                        .getDeclaredConstructor().newInstance();
+            } catch (Exception e) {
+                throw new JsonIOException("Register an instance creator for " + mType, e);
+            }
+        }
+    }
+}
@@ -17,19 +17,18 @@
 package com.pranavpandey.android.dynamic.theme.adapter;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
+import com.google.gson.JsonIOException;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
-import com.pranavpandey.android.dynamic.theme.AppWidgetTheme;
 import com.pranavpandey.android.dynamic.theme.Theme;
 import com.pranavpandey.android.dynamic.theme.base.AccentTheme;
-import com.pranavpandey.android.dynamic.theme.base.BackgroundAware;
 import com.pranavpandey.android.dynamic.theme.base.BackgroundTheme;
 import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
 import com.pranavpandey.android.dynamic.theme.base.CornerTheme;
-import com.pranavpandey.android.dynamic.theme.base.ElevationTheme;
 import com.pranavpandey.android.dynamic.theme.base.ErrorTheme;
 import com.pranavpandey.android.dynamic.theme.base.PrimaryTheme;
 import com.pranavpandey.android.dynamic.theme.base.StyleTheme;
@@ -37,9 +36,13 @@ import com.pranavpandey.android.dynamic.theme.base.SurfaceTheme;
 import com.pranavpandey.android.dynamic.theme.base.TextTheme;
 import com.pranavpandey.android.dynamic.theme.base.TranslucentTheme;
 import com.pranavpandey.android.dynamic.theme.base.WidgetTheme;
-import com.pranavpandey.android.dynamic.theme.util.DynamicThemeUtils;
+import com.pranavpandey.android.dynamic.theme.schema.ResolvedTheme;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeProperty;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeSchema;
 
 import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
 
 /**
  * Gson type adapter to export and import the dynamic theme.
@@ -58,9 +61,30 @@ import java.io.IOException;
  * @see TranslucentTheme
  * @see StyleTheme
  * @see WidgetTheme
+ * @see ThemeSchema
+ * @see ResolvedTheme
  */
 public class DynamicThemeTypeAdapter<T extends BaseTheme<T>> extends TypeAdapter<T> {
 
+    /**
+     * Constant values for the adapter modes.
+     */
+    @Retention(RetentionPolicy.SOURCE)
+    public @interface Mode {
+
+        /**
+         * Constant to skip the invalid values and continue reading the other values.
+         * <p>The skipped values and unknown keys are counted by the adapter.
+         */
+        int LENIENT = 0;
+
+        /**
+         * Constant to stop at the first invalid value and throw a
+         * {@link ThemeParseException} without the stack trace.
+         */
+        int STRICT = 1;
+    }
+
     /**
      * Dynamic theme used by this adapter.
      */
@@ -76,6 +100,26 @@ public class DynamicThemeTypeAdapter<T extends BaseTheme<T>> extends TypeAdapter
      */
     private final boolean mInverse;
 
+    /**
+     * Capabilities of the dynamic theme used by this adapter.
+     */
+    private final int mCapabilities;
+
+    /**
+     * Mode used by this adapter.
+     */
+    private final @Mode int mMode;
+
+    /**
+     * Number of values skipped while reading.
+     */
+    private int mSkippedCount;
+
+    /**
+     * Number of unknown keys found while reading.
+     */
+    private int mUnknownCount;
+
     /**
      * Constructor to initialize an object of this class.
      *
@@ -93,348 +137,260 @@ public class DynamicThemeTypeAdapter<T extends BaseTheme<T>> extends TypeAdapter
      * @param inverse {@code true} to resolve the inverse values.
      */
     public DynamicThemeTypeAdapter(@NonNull T dynamicTheme, boolean resolve, boolean inverse) {
+        this(dynamicTheme, resolve, inverse, Mode.LENIENT);
+    }
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param dynamicTheme The dynamic theme to be used.
+     * @param resolve {@code true} to resolve the values.
+     * @param inverse {@code true} to resolve the inverse values.
+     * @param mode The mode to be used.
+     */
+    public DynamicThemeTypeAdapter(@NonNull T dynamicTheme,
+            boolean resolve, boolean inverse, @Mode int mode) {
         this.mDynamicTheme = dynamicTheme;
         this.mResolve = resolve;
         this.mInverse = inverse;
+        this.mCapabilities = ThemeSchema.getCapabilities(dynamicTheme.getClass());
+        this.mMode = mode;
     }
 
     @Override
     public void write(JsonWriter writer, T value) throws IOException {
-        try {
-            writer.beginObject();
-
-            if (value instanceof BackgroundTheme) {
-                writer.name(Theme.Key.BACKGROUND);
-                writer.value(DynamicThemeUtils.getValueFromColor(((BackgroundTheme<?>)
-                        value).getBackgroundColor(mResolve, mInverse)));
-                writer.name(Theme.Key.TINT_BACKGROUND);
-                writer.value(DynamicThemeUtils.getValueFromColor(((BackgroundTheme<?>)
-                        value).getTintBackgroundColor(mResolve, mInverse)));
-            }
-
-            if (value instanceof SurfaceTheme) {
-                writer.name(Theme.Key.SURFACE);
-                writer.value(DynamicThemeUtils.getValueFromColor(((SurfaceTheme<?>)
-                        value).getSurfaceColor(mResolve, mInverse)));
-                writer.name(Theme.Key.TINT_SURFACE);
-                writer.value(DynamicThemeUtils.getValueFromColor(((SurfaceTheme<?>)
-                        value).getTintSurfaceColor(mResolve, mInverse)));
-            }
+        if (value == null) {
+            writer.beginObject().endObject();
+            return;
+        }
 
-            if (value instanceof PrimaryTheme) {
-                writer.name(Theme.Key.PRIMARY);
-                writer.value(DynamicThemeUtils.getValueFromColor(((PrimaryTheme<?>)
-                        value).getPrimaryColor(mResolve, mInverse)));
-                writer.name(Theme.Key.TINT_PRIMARY);
-                writer.value(DynamicThemeUtils.getValueFromColor(((PrimaryTheme<?>)
-                        value).getTintPrimaryColor(mResolve, mInverse)));
-                writer.name(Theme.Key.PRIMARY_DARK);
-                writer.value(DynamicThemeUtils.getValueFromColor(((PrimaryTheme<?>)
-                        value).getPrimaryColorDark(mResolve, mInverse)));
-                writer.name(Theme.Key.TINT_PRIMARY_DARK);
-                writer.value(DynamicThemeUtils.getValueFromColor(((PrimaryTheme<?>)
-                        value).getTintPrimaryColorDark(mResolve, mInverse)));
-            }
+        write(writer, value, mResolve, mInverse, mMode);
+    }
 
-            if (value instanceof AccentTheme) {
-                writer.name(Theme.Key.ACCENT);
-                writer.value(DynamicThemeUtils.getValueFromColor(((AccentTheme<?>)
-                        value).getAccentColor(mResolve, mInverse)));
-                writer.name(Theme.Key.TINT_ACCENT);
-                writer.value(DynamicThemeUtils.getValueFromColor(((AccentTheme<?>)
-                        value).getTintAccentColor(mResolve, mInverse)));
-                writer.name(Theme.Key.ACCENT_DARK);
-                writer.value(DynamicThemeUtils.getValueFromColor(((AccentTheme<?>)
-                        value).getAccentColorDark(mResolve, mInverse)));
-                writer.name(Theme.Key.TINT_ACCENT_DARK);
-                writer.value(DynamicThemeUtils.getValueFromColor(((AccentTheme<?>)
-                        value).getTintAccentColorDark(mResolve, mInverse)));
+    /**
+     * Writes the theme as a JSON object according to the mode.
+     * <p>It does not depend on any adapter state, so it can be shared by the adapters that
+     * only need to write a theme.
+     *
+     * @param writer The JSON writer to be used.
+     * @param theme The theme to be written.
+     * @param resolve {@code true} to resolve the values.
+     * @param inverse {@code true} to resolve the inverse values.
+     * @param mode The mode to be used.
+     *
+     * @throws IOException If an I/O error occurs while writing.
+     */
+    static void write(@NonNull JsonWriter writer, @NonNull BaseTheme<?> theme,
+            boolean resolve, boolean inverse, @Mode int mode) throws IOException {
+        try {
+            writeTheme(writer, theme, resolve, inverse);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            if (mode == Mode.STRICT) {
+                throw new JsonIOException(e);
             }
+        }
+    }
 
-            if (value instanceof ErrorTheme) {
-                writer.name(Theme.Key.ERROR);
-                writer.value(DynamicThemeUtils.getValueFromColor(((ErrorTheme<?>)
-                        value).getErrorColor(mResolve, mInverse)));
-                writer.name(Theme.Key.TINT_ERROR);
-                writer.value(DynamicThemeUtils.getValueFromColor(((ErrorTheme<?>)
-                        value).getTintErrorColor(mResolve, mInverse)));
-            }
+    /**
+     * Writes the theme as a JSON object.
+     * <p>The schema values are resolved and written one by one, without creating a
+     * {@link ResolvedTheme} snapshot.
+     *
+     * @param writer The JSON writer to be used.
+     * @param theme The theme to be written.
+     * @param resolve {@code true} to resolve the values.
+     * @param inverse {@code true} to resolve the inverse values.
+     *
+     * @throws IOException If an I/O error occurs while writing.
+     */
+    public static void writeTheme(@NonNull JsonWriter writer, @NonNull BaseTheme<?> theme,
+            boolean resolve, boolean inverse) throws IOException {
+        final int capabilities = ThemeSchema.getCapabilities(theme.getClass());
+        writer.beginObject();
 
-            if (value instanceof TextTheme) {
-                writer.name(Theme.Key.TEXT_PRIMARY);
-                writer.value(DynamicThemeUtils.getValueFromColor(((TextTheme<?>)
-                        value).getTextPrimaryColor(mResolve, mInverse)));
-                writer.name(Theme.Key.TEXT_PRIMARY_INVERSE);
-                writer.value(DynamicThemeUtils.getValueFromColor(((TextTheme<?>)
-                        value).getTextPrimaryColorInverse(mResolve, mInverse)));
-                writer.name(Theme.Key.TEXT_SECONDARY);
-                writer.value(DynamicThemeUtils.getValueFromColor(((TextTheme<?>)
-                        value).getTextSecondaryColor(mResolve, mInverse)));
-                writer.name(Theme.Key.TEXT_SECONDARY_INVERSE);
-                writer.value(DynamicThemeUtils.getValueFromColor(((TextTheme<?>)
-                        value).getTextSecondaryColorInverse(mResolve, mInverse)));
-                writer.name(Theme.Key.FONT_SCALE);
-                writer.value(DynamicThemeUtils.getValueFromFontScale(((TextTheme<?>)
-                        value).getFontScale(mResolve)));
-            }
+        for (int i = 0; i < ThemeSchema.size(); i++) {
+            final ThemeProperty property = ThemeSchema.get(i);
 
-            if (value instanceof CornerTheme) {
-                writer.name(Theme.Key.CORNER_RADIUS);
-                writer.value(DynamicThemeUtils.getValueFromCornerRadius(
-                        ((CornerTheme<?>) value).getCornerRadius(mResolve)));
+            if (property.isSupported(capabilities)) {
+                writer.name(property.getKey());
+                writer.value(property.format(property.get(theme, resolve, inverse)));
             }
+        }
 
-            if (value instanceof BackgroundAware) {
-                writer.name(Theme.Key.BACKGROUND_AWARE);
-                writer.value(DynamicThemeUtils.getValueFromBackgroundAware(
-                        ((BackgroundAware<?>) value).getBackgroundAware(mResolve)));
-                writer.name(Theme.Key.CONTRAST);
-                writer.value(DynamicThemeUtils.getValueFromContrast(
-                        ((BackgroundAware<?>) value).getContrast(mResolve)));
-            }
+        writer.endObject();
+    }
 
-            if (value instanceof TranslucentTheme) {
-                writer.name(Theme.Key.OPACITY);
-                writer.value(DynamicThemeUtils.getValueFromOpacity(
-                        ((TranslucentTheme<?>) value).getOpacity(mResolve)));
-            }
+    /**
+     * Writes the resolved theme snapshot as a JSON object.
+     * <p>The values are written as they were resolved, so the same snapshot can be written
+     * any number of times without resolving the theme again.
+     *
+     * @param writer The JSON writer to be used.
+     * @param theme The resolved theme to be written.
+     *
+     * @throws IOException If an I/O error occurs while writing.
+     * @throws IllegalArgumentException If the schema values are not resolved.
+     *
+     * @see ResolvedTheme#isSchema()
+     */
+    public static void writeTheme(@NonNull JsonWriter writer,
+            @NonNull ResolvedTheme theme) throws IOException {
+        if (!theme.isSchema()) {
+            throw new IllegalArgumentException("The schema values are not resolved.");
+        }
 
-            if (value instanceof ElevationTheme) {
-                writer.name(Theme.Key.ELEVATION);
-                writer.value(DynamicThemeUtils.getValueFromElevation(
-                        ((ElevationTheme<?>) value).getElevation(mResolve)));
-            }
+        writer.beginObject();
 
-            if (value instanceof StyleTheme) {
-                writer.name(Theme.Key.STYLE);
-                writer.value(DynamicThemeUtils.getValueFromStyle(
-                        ((StyleTheme<?>) value).getStyle()));
-            }
+        for (int i = 0; i < ThemeSchema.size(); i++) {
+            final ThemeProperty property = ThemeSchema.get(i);
 
-            if (value instanceof WidgetTheme) {
-                writer.name(Theme.Key.HEADER);
-                writer.value(DynamicThemeUtils.getValueFromVisibility(
-                        ((WidgetTheme<?, ?>) value).getHeader()));
+            if (theme.isSupported(property)) {
+                writer.name(property.getKey());
+                writer.value(property.format(theme.get(property)));
             }
-
-            writer.endObject();
-        } catch (Exception e) {
-            e.printStackTrace();
         }
+
+        writer.endObject();
     }
 
     @Override
     public @NonNull T read(JsonReader reader) throws IOException {
+        String name = null;
+
         try {
-            JsonToken token = reader.peek();
-            if (!JsonToken.BEGIN_OBJECT.equals(token)) {
+            if (!JsonToken.BEGIN_OBJECT.equals(reader.peek())) {
+                if (mMode == Mode.STRICT) {
+                    throw getError(null, reader, ThemeParseException.Reason.INVALID_TYPE);
+                }
+
                 return mDynamicTheme;
             }
 
             reader.beginObject();
 
             while (!JsonToken.END_OBJECT.equals(reader.peek())) {
-                if (!JsonToken.NAME.equals(reader.peek())) {
-                    reader.skipValue();
-                    continue;
-                }
+                name = reader.nextName();
+                final JsonToken token = reader.peek();
 
-                switch (reader.nextName()) {
-                    case Theme.Key.BACKGROUND:
-                    case Theme.Key.Short.BACKGROUND:
-                        if (mDynamicTheme instanceof BackgroundTheme) {
-                            ((BackgroundTheme<?>) mDynamicTheme).setBackgroundColor(
-                                    DynamicThemeUtils.getValueFromColor(
-                                            reader.nextString()), false);
-                        }
-                        break;
-                    case Theme.Key.TINT_BACKGROUND:
-                    case Theme.Key.Short.TINT_BACKGROUND:
-                        if (mDynamicTheme instanceof BackgroundTheme) {
-                            ((BackgroundTheme<?>) mDynamicTheme).setTintBackgroundColor(
-                                    DynamicThemeUtils.getValueFromColor(reader.nextString()));
-                        }
-                        break;
-                    case Theme.Key.SURFACE:
-                    case Theme.Key.Short.SURFACE:
-                        if (mDynamicTheme instanceof SurfaceTheme) {
-                            ((SurfaceTheme<?>) mDynamicTheme).setSurfaceColor(DynamicThemeUtils
-                                    .getValueFromColor(reader.nextString()), false);
-                        }
-                        break;
-                    case Theme.Key.TINT_SURFACE:
-                    case Theme.Key.Short.TINT_SURFACE:
-                        if (mDynamicTheme instanceof SurfaceTheme) {
-                            ((SurfaceTheme<?>) mDynamicTheme).setTintSurfaceColor(
-                                    DynamicThemeUtils.getValueFromColor(reader.nextString()));
-                        }
-                        break;
-                    case Theme.Key.PRIMARY:
-                    case Theme.Key.Short.PRIMARY:
-                        if (mDynamicTheme instanceof PrimaryTheme) {
-                            ((PrimaryTheme<?>) mDynamicTheme).setPrimaryColor(DynamicThemeUtils
-                                    .getValueFromColor(reader.nextString()), false);
-                        }
-                        break;
-                    case Theme.Key.TINT_PRIMARY:
-                    case Theme.Key.Short.TINT_PRIMARY:
-                        if (mDynamicTheme instanceof PrimaryTheme) {
-                            ((PrimaryTheme<?>) mDynamicTheme).setTintPrimaryColor(
-                                    DynamicThemeUtils.getValueFromColor(reader.nextString()));
-                        }
-                        break;
-                    case Theme.Key.PRIMARY_DARK:
-                    case Theme.Key.Short.PRIMARY_DARK:
-                        if (mDynamicTheme instanceof PrimaryTheme) {
-                            ((PrimaryTheme<?>) mDynamicTheme).setPrimaryColorDark(DynamicThemeUtils
-                                    .getValueFromColor(reader.nextString()), false);
-                        }
-                        break;
-                    case Theme.Key.TINT_PRIMARY_DARK:
-                    case Theme.Key.Short.TINT_PRIMARY_DARK:
-                        if (mDynamicTheme instanceof PrimaryTheme) {
-                            ((PrimaryTheme<?>) mDynamicTheme).setTintPrimaryColorDark(
-                                    DynamicThemeUtils.getValueFromColor(reader.nextString()));
-                        }
-                        break;
-                    case Theme.Key.ACCENT:
-                    case Theme.Key.Short.ACCENT:
-                        if (mDynamicTheme instanceof AccentTheme) {
-                            ((AccentTheme<?>) mDynamicTheme).setAccentColor(DynamicThemeUtils
-                                    .getValueFromColor(reader.nextString()), false);
-                        }
-                        break;
-                    case Theme.Key.TINT_ACCENT:
-                    case Theme.Key.Short.TINT_ACCENT:
-                        if (mDynamicTheme instanceof AccentTheme) {
-                            ((AccentTheme<?>) mDynamicTheme).setTintAccentColor(
-                                    DynamicThemeUtils.getValueFromColor(reader.nextString()));
-                        }
-                        break;
-                    case Theme.Key.ACCENT_DARK:
-                    case Theme.Key.Short.ACCENT_DARK:
-                        if (mDynamicTheme instanceof AccentTheme) {
-                            ((AccentTheme<?>) mDynamicTheme).setAccentColorDark(DynamicThemeUtils
-                                    .getValueFromColor(reader.nextString()), false);
-                        }
-                        break;
-                    case Theme.Key.TINT_ACCENT_DARK:
-                    case Theme.Key.Short.TINT_ACCENT_DARK:
-                        if (mDynamicTheme instanceof AccentTheme) {
-                            ((AccentTheme<?>) mDynamicTheme).setTintAccentColorDark(
-                                    DynamicThemeUtils.getValueFromColor(reader.nextString()));
-                        }
-                        break;
-                    case Theme.Key.ERROR:
-                    case Theme.Key.Short.ERROR:
-                        if (mDynamicTheme instanceof ErrorTheme) {
-                            ((ErrorTheme<?>) mDynamicTheme).setErrorColor(DynamicThemeUtils
-                                    .getValueFromColor(reader.nextString()), false);
-                        }
-                        break;
-                    case Theme.Key.TINT_ERROR:
-                    case Theme.Key.Short.TINT_ERROR:
-                        if (mDynamicTheme instanceof ErrorTheme) {
-                            ((ErrorTheme<?>) mDynamicTheme).setTintErrorColor(DynamicThemeUtils
-                                    .getValueFromColor(reader.nextString()));
-                        }
-                        break;
-                    case Theme.Key.TEXT_PRIMARY:
-                    case Theme.Key.Short.TEXT_PRIMARY:
-                        if (mDynamicTheme instanceof TextTheme) {
-                            ((TextTheme<?>) mDynamicTheme).setTextPrimaryColor(DynamicThemeUtils
-                                    .getValueFromColor(reader.nextString()), false);
-                        }
-                        break;
-                    case Theme.Key.TEXT_PRIMARY_INVERSE:
-                    case Theme.Key.Short.TEXT_PRIMARY_INVERSE:
-                        if (mDynamicTheme instanceof TextTheme) {
-                            ((TextTheme<?>) mDynamicTheme).setTextPrimaryColorInverse(
-                                    DynamicThemeUtils.getValueFromColor(reader.nextString()));
-                        }
-                        break;
-                    case Theme.Key.TEXT_SECONDARY:
-                    case Theme.Key.Short.TEXT_SECONDARY:
-                        if (mDynamicTheme instanceof TextTheme) {
-                            ((TextTheme<?>) mDynamicTheme).setTextSecondaryColor(DynamicThemeUtils
-                                    .getValueFromColor(reader.nextString()), false);
-                        }
-                        break;
-                    case Theme.Key.TEXT_SECONDARY_INVERSE:
-                    case Theme.Key.Short.TEXT_SECONDARY_INVERSE:
-                        if (mDynamicTheme instanceof TextTheme) {
-                            ((TextTheme<?>) mDynamicTheme).setTextSecondaryColorInverse(
-                                    DynamicThemeUtils.getValueFromColor(reader.nextString()));
-                        }
-                        break;
-                    case Theme.Key.FONT_SCALE:
-                    case Theme.Key.Short.FONT_SCALE:
-                        if (mDynamicTheme instanceof TextTheme) {
-                            ((TextTheme<?>) mDynamicTheme).setFontScale(DynamicThemeUtils
-                                    .getValueFromFontScale(reader.nextString()));
-                        }
-                        break;
-                    case Theme.Key.CORNER_RADIUS:
-                    case Theme.Key.Short.CORNER_RADIUS:
-                        if (mDynamicTheme instanceof CornerTheme) {
-                            ((CornerTheme<?>) mDynamicTheme).setCornerSize(DynamicThemeUtils
-                                    .getValueFromCornerRadius(reader.nextString()));
-                        }
-                        break;
-                    case Theme.Key.BACKGROUND_AWARE:
-                    case Theme.Key.Short.BACKGROUND_AWARE:
-                        if (mDynamicTheme instanceof BackgroundAware) {
-                            ((BackgroundAware<?>) mDynamicTheme).setBackgroundAware(
-                                    DynamicThemeUtils.getValueFromBackgroundAware(
-                                            reader.nextString()));
-                        }
-                        break;
-                    case Theme.Key.CONTRAST:
-                    case Theme.Key.Short.CONTRAST:
-                        if (mDynamicTheme instanceof BackgroundAware) {
-                            ((BackgroundAware<?>) mDynamicTheme).setContrast(DynamicThemeUtils
-                                    .getValueFromContrast(reader.nextString()));
-                        }
-                        break;
-                    case Theme.Key.OPACITY:
-                    case Theme.Key.Short.OPACITY:
-                        if (mDynamicTheme instanceof TranslucentTheme) {
-                            ((TranslucentTheme<?>) mDynamicTheme).setOpacity(DynamicThemeUtils
-                                    .getValueFromOpacity(reader.nextString()));
-                        }
-                        break;
-                    case Theme.Key.ELEVATION:
-                    case Theme.Key.Short.ELEVATION:
-                        if (mDynamicTheme instanceof ElevationTheme) {
-                            ((ElevationTheme<?>) mDynamicTheme).setElevation(DynamicThemeUtils
-                                    .getValueFromElevation(reader.nextString()));
-                        }
-                        break;
-                    case Theme.Key.STYLE:
-                    case Theme.Key.Short.STYLE:
-                        if (mDynamicTheme instanceof StyleTheme) {
-                            ((StyleTheme<?>) mDynamicTheme).setStyle(DynamicThemeUtils
-                                    .getValueFromStyle(reader.nextString()));
-                        }
-                        break;
-                    case Theme.Key.HEADER:
-                    case Theme.Key.Short.HEADER:
-                        if (mDynamicTheme instanceof AppWidgetTheme) {
-                            ((WidgetTheme<?, ?>) mDynamicTheme).setHeader(DynamicThemeUtils
-                                    .getValueFromVisibility(reader.nextString()));
+                if (JsonToken.STRING.equals(token) || JsonToken.NUMBER.equals(token)) {
+                    final String value = reader.nextString();
+
+                    try {
+                        if (!setValue(name, value)) {
+                            mUnknownCount++;
                         }
-                        break;
-                    default:
-                        reader.skipValue();
-                        break;
+                    } catch (Exception e) {
+                        onSkip(name, reader, ThemeParseException.Reason.INVALID_VALUE);
+                    }
+                } else {
+                    reader.skipValue();
+
+                    if (ThemeSchema.get(name) == null) {
+                        mUnknownCount++;
+                    } else {
+                        onSkip(name, reader, ThemeParseException.Reason.INVALID_TYPE);
+                    }
                 }
+
+                name = null;
             }
 
             reader.endObject();
+        } catch (ThemeParseException e) {
+            throw e;
         } catch (Exception e) {
-            e.printStackTrace();
+            onSkip(name, reader, ThemeParseException.Reason.MALFORMED);
         }
 
         return mDynamicTheme;
     }
+
+    /**
+     * This method will be called when a value cannot be read.
+     * <p>It throws the error in the strict mode, otherwise counts the skipped value.
+     *
+     * @param key The theme key for the value.
+     * @param reader The JSON reader to get the path.
+     * @param reason The reason of the error.
+     */
+    private void onSkip(@Nullable String key, @NonNull JsonReader reader,
+            @ThemeParseException.Reason int reason) {
+        if (mMode == Mode.STRICT) {
+            throw getError(key, reader, reason);
+        }
+
+        mSkippedCount++;
+    }
+
+    /**
+     * Returns the error with the supplied details.
+     * <p>It is created only when a value fails in the strict mode.
+     *
+     * @param key The theme key for the error.
+     * @param reader The JSON reader to get the path.
+     * @param reason The reason of the error.
+     *
+     * @return The error with the supplied details.
+     */
+    private @NonNull ThemeParseException getError(@Nullable String key,
+            @NonNull JsonReader reader, @ThemeParseException.Reason int reason) {
+        return new ThemeParseException().set(key, reader.getPath(), reason);
+    }
+
+    /**
+     * Returns the mode used by this adapter.
+     *
+     * @return The mode used by this adapter.
+     */
+    public @Mode int getMode() {
+        return mMode;
+    }
+
+    /**
+     * Returns the number of values skipped while reading.
+     * <p>It includes the values that cannot be converted, the values with an unexpected
+     * JSON type and the malformed JSON.
+     *
+     * @return The number of values skipped while reading.
+     */
+    public int getSkippedCount() {
+        return mSkippedCount;
+    }
+
+    /**
+     * Returns the number of unknown keys found while reading.
+     *
+     * @return The number of unknown keys found while reading.
+     */
+    public int getUnknownCount() {
+        return mUnknownCount;
+    }
+
+    /**
+     * Sets the value for a theme key on the dynamic theme used by this adapter.
+     * <p>It supports both the long and short keys so that it can be used directly by the
+     * decoders without building an intermediate JSON.
+     *
+     * @param key The theme key to be set.
+     * @param value The string value for the key.
+     *
+     * @return {@code true} if the key is a known theme key.
+     *
+     * @see Theme.Key
+     * @see Theme.Key.Short
+     */
+    public boolean setValue(@NonNull String key, @NonNull String value) {
+        final ThemeProperty property = ThemeSchema.get(key);
+        if (property == null) {
+            return false;
+        }
+
+        if (property.isReadable(mCapabilities)) {
+            property.set(mDynamicTheme, property.parse(value));
+        }
+
+        return true;
+    }
 }
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.adapter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.gson.InstanceCreator;
+import com.google.gson.JsonIOException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.pranavpandey.android.dynamic.theme.annotation.GenerateAdapter;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeSchema;
+
+import java.io.IOException;
+
+/**
+ * Base class for the type adapters generated for the {@link GenerateAdapter} theme classes.
+ *
+ * <p>The generated adapter writes and reads only the interfaces implemented by the theme
+ * class by calling its methods directly, so there is no reflection or {@code instanceof}
+ * check at runtime. The output is the same as the {@link DynamicThemeTypeAdapter} and it
+ * reads the values according to the same {@link DynamicThemeTypeAdapter.Mode}.
+ *
+ * @param <T> The type of the dynamic theme.
+ */
+public abstract class GeneratedThemeAdapter<T extends BaseTheme<T>> extends TypeAdapter<T> {
+
+    /**
+     * Suffix for the generated adapter class name.
+     */
+    public static final String SUFFIX = "_ThemeAdapter";
+
+    /**
+     * {@code true} to resolve the values.
+     */
+    protected final boolean mResolve;
+
+    /**
+     * {@code true} to resolve the inverse values.
+     */
+    protected final boolean mInverse;
+
+    /**
+     * Theme class for this adapter.
+     */
+    private Class<?> mType;
+
+    /**
+     * Instance creator to read the dynamic theme.
+     */
+    private InstanceCreator<T> mCreator;
+
+    /**
+     * Mode used by this adapter.
+     */
+    private @DynamicThemeTypeAdapter.Mode int mMode;
+
+    /**
+     * Number of values skipped while reading.
+     */
+    private int mSkippedCount;
+
+    /**
+     * Number of unknown keys found while reading.
+     */
+    private int mUnknownCount;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param resolve {@code true} to resolve the values.
+     * @param inverse {@code true} to resolve the inverse values.
+     */
+    protected GeneratedThemeAdapter(boolean resolve, boolean inverse) {
+        this.mResolve = resolve;
+        this.mInverse = inverse;
+    }
+
+    /**
+     * Returns the generated adapter for the theme class in the lenient mode.
+     *
+     * @param type The theme class to get the adapter.
+     * @param resolve {@code true} to resolve the values.
+     * @param inverse {@code true} to resolve the inverse values.
+     * @param creator The instance creator to read the dynamic theme.
+     * @param <T> The type of the dynamic theme.
+     *
+     * @return The generated adapter for the theme class, otherwise {@code null}.
+     *
+     * @see #get(Class, boolean, boolean, int, InstanceCreator)
+     */
+    public static @Nullable <T extends BaseTheme<T>> GeneratedThemeAdapter<T> get(
+            @NonNull Class<?> type, boolean resolve, boolean inverse,
+            @Nullable InstanceCreator<T> creator) {
+        return get(type, resolve, inverse, DynamicThemeTypeAdapter.Mode.LENIENT, creator);
+    }
+
+    /**
+     * Returns the generated adapter for the theme class.
+     *
+     * @param type The theme class to get the adapter.
+     * @param resolve {@code true} to resolve the values.
+     * @param inverse {@code true} to resolve the inverse values.
+     * @param mode The mode to be used.
+     * @param creator The instance creator to read the dynamic theme.
+     * @param <T> The type of the dynamic theme.
+     *
+     * @return The generated adapter for the theme class, otherwise {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public static @Nullable <T extends BaseTheme<T>> GeneratedThemeAdapter<T> get(
+            @NonNull Class<?> type, boolean resolve, boolean inverse,
+            @DynamicThemeTypeAdapter.Mode int mode, @Nullable InstanceCreator<T> creator) {
+        if (type.getAnnotation(GenerateAdapter.class) == null) {
+            return null;
+        }
+
+        final String name = type.getPackage() != null
+                ? type.getName().substring(type.getPackage().getName().length() + 1)
+                : type.getName();
+        final String prefix = type.getPackage() != null
+                ? type.getPackage().getName() + "." : "";
+
+        try {
+            final GeneratedThemeAdapter<T> adapter = (GeneratedThemeAdapter<T>) Class.forName(
+                    prefix + name.replace('$', '_') + SUFFIX, true, type.getClassLoader())
+                    .getConstructor(boolean.class, boolean.class)
+                    .newInstance(resolve, inverse);
+            adapter.mType = type;
+            adapter.mCreator = creator;
+            adapter.mMode = mode;
+
+            return adapter;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the values of the dynamic theme.
+     *
+     * @param writer The JSON writer to be used.
+     * @param value The dynamic theme to be written.
+     *
+     * @throws IOException If there is an error while writing the values.
+     */
+    protected abstract void writeValues(@NonNull JsonWriter writer, @NonNull T value)
+            throws IOException;
+
+    /**
+     * Returns a new instance of the dynamic theme to read the values.
+     *
+     * @return The new instance of the dynamic theme.
+     *
+     * @throws JsonIOException If the theme class does not have a no-argument constructor.
+     */
+    protected abstract @NonNull T newInstance();
+
+    /**
+     * Sets the value for a theme key on the supplied theme.
+     *
+     * @param theme The theme to set the value.
+     * @param key The theme key to be set.
+     * @param value The string value for the key.
+     *
+     * @return {@code true} if the key is a known theme key.
+     *
+     * @see DynamicThemeTypeAdapter#setValue(String, String)
+     */
+    public abstract boolean setValue(@NonNull T theme,
+            @NonNull String key, @NonNull String value);
+
+    @Override
+    public void write(JsonWriter writer, T value) throws IOException {
+        if (value == null) {
+            writer.nullValue();
+            return;
+        }
+
+        try {
+            writer.beginObject();
+            writeValues(writer, value);
+            writer.endObject();
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            if (mMode == DynamicThemeTypeAdapter.Mode.STRICT) {
+                throw new JsonIOException(e);
+            }
+        }
+    }
+
+    @Override
+    public T read(JsonReader reader) throws IOException {
+        final T theme = mCreator != null ? mCreator.createInstance(mType) : newInstance();
+        String name = null;
+
+        try {
+            if (!JsonToken.BEGIN_OBJECT.equals(reader.peek())) {
+                if (mMode == DynamicThemeTypeAdapter.Mode.STRICT) {
+                    throw getError(null, reader, ThemeParseException.Reason.INVALID_TYPE);
+                }
+
+                return theme;
+            }
+
+            reader.beginObject();
+
+            while (!JsonToken.END_OBJECT.equals(reader.peek())) {
+                name = reader.nextName();
+                final JsonToken token = reader.peek();
+
+                if (JsonToken.STRING.equals(token) || JsonToken.NUMBER.equals(token)) {
+                    final String value = reader.nextString();
+
+                    try {
+                        if (!setValue(theme, name, value)) {
+                            mUnknownCount++;
+                        }
+                    } catch (Exception e) {
+                        onSkip(name, reader, ThemeParseException.Reason.INVALID_VALUE);
+                    }
+                } else {
+                    reader.skipValue();
+
+                    if (ThemeSchema.get(name) == null) {
+                        mUnknownCount++;
+                    } else {
+                        onSkip(name, reader, ThemeParseException.Reason.INVALID_TYPE);
+                    }
+                }
+
+                name = null;
+            }
+
+            reader.endObject();
+        } catch (ThemeParseException e) {
+            throw e;
+        } catch (Exception e) {
+            onSkip(name, reader, ThemeParseException.Reason.MALFORMED);
+        }
+
+        return theme;
+    }
+
+    /**
+     * This method will be called when a value cannot be read.
+     * <p>It throws the error in the strict mode, otherwise counts the skipped value.
+     *
+     * @param key The theme key for the value.
+     * @param reader The JSON reader to get the path.
+     * @param reason The reason of the error.
+     */
+    private void onSkip(@Nullable String key, @NonNull JsonReader reader,
+            @ThemeParseException.Reason int reason) {
+        if (mMode == DynamicThemeTypeAdapter.Mode.STRICT) {
+            throw getError(key, reader, reason);
+        }
+
+        mSkippedCount++;
+    }
+
+    /**
+     * Returns the error with the supplied details.
+     * <p>It is not preallocated as the generated adapter can be shared by the Gson instances.
+     *
+     * @param key The theme key for the error.
+     * @param reader The JSON reader to get the path.
+     * @param reason The reason of the error.
+     *
+     * @return The error with the supplied details.
+     */
+    private @NonNull ThemeParseException getError(@Nullable String key,
+            @NonNull JsonReader reader, @ThemeParseException.Reason int reason) {
+        return new ThemeParseException().set(key, reader.getPath(), reason);
+    }
+
+    /**
+     * Returns the mode used by this adapter.
+     *
+     * @return The mode used by this adapter.
+     */
+    public @DynamicThemeTypeAdapter.Mode int getMode() {
+        return mMode;
+    }
+
+    /**
+     * Returns the number of values skipped while reading.
+     *
+     * @return The number of values skipped while reading.
+     *
+     * @see DynamicThemeTypeAdapter#getSkippedCount()
+     */
+    public int getSkippedCount() {
+        return mSkippedCount;
+    }
+
+    /**
+     * Returns the number of unknown keys found while reading.
+     *
+     * @return The number of unknown keys found while reading.
+     *
+     * @see DynamicThemeTypeAdapter#getUnknownCount()
+     */
+    public int getUnknownCount() {
+        return mUnknownCount;
+    }
+}
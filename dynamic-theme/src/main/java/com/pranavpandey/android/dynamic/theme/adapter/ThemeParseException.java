@@ -0,0 +1,151 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.adapter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.gson.JsonParseException;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * Lightweight exception thrown by the {@link DynamicThemeTypeAdapter} in the
+ * {@link DynamicThemeTypeAdapter.Mode#STRICT strict} mode.
+ *
+ * <p>It does not capture the stack trace and is created only when a value fails, so
+ * failing on a malformed theme is cheap and a valid theme does not allocate it at all.
+ */
+public class ThemeParseException extends JsonParseException {
+
+    /**
+     * Constant values for the reason of the error.
+     */
+    @Retention(RetentionPolicy.SOURCE)
+    public @interface Reason {
+
+        /**
+         * Constant for the malformed JSON.
+         */
+        int MALFORMED = 0;
+
+        /**
+         * Constant for the value that cannot be converted.
+         */
+        int INVALID_VALUE = 1;
+
+        /**
+         * Constant for the value with an unexpected JSON type.
+         */
+        int INVALID_TYPE = 2;
+    }
+
+    /**
+     * Theme key for the error.
+     */
+    private @Nullable String mKey;
+
+    /**
+     * JSON path of the error.
+     */
+    private @Nullable String mPath;
+
+    /**
+     * Reason of the error.
+     */
+    private @Reason int mReason;
+
+    /**
+     * Constructor to initialize an object of this class.
+     */
+    public ThemeParseException() {
+        super("Invalid theme");
+    }
+
+    /**
+     * Sets the details of the error.
+     *
+     * @param key The theme key for the error.
+     * @param path The JSON path of the error.
+     * @param reason The reason of the error.
+     *
+     * @return The {@link ThemeParseException} object to allow for chaining of calls.
+     */
+    @NonNull ThemeParseException set(@Nullable String key,
+            @Nullable String path, @Reason int reason) {
+        this.mKey = key;
+        this.mPath = path;
+        this.mReason = reason;
+
+        return this;
+    }
+
+    /**
+     * Returns the theme key for the error.
+     *
+     * @return The theme key for the error, otherwise {@code null} if it is not known.
+     */
+    public @Nullable String getKey() {
+        return mKey;
+    }
+
+    /**
+     * Returns the JSON path of the error.
+     *
+     * @return The JSON path of the error.
+     *
+     * @see com.google.gson.stream.JsonReader#getPath()
+     */
+    public @Nullable String getPath() {
+        return mPath;
+    }
+
+    /**
+     * Returns the reason of the error.
+     *
+     * @return The reason of the error.
+     */
+    public @Reason int getReason() {
+        return mReason;
+    }
+
+    @Override
+    public @NonNull String getMessage() {
+        final String reason;
+        switch (mReason) {
+            case Reason.INVALID_VALUE:
+                reason = "Invalid value";
+                break;
+            case Reason.INVALID_TYPE:
+                reason = "Invalid type";
+                break;
+            case Reason.MALFORMED:
+            default:
+                reason = "Malformed theme";
+                break;
+        }
+
+        return reason + " for " + mKey + " at " + mPath;
+    }
+
+    @Override
+    public synchronized @NonNull Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.adapter;
+
+import androidx.annotation.NonNull;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.InstanceCreator;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+import com.pranavpandey.android.dynamic.theme.strategy.ExcludeStrategy;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Thread-safe registry of the shared Gson instances to serialize the dynamic themes.
+ *
+ * <p>Gson caches the reflective and type adapters for each class, so reusing the same
+ * instance avoids building them again on every call. The theme classes can register an
+ * {@link InstanceCreator} to be read without a no-argument constructor.
+ */
+public class ThemeSerializer {
+
+    /**
+     * Flag to resolve the values.
+     */
+    private static final int FLAG_RESOLVE = 1;
+
+    /**
+     * Flag to resolve the inverse values.
+     */
+    private static final int FLAG_INVERSE = 1 << 1;
+
+    /**
+     * Flag to print the pretty JSON.
+     */
+    private static final int FLAG_PRETTY = 1 << 2;
+
+    /**
+     * Flag to read the values in the strict mode.
+     */
+    private static final int FLAG_STRICT = 1 << 3;
+
+    /**
+     * Registered instance creators for the theme classes.
+     */
+    private static volatile Map<Type, InstanceCreator<?>> sCreators = Collections.emptyMap();
+
+    /**
+     * Shared Gson instance to serialize the theme fields.
+     */
+    private static volatile Gson sGson;
+
+    /**
+     * Shared Gson instances with the {@link DynamicThemeAdapterFactory} according to the
+     * flags.
+     */
+    private static volatile Gson[] sDynamicGson = new Gson[FLAG_STRICT << 1];
+
+    /**
+     * Registers an instance creator to read a theme class.
+     * <p>The shared Gson instances will be created again to use it.
+     *
+     * @param type The theme class to be registered.
+     * @param creator The instance creator for the theme class.
+     * @param <T> The type of the theme.
+     */
+    public static synchronized <T> void register(
+            @NonNull Class<T> type, @NonNull InstanceCreator<T> creator) {
+        final Map<Type, InstanceCreator<?>> creators = new HashMap<>(sCreators);
+        creators.put(type, creator);
+
+        sCreators = Collections.unmodifiableMap(creators);
+        sGson = null;
+        sDynamicGson = new Gson[FLAG_STRICT << 1];
+    }
+
+    /**
+     * Returns the shared Gson instance to serialize the theme fields.
+     * <p>It is equivalent to {@code new Gson()} along with the registered instance creators.
+     *
+     * @return The shared Gson instance to serialize the theme fields.
+     */
+    public static @NonNull Gson getGson() {
+        Gson gson = sGson;
+
+        if (gson == null) {
+            synchronized (ThemeSerializer.class) {
+                if ((gson = sGson) == null) {
+                    final GsonBuilder builder = new GsonBuilder();
+                    for (Map.Entry<Type, InstanceCreator<?>> entry : sCreators.entrySet()) {
+                        builder.registerTypeAdapter(entry.getKey(), entry.getValue());
+                    }
+
+                    sGson = gson = builder.create();
+                }
+            }
+        }
+
+        return gson;
+    }
+
+    /**
+     * Returns the shared Gson instance to serialize the dynamic themes by using the
+     * {@link DynamicThemeTypeAdapter}.
+     *
+     * @param resolve {@code true} to resolve the values.
+     * @param inverse {@code true} to resolve the inverse values.
+     * @param pretty {@code true} to print the pretty JSON.
+     *
+     * @return The shared Gson instance to serialize the dynamic themes.
+     */
+    public static @NonNull Gson getGson(boolean resolve, boolean inverse, boolean pretty) {
+        return getGson(resolve, inverse, pretty, DynamicThemeTypeAdapter.Mode.LENIENT);
+    }
+
+    /**
+     * Returns the shared Gson instance to serialize the dynamic themes by using the
+     * {@link DynamicThemeTypeAdapter} or the {@link GeneratedThemeAdapter}.
+     *
+     * @param resolve {@code true} to resolve the values.
+     * @param inverse {@code true} to resolve the inverse values.
+     * @param pretty {@code true} to print the pretty JSON.
+     * @param mode The mode used to read the dynamic themes.
+     *
+     * @return The shared Gson instance to serialize the dynamic themes.
+     */
+    public static @NonNull Gson getGson(boolean resolve, boolean inverse, boolean pretty,
+            @DynamicThemeTypeAdapter.Mode int mode) {
+        final int flags = (resolve ? FLAG_RESOLVE : 0) | (inverse ? FLAG_INVERSE : 0)
+                | (pretty ? FLAG_PRETTY : 0)
+                | (mode == DynamicThemeTypeAdapter.Mode.STRICT ? FLAG_STRICT : 0);
+        final Gson[] instances = sDynamicGson;
+        Gson gson = instances[flags];
+
+        if (gson == null) {
+            synchronized (ThemeSerializer.class) {
+                if ((gson = sDynamicGson[flags]) == null) {
+                    final GsonBuilder builder = new GsonBuilder()
+                            .setExclusionStrategies(new ExcludeStrategy())
+                            .registerTypeAdapterFactory(new DynamicThemeAdapterFactory(
+                                    resolve, inverse, mode, sCreators));
+                    if (pretty) {
+                        builder.setPrettyPrinting();
+                    }
+
+                    sDynamicGson[flags] = gson = builder.create();
+                }
+            }
+        }
+
+        return gson;
+    }
+
+    /**
+     * Converts the theme into its JSON equivalent by serializing its fields.
+     *
+     * @param theme The theme to be converted.
+     *
+     * @return The JSON string for the theme.
+     */
+    public static @NonNull String toJsonString(@NonNull Object theme) {
+        return getGson().toJson(theme);
+    }
+
+    /**
+     * Converts the dynamic theme into a pretty JSON string.
+     *
+     * @param theme The theme to be converted.
+     *
+     * @return The pretty JSON string for the theme.
+     */
+    public static @NonNull String toDynamicString(@NonNull BaseTheme<?> theme) {
+        return getGson(false, false, true).toJson(theme);
+    }
+}
@@ -18,6 +18,9 @@ package com.pranavpandey.android.dynamic.theme.base;
 
 import androidx.annotation.NonNull;
 
+import com.pranavpandey.android.dynamic.theme.adapter.ThemeSerializer;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeSchema;
+
 /**
  * A {@link BaseTheme} to implement the string theme.
  *
@@ -44,10 +47,16 @@ public interface StringTheme<T extends StringTheme<T>> extends BaseTheme<T> {
 
     /**
      * Convert this theme into a pretty JSON string.
+     * <p>The theme URL is encoded directly from the schema values if it is not overridden,
+     * otherwise from the returned string.
      *
      * @return The converted JSON string.
+     *
+     * @see ThemeSerializer#toDynamicString(BaseTheme)
      */
-    @NonNull String toDynamicString();
+    default @NonNull String toDynamicString() {
+        return ThemeSerializer.toDynamicString(this);
+    }
 
     /**
      * Returns the sharable data for the theme.
@@ -55,4 +64,15 @@ public interface StringTheme<T extends StringTheme<T>> extends BaseTheme<T> {
      * @return The sharable data for the theme.
      */
     @NonNull String getThemeData();
+
+    /**
+     * Returns the stable 64-bit fingerprint for the raw values of this theme.
+     * <p>Two themes with the same values have the same fingerprint, so it can be used to
+     * compare, dedupe or cache the themes without serializing them.
+     *
+     * @return The fingerprint for this theme.
+     */
+    default long getFingerprint() {
+        return ThemeSchema.getFingerprint(this);
+    }
 }
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.cache;
+
+import android.graphics.Bitmap;
+import android.graphics.drawable.Drawable;
+import android.util.LruCache;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.theme.base.CodeTheme;
+import com.pranavpandey.android.dynamic.theme.schema.ResolvedTheme;
+import com.pranavpandey.android.dynamic.theme.util.DynamicCodeUtils;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+/**
+ * Bounded LRU cache for the rendered QR Code bitmaps.
+ *
+ * <p>The entries are keyed by the data along with the {@link ResolvedTheme#getCodeValues()
+ * code values} and the overlay, and evicted according to their total size in bytes. The
+ * cached bitmaps are shared, so they must not be modified or recycled by the callers.
+ *
+ * <p>The evicted bitmaps are not recycled by default as they may still be displayed, for
+ * example in a list of theme thumbnails. Enable it only for a private instance whose
+ * bitmaps are never displayed after being evicted.
+ *
+ * @see DynamicCodeUtils#generateCode(ResolvedTheme, String, Drawable)
+ */
+public class CodeBitmapCache {
+
+    /**
+     * Default size of the cache in bytes.
+     */
+    public static final int DEFAULT_SIZE = 8 * 1024 * 1024;
+
+    /**
+     * Singleton instance of {@link CodeBitmapCache}.
+     */
+    private static CodeBitmapCache sInstance;
+
+    /**
+     * LRU cache used by this class.
+     */
+    private final LruCache<Key, Bitmap> mCache;
+
+    /**
+     * {@code true} to recycle the bitmaps removed from the cache.
+     */
+    private volatile boolean mRecycle;
+
+    /**
+     * Constructor to initialize an object of this class.
+     * <p>It will not recycle the evicted bitmaps.
+     *
+     * @param size The maximum size of the cached bitmaps in bytes.
+     */
+    public CodeBitmapCache(int size) {
+        this(size, false);
+    }
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param size The maximum size of the cached bitmaps in bytes.
+     * @param recycle {@code true} to recycle the bitmaps removed from the cache.
+     *
+     * @see #setRecycle(boolean)
+     */
+    public CodeBitmapCache(int size, boolean recycle) {
+        this.mRecycle = recycle;
+        this.mCache = new LruCache<Key, Bitmap>(size) {
+            @Override
+            protected int sizeOf(@NonNull Key key, @NonNull Bitmap value) {
+                return value.getAllocationByteCount();
+            }
+
+            @Override
+            protected void entryRemoved(boolean evicted, @NonNull Key key,
+                    @NonNull Bitmap oldValue, @Nullable Bitmap newValue) {
+                if (mRecycle && newValue == null && !oldValue.isRecycled()) {
+                    oldValue.recycle();
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns the singleton instance of {@link CodeBitmapCache}.
+     * <p>It is shared by all the callers, so it never recycles the evicted bitmaps.
+     *
+     * @return The singleton instance of {@link CodeBitmapCache}.
+     */
+    public static synchronized @NonNull CodeBitmapCache getInstance() {
+        if (sInstance == null) {
+            sInstance = new CodeBitmapCache(DEFAULT_SIZE);
+        }
+
+        return sInstance;
+    }
+
+    /**
+     * Returns the QR Code for the supplied theme and data.
+     *
+     * @param theme The theme to generate the QR Code.
+     * @param data The data for the QR Code.
+     * @param overlay The optional QR Code overlay.
+     *
+     * @return The cached or generated QR Code.
+     *
+     * @see #getCode(ResolvedTheme, String, Drawable)
+     */
+    public @Nullable Bitmap getCode(@Nullable CodeTheme<?> theme,
+            @Nullable String data, @Nullable Drawable overlay) {
+        if (theme == null || data == null) {
+            return null;
+        }
+
+        return getCode(ResolvedTheme.forCode(theme), data, overlay);
+    }
+
+    /**
+     * Returns the QR Code for the supplied resolved theme and data.
+     * <p>It is generated and cached only if it is not already in the cache. The overlay is
+     * matched by its constant state, so the drawables loaded from the same resource share
+     * the cached entries. An overlay without the constant state is matched by identity and
+     * only weakly referenced, so the cache does not leak it or its callback.
+     *
+     * @param theme The resolved theme to generate the QR Code.
+     * @param data The data for the QR Code.
+     * @param overlay The optional QR Code overlay.
+     *
+     * @return The cached or generated QR Code.
+     *
+     * @see DynamicCodeUtils#generateCode(ResolvedTheme, String, Drawable)
+     */
+    public @Nullable Bitmap getCode(@Nullable ResolvedTheme theme,
+            @Nullable String data, @Nullable Drawable overlay) {
+        if (theme == null || !theme.isCode() || data == null) {
+            return null;
+        }
+
+        final Key key = new Key(theme, data, overlay);
+        Bitmap bitmap = mCache.get(key);
+        if (bitmap != null && !bitmap.isRecycled()) {
+            return bitmap;
+        }
+
+        bitmap = DynamicCodeUtils.generateCode(theme, data, overlay);
+        if (bitmap != null && bitmap.getAllocationByteCount() <= mCache.maxSize()) {
+            mCache.put(key, bitmap);
+        }
+
+        return bitmap;
+    }
+
+    /**
+     * Sets whether to recycle the bitmaps removed from the cache.
+     * <p>Enable it only if the cached bitmaps are never displayed after they are evicted,
+     * otherwise they will be collected with their last reference.
+     * <p>It should not be enabled for the {@link #getInstance() shared instance}.
+     *
+     * @param recycle {@code true} to recycle the bitmaps removed from the cache.
+     */
+    public void setRecycle(boolean recycle) {
+        this.mRecycle = recycle;
+    }
+
+    /**
+     * Returns whether the bitmaps removed from the cache are recycled.
+     *
+     * @return {@code true} if the bitmaps removed from the cache are recycled.
+     */
+    public boolean isRecycle() {
+        return mRecycle;
+    }
+
+    /**
+     * Returns the total size of the cached bitmaps in bytes.
+     *
+     * @return The total size of the cached bitmaps in bytes.
+     */
+    public int getSize() {
+        return mCache.size();
+    }
+
+    /**
+     * Returns the maximum size of the cached bitmaps in bytes.
+     *
+     * @return The maximum size of the cached bitmaps in bytes.
+     */
+    public int getMaxSize() {
+        return mCache.maxSize();
+    }
+
+    /**
+     * Returns the number of requests served from the cache.
+     *
+     * @return The number of requests served from the cache.
+     */
+    public long getHitCount() {
+        return mCache.hitCount();
+    }
+
+    /**
+     * Returns the number of requests which required rendering.
+     *
+     * @return The number of requests which required rendering.
+     */
+    public long getMissCount() {
+        return mCache.missCount();
+    }
+
+    /**
+     * Returns the number of bitmaps evicted to stay within the maximum size.
+     *
+     * @return The number of bitmaps evicted to stay within the maximum size.
+     */
+    public long getEvictionCount() {
+        return mCache.evictionCount();
+    }
+
+    /**
+     * Removes all the cached bitmaps.
+     * <p>They will be recycled if {@link #isRecycle()} is enabled.
+     */
+    public void clear() {
+        mCache.evictAll();
+    }
+
+    /**
+     * Key for a rendered QR Code.
+     */
+    private static final class Key {
+
+        /**
+         * Data for the QR Code.
+         */
+        final String data;
+
+        /**
+         * Capabilities of the theme.
+         */
+        final int capabilities;
+
+        /**
+         * Code values of the theme.
+         */
+        final int[] values;
+
+        /**
+         * Constant state of the overlay, or a weak reference to the overlay without it.
+         */
+        final Object overlay;
+
+        /**
+         * Hash code for this key.
+         */
+        final int hash;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param theme The resolved theme for the QR Code.
+         * @param data The data for the QR Code.
+         * @param overlay The optional QR Code overlay.
+         */
+        Key(@NonNull ResolvedTheme theme, @NonNull String data, @Nullable Drawable overlay) {
+            this.data = data;
+            this.capabilities = theme.getCapabilities();
+            this.values = theme.getCodeValues();
+            this.overlay = overlay == null ? null : overlay.getConstantState() != null
+                    ? overlay.getConstantState() : new WeakReference<>(overlay);
+
+            int hash = data.hashCode();
+            hash = 31 * hash + capabilities;
+            hash = 31 * hash + Arrays.hashCode(values);
+            hash = 31 * hash + (overlay == null ? 0 : overlay.getConstantState() != null
+                    ? overlay.getConstantState().hashCode() : System.identityHashCode(overlay));
+            this.hash = hash;
+        }
+
+        /**
+         * Checks whether the overlay of this key is same as the other key.
+         * <p>A cleared weak reference never matches, so its entry will be evicted eventually.
+         *
+         * @param key The other key to be checked.
+         *
+         * @return {@code true} if the overlay of this key is same as the other key.
+         */
+        boolean isOverlay(@NonNull Key key) {
+            if (overlay instanceof WeakReference && key.overlay instanceof WeakReference) {
+                final Object drawable = ((WeakReference<?>) overlay).get();
+
+                return drawable != null && drawable == ((WeakReference<?>) key.overlay).get();
+            }
+
+            return overlay == key.overlay;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+
+            final Key key = (Key) obj;
+            return hash == key.hash && capabilities == key.capabilities
+                    && isOverlay(key) && data.equals(key.data)
+                    && Arrays.equals(values, key.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
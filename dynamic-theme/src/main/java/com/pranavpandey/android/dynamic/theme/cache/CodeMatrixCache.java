@@ -0,0 +1,254 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.cache;
+
+import android.graphics.Bitmap;
+import android.graphics.drawable.Drawable;
+import android.util.LruCache;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.google.zxing.qrcode.encoder.ByteMatrix;
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.schema.ResolvedTheme;
+import com.pranavpandey.android.dynamic.theme.util.DynamicCodeUtils;
+
+/**
+ * Bounded LRU cache for the encoded QR Code matrices.
+ *
+ * <p>The entries are keyed by the data, error correction level and character set, and
+ * evicted according to their total size in bytes. It is separate from the rendering, so
+ * restyling or recoloring a QR Code only redraws it. The cached matrices are shared, so
+ * they are not exposed and only used to render the QR Codes.
+ *
+ * @see DynamicCodeUtils#renderCode(ResolvedTheme, ByteMatrix, Drawable)
+ */
+public class CodeMatrixCache {
+
+    /**
+     * Default size of the cache in bytes.
+     */
+    public static final int DEFAULT_SIZE = 512 * 1024;
+
+    /**
+     * Singleton instance of {@link CodeMatrixCache}.
+     */
+    private static CodeMatrixCache sInstance;
+
+    /**
+     * LRU cache used by this class.
+     */
+    private final LruCache<Key, ByteMatrix> mCache;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param size The maximum size of the cached matrices in bytes.
+     */
+    public CodeMatrixCache(int size) {
+        this.mCache = new LruCache<Key, ByteMatrix>(size) {
+            @Override
+            protected int sizeOf(@NonNull Key key, @NonNull ByteMatrix value) {
+                return value.getWidth() * value.getHeight();
+            }
+        };
+    }
+
+    /**
+     * Returns the singleton instance of {@link CodeMatrixCache}.
+     *
+     * @return The singleton instance of {@link CodeMatrixCache}.
+     */
+    public static synchronized @NonNull CodeMatrixCache getInstance() {
+        if (sInstance == null) {
+            sInstance = new CodeMatrixCache(DEFAULT_SIZE);
+        }
+
+        return sInstance;
+    }
+
+    /**
+     * Returns the QR Code matrix for the supplied data.
+     * <p>It uses the error correction level according to the data and the
+     * {@link Theme#CHARACTER_SET}.
+     *
+     * @param data The data for the QR Code.
+     *
+     * @return The cached or encoded QR Code matrix.
+     *
+     * @see #getMatrix(String, ErrorCorrectionLevel, String)
+     */
+    @Nullable ByteMatrix getMatrix(@Nullable String data) {
+        return getMatrix(data, DynamicCodeUtils.getErrorCorrectionLevel(data),
+                Theme.CHARACTER_SET);
+    }
+
+    /**
+     * Returns the QR Code matrix for the supplied data.
+     * <p>It is encoded and cached only if it is not already in the cache.
+     *
+     * @param data The data for the QR Code.
+     * @param level The error correction level to be used.
+     * @param charset The character set to be used.
+     *
+     * @return The cached or encoded QR Code matrix, otherwise {@code null} if the data
+     *         cannot be encoded.
+     *
+     * @see DynamicCodeUtils#encodeCode(String, ErrorCorrectionLevel, String)
+     */
+    @Nullable ByteMatrix getMatrix(@Nullable String data,
+            @NonNull ErrorCorrectionLevel level, @NonNull String charset) {
+        if (data == null) {
+            return null;
+        }
+
+        final Key key = new Key(data, level, charset);
+        ByteMatrix matrix = mCache.get(key);
+        if (matrix == null) {
+            matrix = DynamicCodeUtils.encodeCode(data, level, charset);
+
+            if (matrix != null) {
+                mCache.put(key, matrix);
+            }
+        }
+
+        return matrix;
+    }
+
+    /**
+     * Renders the QR Code for the supplied data with each of the resolved themes.
+     * <p>The data is encoded only once, so it can be used to render the different styles or
+     * color variants like the day and night previews.
+     *
+     * @param data The data for the QR Code.
+     * @param overlay The optional QR Code overlay.
+     * @param themes The resolved code themes to render the QR Code.
+     *
+     * @return The rendered QR Codes in the same order as the themes.
+     *
+     * @see DynamicCodeUtils#renderCode(ResolvedTheme, ByteMatrix, Drawable)
+     */
+    public @NonNull Bitmap[] renderCodes(@Nullable String data,
+            @Nullable Drawable overlay, @NonNull ResolvedTheme... themes) {
+        final Bitmap[] bitmaps = new Bitmap[themes.length];
+        final ByteMatrix matrix = getMatrix(data);
+
+        if (matrix != null) {
+            for (int i = 0; i < themes.length; i++) {
+                bitmaps[i] = DynamicCodeUtils.renderCode(themes[i], matrix, overlay);
+            }
+        }
+
+        return bitmaps;
+    }
+
+    /**
+     * Returns the total size of the cached matrices in bytes.
+     *
+     * @return The total size of the cached matrices in bytes.
+     */
+    public int getSize() {
+        return mCache.size();
+    }
+
+    /**
+     * Returns the number of requests served from the cache.
+     *
+     * @return The number of requests served from the cache.
+     */
+    public long getHitCount() {
+        return mCache.hitCount();
+    }
+
+    /**
+     * Returns the number of requests which required encoding.
+     *
+     * @return The number of requests which required encoding.
+     */
+    public long getMissCount() {
+        return mCache.missCount();
+    }
+
+    /**
+     * Returns the number of matrices evicted to stay within the maximum size.
+     *
+     * @return The number of matrices evicted to stay within the maximum size.
+     */
+    public long getEvictionCount() {
+        return mCache.evictionCount();
+    }
+
+    /**
+     * Removes all the cached matrices.
+     */
+    public void clear() {
+        mCache.evictAll();
+    }
+
+    /**
+     * Key for an encoded QR Code matrix.
+     */
+    private static final class Key {
+
+        /**
+         * Data for the QR Code.
+         */
+        final String data;
+
+        /**
+         * Error correction level for the QR Code.
+         */
+        final ErrorCorrectionLevel level;
+
+        /**
+         * Character set for the QR Code.
+         */
+        final String charset;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param data The data for the QR Code.
+         * @param level The error correction level for the QR Code.
+         * @param charset The character set for the QR Code.
+         */
+        Key(@NonNull String data, @NonNull ErrorCorrectionLevel level,
+                @NonNull String charset) {
+            this.data = data;
+            this.level = level;
+            this.charset = charset;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+
+            final Key key = (Key) obj;
+            return level == key.level && data.equals(key.data) && charset.equals(key.charset);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * data.hashCode() + level.hashCode()) + charset.hashCode();
+        }
+    }
+}
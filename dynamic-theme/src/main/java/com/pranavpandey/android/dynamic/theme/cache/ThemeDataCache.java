@@ -0,0 +1,240 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.theme.cache;
+
+import android.util.LruCache;
+
+import androidx.annotation.NonNull;
+
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+import com.pranavpandey.android.dynamic.theme.base.StringTheme;
+import com.pranavpandey.android.dynamic.theme.codec.ThemeCodecRegistry;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeSchema;
+import com.pranavpandey.android.dynamic.theme.util.DynamicThemeUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache for the encoded theme data.
+ *
+ * <p>The entries are keyed by the {@link ThemeSchema#getFingerprint(int, int[]) fingerprint}
+ * of the raw theme values, so any change in the theme results in a new key and the stale
+ * entry is evicted eventually. The values are verified on each hit to avoid returning the
+ * data for a colliding fingerprint.
+ */
+public class ThemeDataCache {
+
+    /**
+     * Default number of themes to be cached.
+     */
+    public static final int DEFAULT_SIZE = 32;
+
+    /**
+     * Singleton instance of {@link ThemeDataCache}.
+     */
+    private static ThemeDataCache sInstance;
+
+    /**
+     * Buffer for the current thread to read the raw values.
+     */
+    private static final ThreadLocal<int[]> VALUES_BUFFER = new ThreadLocal<int[]>() {
+        @Override
+        protected int[] initialValue() {
+            return new int[ThemeSchema.size()];
+        }
+    };
+
+    /**
+     * LRU cache used by this class.
+     */
+    private final LruCache<Long, Entry> mCache;
+
+    /**
+     * Number of requests served from the cache.
+     */
+    private final AtomicLong mHits;
+
+    /**
+     * Number of requests which required encoding.
+     */
+    private final AtomicLong mMisses;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param size The maximum number of themes to be cached.
+     */
+    public ThemeDataCache(int size) {
+        this.mCache = new LruCache<>(size);
+        this.mHits = new AtomicLong();
+        this.mMisses = new AtomicLong();
+    }
+
+    /**
+     * Returns the singleton instance of {@link ThemeDataCache}.
+     *
+     * @return The singleton instance of {@link ThemeDataCache}.
+     */
+    public static synchronized @NonNull ThemeDataCache getInstance() {
+        if (sInstance == null) {
+            sInstance = new ThemeDataCache(DEFAULT_SIZE);
+        }
+
+        return sInstance;
+    }
+
+    /**
+     * Returns the theme URL for the supplied theme.
+     * <p>The URL is cached only if the theme is encoded, so a failed encoding will be tried
+     * again on the next call.
+     *
+     * @param theme The theme to get the URL.
+     *
+     * @return The theme URL for the supplied theme.
+     *
+     * @see DynamicThemeUtils#getThemeUrl(StringTheme)
+     */
+    public @NonNull String getThemeUrl(@NonNull StringTheme<?> theme) {
+        final Entry entry = getEntry(theme);
+
+        if (entry.url != null) {
+            mHits.incrementAndGet();
+            return entry.url;
+        }
+
+        mMisses.incrementAndGet();
+        final String data = DynamicThemeUtils.encodeTheme(theme);
+        final String url = Theme.URL + data;
+
+        if (data != null) {
+            entry.url = url;
+        }
+
+        return url;
+    }
+
+    /**
+     * Returns the theme JSON for the supplied theme.
+     *
+     * @param theme The theme to get the JSON.
+     *
+     * @return The theme JSON for the supplied theme.
+     *
+     * @see ThemeCodecRegistry#JSON
+     */
+    public @NonNull String getThemeJson(@NonNull BaseTheme<?> theme) {
+        final Entry entry = getEntry(theme);
+
+        if (entry.json != null) {
+            mHits.incrementAndGet();
+        } else {
+            mMisses.incrementAndGet();
+            entry.json = ThemeCodecRegistry.JSON.encode(theme);
+        }
+
+        return entry.json;
+    }
+
+    /**
+     * Returns the number of requests served from the cache.
+     *
+     * @return The number of requests served from the cache.
+     */
+    public long getHitCount() {
+        return mHits.get();
+    }
+
+    /**
+     * Returns the number of requests which required encoding.
+     *
+     * @return The number of requests which required encoding.
+     */
+    public long getMissCount() {
+        return mMisses.get();
+    }
+
+    /**
+     * Removes all the cached entries and resets the counters.
+     */
+    public void clear() {
+        mCache.evictAll();
+        mHits.set(0);
+        mMisses.set(0);
+    }
+
+    /**
+     * Returns the cache entry for the supplied theme.
+     *
+     * @param theme The theme to get the entry.
+     *
+     * @return The cache entry for the supplied theme.
+     */
+    private @NonNull Entry getEntry(@NonNull BaseTheme<?> theme) {
+        final int[] values = VALUES_BUFFER.get();
+        final int capabilities = ThemeSchema.getValues(theme, values);
+        final Long key = ThemeSchema.getFingerprint(capabilities, values)
+                ^ theme.getClass().getName().hashCode();
+        Entry entry = mCache.get(key);
+
+        if (entry == null || entry.type != theme.getClass()
+                || !Arrays.equals(entry.values, values)) {
+            entry = new Entry(theme.getClass(), values.clone());
+            mCache.put(key, entry);
+        }
+
+        return entry;
+    }
+
+    /**
+     * Cached data for a theme.
+     */
+    private static final class Entry {
+
+        /**
+         * Class of the cached theme.
+         */
+        final Class<?> type;
+
+        /**
+         * Raw values of the cached theme.
+         */
+        final int[] values;
+
+        /**
+         * Encoded theme URL.
+         */
+        volatile String url;
+
+        /**
+         * Encoded theme JSON.
+         */
+        volatile String json;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param type The class of the cached theme.
+         * @param values The raw values of the cached theme.
+         */
+        Entry(@NonNull Class<?> type, @NonNull int[] values) {
+            this.type = type;
+            this.values = values;
+        }
+    }
+}
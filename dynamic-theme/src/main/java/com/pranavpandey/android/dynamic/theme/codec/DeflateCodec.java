@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.theme.codec;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+
+/**
+ * Theme codec for the compressed format.
+ *
+ * @see ThemeDeflateCodec
+ */
+public class DeflateCodec implements ThemeCodec {
+
+    @Override
+    public @NonNull String getSignature() {
+        return Theme.Format.PREFIX;
+    }
+
+    @Override
+    public boolean isSupported(@NonNull String data) {
+        return ThemeDeflateCodec.isDeflate(data);
+    }
+
+    @Override
+    public boolean isValid(@NonNull String data) {
+        return toJson(data) != null;
+    }
+
+    @Override
+    public @NonNull String encode(@NonNull BaseTheme<?> theme) {
+        return ThemeDeflateCodec.encodeTheme(theme);
+    }
+
+    @Override
+    public <T extends BaseTheme<T>> @NonNull T decode(@NonNull String data, @NonNull T theme) {
+        try {
+            return ThemeDeflateCodec.decodeTheme(data, theme);
+        } catch (Exception ignored) {
+        }
+
+        return theme;
+    }
+
+    @Override
+    public @Nullable String toJson(@NonNull String data) {
+        try {
+            return ThemeDeflateCodec.toJson(data);
+        } catch (Exception ignored) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.theme.codec;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+
+/**
+ * Theme codec for the delta format.
+ * <p>The {@link Theme.Format#DELTA_BASE} payload cannot be validated or converted without
+ * its base theme, so it is rejected here and must be decoded with
+ * {@link ThemeDeltaCodec#decodeTheme(String, BaseTheme, BaseTheme)}.
+ *
+ * @see ThemeDeltaCodec
+ */
+public class DeltaCodec implements ThemeCodec {
+
+    @Override
+    public @NonNull String getSignature() {
+        return Theme.Format.PREFIX;
+    }
+
+    @Override
+    public boolean isSupported(@NonNull String data) {
+        return ThemeDeltaCodec.isDelta(data);
+    }
+
+    @Override
+    public boolean isValid(@NonNull String data) {
+        return !ThemeDeltaCodec.isRelative(data) && ThemeDeltaCodec.isValid(data);
+    }
+
+    @Override
+    public @NonNull String encode(@NonNull BaseTheme<?> theme) {
+        return ThemeDeltaCodec.encodeTheme(theme);
+    }
+
+    @Override
+    public <T extends BaseTheme<T>> @NonNull T decode(@NonNull String data, @NonNull T theme) {
+        try {
+            return ThemeDeltaCodec.decodeTheme(data, theme);
+        } catch (Exception ignored) {
+        }
+
+        return theme;
+    }
+
+    @Override
+    public @Nullable String toJson(@NonNull String data) {
+        if (ThemeDeltaCodec.isRelative(data)) {
+            return null;
+        }
+
+        try {
+            return ThemeDeltaCodec.toJson(data);
+        } catch (Exception ignored) {
+            return null;
+        }
+    }
+}
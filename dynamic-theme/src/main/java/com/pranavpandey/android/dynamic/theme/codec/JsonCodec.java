@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.theme.codec;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.pranavpandey.android.dynamic.theme.adapter.DynamicThemeTypeAdapter;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+/**
+ * Theme codec for the JSON format.
+ */
+public class JsonCodec implements ThemeCodec {
+
+    /**
+     * Character to start a JSON object.
+     */
+    public static final String SIGNATURE = "{";
+
+    @Override
+    public @NonNull String getSignature() {
+        return SIGNATURE;
+    }
+
+    @Override
+    public boolean isSupported(@NonNull String data) {
+        return data.startsWith(SIGNATURE);
+    }
+
+    @Override
+    public boolean isValid(@NonNull String data) {
+        return ThemeValidator.validateJson(data).isValid();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public @NonNull String encode(@NonNull BaseTheme<?> theme) {
+        final StringWriter writer = new StringWriter();
+
+        try {
+            new DynamicThemeTypeAdapter((BaseTheme) theme).write(new JsonWriter(writer), theme);
+        } catch (Exception ignored) {
+        }
+
+        return writer.toString();
+    }
+
+    @Override
+    public <T extends BaseTheme<T>> @NonNull T decode(@NonNull String data, @NonNull T theme) {
+        try {
+            return new DynamicThemeTypeAdapter<>(theme).read(
+                    new JsonReader(new StringReader(data)));
+        } catch (Exception ignored) {
+        }
+
+        return theme;
+    }
+
+    @Override
+    public @Nullable String toJson(@NonNull String data) {
+        return isValid(data) ? data : null;
+    }
+}
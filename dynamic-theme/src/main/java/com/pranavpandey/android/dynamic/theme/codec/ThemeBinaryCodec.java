@@ -0,0 +1,530 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.theme.codec;
+
+import android.util.Base64;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.gson.stream.JsonWriter;
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeProperty;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeSchema;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+/**
+ * Compact binary representation of a dynamic theme.
+ *
+ * <p>The layout (big-endian) is a version byte, a 2 byte mask of the supported theme
+ * groups, a 3 byte presence bitmap keyed by the {@link Theme.ColorType} for the colors
+ * which are not {@link Theme#AUTO}, the raw ARGB values of those colors and finally the
+ * bit-packed values of the remaining properties. It is wrapped in base64url with the
+ * {@link Theme.Format#BINARY} prefix to be shared as a URL.
+ */
+public class ThemeBinaryCodec {
+
+    /**
+     * Maximum size of the encoded bytes.
+     */
+    private static final int CAPACITY = 128;
+
+    /**
+     * Flags to encode the bytes into a URL safe string.
+     */
+    private static final int FLAGS = Base64.URL_SAFE | Base64.NO_WRAP | Base64.NO_PADDING;
+
+    /**
+     * Number of color types that can be stored.
+     */
+    private static final int COLORS = Theme.ColorType.TINT_ERROR + 1;
+
+    /**
+     * Mask of the theme groups, they are same as the {@link ThemeSchema.Capability} bits.
+     */
+    private static final int GROUPS = (ThemeSchema.Capability.WIDGET << 1) - 1;
+
+    /**
+     * Tag for the auto value.
+     */
+    private static final int TAG_AUTO = 0;
+
+    /**
+     * Tag for the system value.
+     */
+    private static final int TAG_SYSTEM = 1;
+
+    /**
+     * Tag for an unsigned 8-bit value.
+     */
+    private static final int TAG_BYTE = 2;
+
+    /**
+     * Tag for a raw 32-bit value.
+     */
+    private static final int TAG_INT = 3;
+
+    /**
+     * State for the auto value.
+     */
+    private static final int STATE_AUTO = 0;
+
+    /**
+     * State for the disable (or hide) value.
+     */
+    private static final int STATE_DISABLE = 1;
+
+    /**
+     * State for the enable (or show) value.
+     */
+    private static final int STATE_ENABLE = 2;
+
+    /**
+     * Buffer used by this codec.
+     */
+    private final byte[] mBuffer;
+
+    /**
+     * Current bit position in the buffer.
+     */
+    private int mPosition;
+
+    /**
+     * Mask of the theme groups.
+     */
+    private int mGroups;
+
+    /**
+     * Values according to the {@link ThemeSchema} index of their property.
+     */
+    private final int[] mValues;
+
+    /**
+     * Constructor to initialize an object of this class.
+     */
+    private ThemeBinaryCodec() {
+        this.mBuffer = new byte[CAPACITY];
+        this.mValues = new int[ThemeSchema.size()];
+    }
+
+    /**
+     * Checks whether the string is in the binary format.
+     *
+     * @param data The string to be checked.
+     *
+     * @return {@code true} if the string is in the binary format.
+     */
+    public static boolean isBinary(@Nullable String data) {
+        return data != null && data.startsWith(Theme.Format.BINARY);
+    }
+
+    /**
+     * Encodes the theme into a URL safe string with the binary format prefix.
+     *
+     * @param theme The theme to be encoded.
+     *
+     * @return The encoded theme string.
+     */
+    public static @NonNull String encodeTheme(@NonNull BaseTheme<?> theme) {
+        return Theme.Format.BINARY + Base64.encodeToString(encode(theme), FLAGS);
+    }
+
+    /**
+     * Decodes the binary theme string and applies its values on the supplied theme.
+     *
+     * @param data The theme string to be decoded.
+     * @param theme The theme to apply the decoded values.
+     * @param <T> The type of the dynamic theme.
+     *
+     * @return The supplied theme after applying the decoded values.
+     *
+     * @throws IllegalArgumentException If the data is not a valid binary theme.
+     */
+    public static <T extends BaseTheme<T>> @NonNull T decodeTheme(
+            @NonNull String data, @NonNull T theme) {
+        return decode(toBytes(data), theme);
+    }
+
+    /**
+     * Converts the binary theme string into a JSON string with the theme keys.
+     *
+     * @param data The theme string to be converted.
+     *
+     * @return The JSON string for the binary theme.
+     *
+     * @throws IllegalArgumentException If the data is not a valid binary theme.
+     * @throws IOException If there is an error in writing the JSON.
+     */
+    public static @NonNull String toJson(@NonNull String data) throws IOException {
+        final ThemeBinaryCodec codec = new ThemeBinaryCodec();
+        codec.read(toBytes(data));
+
+        final StringWriter writer = new StringWriter();
+        codec.write(new JsonWriter(writer));
+
+        return writer.toString();
+    }
+
+    /**
+     * Encodes the theme into its binary representation.
+     *
+     * @param theme The theme to be encoded.
+     *
+     * @return The encoded bytes.
+     */
+    public static @NonNull byte[] encode(@NonNull BaseTheme<?> theme) {
+        final ThemeBinaryCodec codec = new ThemeBinaryCodec();
+        codec.load(theme);
+
+        return codec.write();
+    }
+
+    /**
+     * Decodes the binary representation and applies its values on the supplied theme.
+     *
+     * @param data The bytes to be decoded.
+     * @param theme The theme to apply the decoded values.
+     * @param <T> The type of the dynamic theme.
+     *
+     * @return The supplied theme after applying the decoded values.
+     *
+     * @throws IllegalArgumentException If the data is not a valid binary theme.
+     */
+    public static <T extends BaseTheme<T>> @NonNull T decode(
+            @NonNull byte[] data, @NonNull T theme) {
+        final ThemeBinaryCodec codec = new ThemeBinaryCodec();
+        codec.read(data);
+        codec.apply(theme);
+
+        return theme;
+    }
+
+    /**
+     * Returns the bytes for the binary theme string.
+     *
+     * @param data The theme string to be converted.
+     *
+     * @return The bytes for the binary theme string.
+     *
+     * @throws IllegalArgumentException If the data is not a valid binary theme.
+     */
+    private static @NonNull byte[] toBytes(@NonNull String data) {
+        if (!isBinary(data)) {
+            throw new IllegalArgumentException("Not a binary theme");
+        }
+
+        return Base64.decode(data.substring(Theme.Format.BINARY.length()), FLAGS);
+    }
+
+    /**
+     * Loads the values from the supplied theme.
+     *
+     * @param theme The theme to be used.
+     */
+    private void load(@NonNull BaseTheme<?> theme) {
+        final int capabilities = ThemeSchema.getCapabilities(theme);
+        mGroups = capabilities & GROUPS;
+        Arrays.fill(mValues, Theme.AUTO);
+
+        for (int i = 0; i < ThemeSchema.size(); i++) {
+            final ThemeProperty property = ThemeSchema.get(i);
+            if (!property.isSupported(capabilities)) {
+                continue;
+            }
+
+            mValues[i] = property.get(theme, false, false);
+        }
+    }
+
+    /**
+     * Applies the decoded values on the supplied theme.
+     *
+     * @param theme The theme to be used.
+     */
+    private void apply(@NonNull BaseTheme<?> theme) {
+        final int capabilities = ThemeSchema.getCapabilities(theme);
+
+        for (int i = 0; i < ThemeSchema.size(); i++) {
+            final ThemeProperty property = ThemeSchema.get(i);
+
+            if (isGroup(property.getCapability()) && property.isSupported(capabilities)) {
+                property.set(theme, mValues[i]);
+            }
+        }
+    }
+
+    /**
+     * Writes the decoded values as a JSON object with the theme keys.
+     *
+     * @param writer The writer to be used.
+     *
+     * @throws IOException If there is an error in writing the JSON.
+     */
+    private void write(@NonNull JsonWriter writer) throws IOException {
+        writer.beginObject();
+
+        for (int i = 0; i < ThemeSchema.size(); i++) {
+            final ThemeProperty property = ThemeSchema.get(i);
+            if (!isGroup(property.getCapability())) {
+                continue;
+            }
+
+            writer.name(property.getKey());
+            writer.value(property.format(mValues[i]));
+        }
+
+        writer.endObject();
+        writer.flush();
+    }
+
+    /**
+     * Writes the loaded values into the binary representation.
+     *
+     * @return The encoded bytes.
+     */
+    private @NonNull byte[] write() {
+        mPosition = 0;
+        writeBits(Theme.Format.BINARY_VERSION, 8);
+        writeBits(mGroups, 16);
+
+        int presence = 0;
+        for (int i = 0; i < COLORS; i++) {
+            if (getColor(i) != Theme.AUTO) {
+                presence |= 1 << i;
+            }
+        }
+
+        writeBits(presence, 24);
+        for (int i = 0; i < COLORS; i++) {
+            final int color = getColor(i);
+            if (color != Theme.AUTO) {
+                writeBits(color, 32);
+            }
+        }
+
+        for (int i = 0; i < ThemeSchema.size(); i++) {
+            final ThemeProperty property = ThemeSchema.get(i);
+
+            if (!property.isColor() && isGroup(property.getCapability())) {
+                switch (property.getKind()) {
+                    case ThemeProperty.Kind.STYLE:
+                        writeBits(mValues[i] == Theme.Style.CUSTOM ? 1 : 0, 1);
+                        break;
+                    case ThemeProperty.Kind.BACKGROUND_AWARE:
+                    case ThemeProperty.Kind.ELEVATION:
+                    case ThemeProperty.Kind.VISIBILITY:
+                        writeState(mValues[i]);
+                        break;
+                    default:
+                        writeValue(mValues[i]);
+                        break;
+                }
+            }
+        }
+
+        return Arrays.copyOf(mBuffer, (mPosition + 7) / 8);
+    }
+
+    /**
+     * Reads the values from the binary representation.
+     *
+     * @param data The bytes to be read.
+     *
+     * @throws IllegalArgumentException If the data is not a valid binary theme.
+     */
+    private void read(@NonNull byte[] data) {
+        if (data.length < 6 || data.length > CAPACITY) {
+            throw new IllegalArgumentException("Invalid binary theme length");
+        }
+
+        System.arraycopy(data, 0, mBuffer, 0, data.length);
+        Arrays.fill(mBuffer, data.length, CAPACITY, (byte) 0);
+        Arrays.fill(mValues, Theme.AUTO);
+        mPosition = 0;
+
+        if (readBits(8) != Theme.Format.BINARY_VERSION) {
+            throw new IllegalArgumentException("Unsupported binary theme version");
+        }
+
+        mGroups = readBits(16);
+        final int presence = readBits(24);
+        for (int i = 0; i < COLORS; i++) {
+            if ((presence & (1 << i)) != 0) {
+                final int color = readBits(32);
+                final ThemeProperty property = ThemeSchema.getColor(i);
+
+                if (property != null) {
+                    mValues[property.getIndex()] = color;
+                }
+            }
+        }
+
+        for (int i = 0; i < ThemeSchema.size(); i++) {
+            final ThemeProperty property = ThemeSchema.get(i);
+
+            if (!property.isColor() && isGroup(property.getCapability())) {
+                switch (property.getKind()) {
+                    case ThemeProperty.Kind.STYLE:
+                        mValues[i] = readBits(1) == 1 ? Theme.Style.CUSTOM : Theme.AUTO;
+                        break;
+                    case ThemeProperty.Kind.BACKGROUND_AWARE:
+                    case ThemeProperty.Kind.ELEVATION:
+                    case ThemeProperty.Kind.VISIBILITY:
+                        mValues[i] = readState();
+                        break;
+                    default:
+                        mValues[i] = readValue();
+                        break;
+                }
+            }
+        }
+
+        if ((mPosition + 7) / 8 > data.length) {
+            throw new IllegalArgumentException("Truncated binary theme");
+        }
+    }
+
+    /**
+     * Returns the value for a color type.
+     *
+     * @param colorType The color type of the value.
+     *
+     * @return The value for the color type, otherwise {@link Theme#AUTO}.
+     */
+    private int getColor(@Theme.ColorType int colorType) {
+        final ThemeProperty property = ThemeSchema.getColor(colorType);
+
+        return property != null ? mValues[property.getIndex()] : Theme.AUTO;
+    }
+
+    /**
+     * Checks whether the theme group is present.
+     *
+     * @param group The group to be checked.
+     *
+     * @return {@code true} if the theme group is present.
+     */
+    private boolean isGroup(int group) {
+        return (mGroups & group) != 0;
+    }
+
+    /**
+     * Writes an integer value with a 2-bit tag.
+     *
+     * @param value The value to be written.
+     */
+    private void writeValue(int value) {
+        if (value == Theme.AUTO) {
+            writeBits(TAG_AUTO, 2);
+        } else if (value == Theme.AUTO_SYSTEM) {
+            writeBits(TAG_SYSTEM, 2);
+        } else if (value >= 0 && value <= 0xFF) {
+            writeBits(TAG_BYTE, 2);
+            writeBits(value, 8);
+        } else {
+            writeBits(TAG_INT, 2);
+            writeBits(value, 32);
+        }
+    }
+
+    /**
+     * Reads an integer value with a 2-bit tag.
+     *
+     * @return The value according to its tag.
+     */
+    private int readValue() {
+        switch (readBits(2)) {
+            case TAG_SYSTEM:
+                return Theme.AUTO_SYSTEM;
+            case TAG_BYTE:
+                return readBits(8);
+            case TAG_INT:
+                return readBits(32);
+            case TAG_AUTO:
+            default:
+                return Theme.AUTO;
+        }
+    }
+
+    /**
+     * Writes a tri-state value in 2 bits.
+     * <p>The background aware, elevation and visibility share the same constant values.
+     *
+     * @param value The value to be written.
+     */
+    private void writeState(int value) {
+        writeBits(value == Theme.BackgroundAware.DISABLE ? STATE_DISABLE
+                : value == Theme.BackgroundAware.ENABLE ? STATE_ENABLE : STATE_AUTO, 2);
+    }
+
+    /**
+     * Reads a tri-state value from 2 bits.
+     *
+     * @return The value according to its state.
+     */
+    private int readState() {
+        switch (readBits(2)) {
+            case STATE_DISABLE:
+                return Theme.BackgroundAware.DISABLE;
+            case STATE_ENABLE:
+                return Theme.BackgroundAware.ENABLE;
+            case STATE_AUTO:
+            default:
+                return Theme.AUTO;
+        }
+    }
+
+    /**
+     * Writes the lowest bits of a value into the buffer.
+     *
+     * @param value The value to be written.
+     * @param count The number of bits to be written.
+     */
+    private void writeBits(int value, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            if (((value >>> i) & 1) != 0) {
+                mBuffer[mPosition >> 3] |= (byte) (0x80 >>> (mPosition & 7));
+            } else {
+                mBuffer[mPosition >> 3] &= (byte) ~(0x80 >>> (mPosition & 7));
+            }
+
+            mPosition++;
+        }
+    }
+
+    /**
+     * Reads a value from the buffer.
+     *
+     * @param count The number of bits to be read.
+     *
+     * @return The value read from the buffer.
+     */
+    private int readBits(int count) {
+        int value = 0;
+
+        for (int i = 0; i < count; i++) {
+            value = (value << 1) | ((mBuffer[mPosition >> 3] >>> (7 - (mPosition & 7))) & 1);
+            mPosition++;
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.theme.codec;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+
+/**
+ * Interface to implement a theme format that can be detected by the
+ * {@link ThemeCodecRegistry}.
+ */
+public interface ThemeCodec {
+
+    /**
+     * Returns the characters that can start a payload in this format.
+     * <p>It is used by the registry to find the codec without trying each parser.
+     *
+     * @return The characters that can start a payload in this format.
+     */
+    @NonNull String getSignature();
+
+    /**
+     * Checks whether the payload is in this format.
+     * <p>It should be a cheap check on the first few characters.
+     *
+     * @param data The payload to be checked.
+     *
+     * @return {@code true} if the payload is in this format.
+     */
+    boolean isSupported(@NonNull String data);
+
+    /**
+     * Checks whether the payload is a valid theme in this format.
+     *
+     * @param data The payload to be checked.
+     *
+     * @return {@code true} if the payload is a valid theme.
+     */
+    boolean isValid(@NonNull String data);
+
+    /**
+     * Encodes the theme into this format.
+     *
+     * @param theme The theme to be encoded.
+     *
+     * @return The encoded theme string.
+     */
+    @NonNull String encode(@NonNull BaseTheme<?> theme);
+
+    /**
+     * Decodes the payload and applies its values on the supplied theme.
+     * <p>It does not throw or log for a malformed payload, use the {@link #isValid(String)}
+     * to check the payload before decoding it.
+     *
+     * @param data The payload to be decoded.
+     * @param theme The theme to apply the decoded values.
+     * @param <T> The type of the dynamic theme.
+     *
+     * @return The supplied theme after applying the decoded values.
+     */
+    <T extends BaseTheme<T>> @NonNull T decode(@NonNull String data, @NonNull T theme);
+
+    /**
+     * Converts the payload into the theme JSON.
+     *
+     * @param data The payload to be converted.
+     *
+     * @return The theme JSON, otherwise {@code null} if the payload is not valid.
+     */
+    @Nullable String toJson(@NonNull String data);
+}
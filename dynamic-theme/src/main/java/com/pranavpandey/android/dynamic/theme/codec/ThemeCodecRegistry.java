@@ -0,0 +1,204 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.theme.codec;
+
+import android.net.Uri;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+
+/**
+ * Registry to find the {@link ThemeCodec} for a payload by peeking at its first character,
+ * so that only one parser is used for each payload.
+ */
+public class ThemeCodecRegistry {
+
+    /**
+     * Codec for the JSON format.
+     */
+    public static final ThemeCodec JSON = new JsonCodec();
+
+    /**
+     * Codec for the short (URL) format.
+     */
+    public static final ThemeCodec URL = new UrlCodec();
+
+    /**
+     * Codec for the binary format.
+     */
+    public static final ThemeCodec BINARY = new BinaryCodec();
+
+    /**
+     * Codec for the delta format.
+     */
+    public static final ThemeCodec DELTA = new DeltaCodec();
+
+    /**
+     * Codec for the compressed format.
+     */
+    public static final ThemeCodec DEFLATE = new DeflateCodec();
+
+    /**
+     * Number of characters that can be used as a signature.
+     */
+    private static final int SIGNATURES = 128;
+
+    /**
+     * Separator for the query parameters.
+     */
+    private static final char QUERY_SPLIT = '&';
+
+    /**
+     * Character to identify the URL encoded strings.
+     */
+    private static final char ESCAPE = '%';
+
+    /**
+     * Registered codecs according to their signature characters.
+     */
+    private static volatile ThemeCodec[][] sCodecs = new ThemeCodec[SIGNATURES][];
+
+    static {
+        register(JSON);
+        register(URL);
+        register(BINARY);
+        register(DELTA);
+        register(DEFLATE);
+    }
+
+    /**
+     * Registers a theme codec for its signature characters.
+     * <p>The codecs registered later will be checked first for the same signature.
+     *
+     * @param codec The codec to be registered.
+     */
+    public static synchronized void register(@NonNull ThemeCodec codec) {
+        final ThemeCodec[][] codecs = sCodecs.clone();
+
+        for (int i = 0; i < codec.getSignature().length(); i++) {
+            final char signature = codec.getSignature().charAt(i);
+            if (signature >= SIGNATURES) {
+                throw new IllegalArgumentException("Unsupported signature: " + signature);
+            }
+
+            final ThemeCodec[] current = codecs[signature];
+            if (current == null) {
+                codecs[signature] = new ThemeCodec[] { codec };
+            } else {
+                final ThemeCodec[] updated = new ThemeCodec[current.length + 1];
+                updated[0] = codec;
+                System.arraycopy(current, 0, updated, 1, current.length);
+                codecs[signature] = updated;
+            }
+        }
+
+        sCodecs = codecs;
+    }
+
+    /**
+     * Returns the theme payload from the supplied data.
+     * <p>It extracts and decodes the theme parameter if the data is a URL, otherwise returns
+     * the trimmed data.
+     *
+     * @param data The data to be used.
+     *
+     * @return The theme payload from the supplied data.
+     */
+    public static @Nullable String getPayload(@Nullable String data) {
+        if (data == null) {
+            return null;
+        }
+
+        int start = data.indexOf(Theme.QUERY);
+        int end = data.length();
+
+        if (start == -1) {
+            return data.trim();
+        }
+
+        start += Theme.QUERY.length();
+        final int next = data.indexOf(QUERY_SPLIT, start);
+        if (next != -1) {
+            end = next;
+        }
+
+        final String payload = data.substring(start, end).trim();
+        return payload.indexOf(ESCAPE) != -1 ? Uri.decode(payload) : payload;
+    }
+
+    /**
+     * Returns the codec for the supplied payload.
+     *
+     * @param data The payload to be used.
+     *
+     * @return The codec for the supplied payload, otherwise {@code null}.
+     *
+     * @see #getPayload(String)
+     */
+    public static @Nullable ThemeCodec getCodec(@Nullable String data) {
+        if (data == null || data.isEmpty() || data.charAt(0) >= SIGNATURES) {
+            return null;
+        }
+
+        final ThemeCodec[] codecs = sCodecs[data.charAt(0)];
+        if (codecs == null) {
+            return null;
+        }
+
+        for (ThemeCodec codec : codecs) {
+            if (codec.isSupported(data)) {
+                return codec;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Converts the supplied data into the theme JSON.
+     *
+     * @param data The data to be converted.
+     *
+     * @return The theme JSON, otherwise {@code null} if the data is not a valid theme.
+     */
+    public static @Nullable String toJson(@Nullable String data) {
+        final String payload = getPayload(data);
+        final ThemeCodec codec = getCodec(payload);
+
+        return codec != null ? codec.toJson(payload) : null;
+    }
+
+    /**
+     * Decodes the supplied data and applies its values on the supplied theme.
+     *
+     * @param data The data to be decoded.
+     * @param theme The theme to apply the decoded values.
+     * @param <T> The type of the dynamic theme.
+     *
+     * @return The supplied theme after applying the decoded values.
+     */
+    public static <T extends BaseTheme<T>> @NonNull T decode(
+            @Nullable String data, @NonNull T theme) {
+        final String payload = getPayload(data);
+        final ThemeCodec codec = getCodec(payload);
+
+        return codec != null ? codec.decode(payload, theme) : theme;
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.codec;
+
+import android.util.Base64;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compressed representation of a theme payload.
+ *
+ * <p>The payload is compressed by using raw DEFLATE with a preset dictionary of the short
+ * tokens, prefixed with a version byte and wrapped in base64url with the
+ * {@link Theme.Format#DEFLATE} prefix. The short (URL) form contains a lot of repeated
+ * keys and auto values, so it is usually shorter for the custom themes.
+ */
+public class ThemeDeflateCodec {
+
+    /**
+     * Flags to encode the bytes into a URL safe string.
+     */
+    private static final int FLAGS = Base64.URL_SAFE | Base64.NO_WRAP | Base64.NO_PADDING;
+
+    /**
+     * Maximum length of the decompressed payload.
+     */
+    private static final int LENGTH_MAX = 4096;
+
+    /**
+     * Size of the buffer to compress or decompress the payload.
+     */
+    private static final int BUFFER = 256;
+
+    /**
+     * Preset dictionary for the {@link Theme.Format#DEFLATE_VERSION}.
+     * <p>It must never be changed without updating the version, as the compressed payloads
+     * cannot be decoded without the same dictionary.
+     */
+    private static final byte[] DICTIONARY;
+
+    static {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(Theme.Value.Short.SPLIT).append(Theme.Value.Short.HASH).append("FF");
+
+        for (String value : new String[] {
+                Theme.Value.Short.SYSTEM, Theme.Value.Short.DISABLE,
+                Theme.Value.Short.ENABLE, Theme.Value.Short.CUSTOM,
+                Theme.Value.Short.HIDE, Theme.Value.Short.SHOW }) {
+            builder.append(Theme.Value.Short.SPLIT).append(value).append(Theme.Key.Short.SPLIT);
+        }
+
+        // The most common tokens are placed at the end to be matched with shorter distances.
+        for (String key : new String[] {
+                Theme.Key.BACKGROUND, Theme.Key.TINT_BACKGROUND,
+                Theme.Key.SURFACE, Theme.Key.TINT_SURFACE,
+                Theme.Key.PRIMARY, Theme.Key.TINT_PRIMARY,
+                Theme.Key.PRIMARY_DARK, Theme.Key.TINT_PRIMARY_DARK,
+                Theme.Key.ACCENT, Theme.Key.TINT_ACCENT,
+                Theme.Key.ACCENT_DARK, Theme.Key.TINT_ACCENT_DARK,
+                Theme.Key.ERROR, Theme.Key.TINT_ERROR,
+                Theme.Key.TEXT_PRIMARY, Theme.Key.TEXT_PRIMARY_INVERSE,
+                Theme.Key.TEXT_SECONDARY, Theme.Key.TEXT_SECONDARY_INVERSE,
+                Theme.Key.FONT_SCALE, Theme.Key.CORNER_RADIUS,
+                Theme.Key.BACKGROUND_AWARE, Theme.Key.CONTRAST,
+                Theme.Key.OPACITY, Theme.Key.ELEVATION,
+                Theme.Key.STYLE, Theme.Key.HEADER }) {
+            builder.append(ThemeUrlEncoder.getToken(key)).append(Theme.Value.Short.SPLIT)
+                    .append(Theme.Value.Short.AUTO).append(Theme.Key.Short.SPLIT);
+        }
+
+        DICTIONARY = builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks whether the payload is in the compressed format.
+     *
+     * @param data The payload to be checked.
+     *
+     * @return {@code true} if the payload is in the compressed format.
+     */
+    public static boolean isDeflate(@Nullable String data) {
+        return data != null && data.startsWith(Theme.Format.DEFLATE);
+    }
+
+    /**
+     * Encodes the theme into the compressed short (URL) format.
+     *
+     * @param theme The theme to be encoded.
+     *
+     * @return The compressed theme string.
+     */
+    public static @NonNull String encodeTheme(@NonNull BaseTheme<?> theme) {
+        return compress(ThemeUrlEncoder.write(theme, new StringBuilder()).toString());
+    }
+
+    /**
+     * Decodes the compressed theme string and applies its values on the supplied theme.
+     *
+     * @param data The compressed theme string to be decoded.
+     * @param theme The theme to apply the decoded values.
+     * @param <T> The type of the dynamic theme.
+     *
+     * @return The supplied theme after applying the decoded values.
+     */
+    public static <T extends BaseTheme<T>> @NonNull T decodeTheme(
+            @NonNull String data, @NonNull T theme) {
+        return ThemeCodecRegistry.decode(decompress(data), theme);
+    }
+
+    /**
+     * Converts the compressed theme string into the theme JSON.
+     *
+     * @param data The compressed theme string to be converted.
+     *
+     * @return The theme JSON, otherwise {@code null} if the payload is not a valid theme.
+     */
+    public static @Nullable String toJson(@NonNull String data) {
+        return ThemeCodecRegistry.toJson(decompress(data));
+    }
+
+    /**
+     * Compresses a theme payload.
+     *
+     * @param payload The payload to be compressed, it must not be URL encoded.
+     *
+     * @return The compressed theme string.
+     */
+    public static @NonNull String compress(@NonNull String payload) {
+        final byte[] input = payload.getBytes(StandardCharsets.UTF_8);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(input.length);
+        final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        final byte[] buffer = new byte[BUFFER];
+
+        try {
+            deflater.setDictionary(DICTIONARY);
+            deflater.setInput(input);
+            deflater.finish();
+
+            output.write(Theme.Format.DEFLATE_VERSION);
+            while (!deflater.finished()) {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+        } finally {
+            deflater.end();
+        }
+
+        return Theme.Format.DEFLATE + Base64.encodeToString(output.toByteArray(), FLAGS);
+    }
+
+    /**
+     * Decompresses a compressed theme string.
+     *
+     * @param data The compressed theme string to be decompressed.
+     *
+     * @return The decompressed theme payload.
+     *
+     * @throws IllegalArgumentException If the data is not a valid compressed theme.
+     */
+    public static @NonNull String decompress(@NonNull String data) {
+        if (!isDeflate(data)) {
+            throw new IllegalArgumentException("Not a compressed theme");
+        }
+
+        final byte[] bytes = Base64.decode(data.substring(Theme.Format.DEFLATE.length()), FLAGS);
+        if (bytes.length < 2) {
+            throw new IllegalArgumentException("Invalid compressed theme length");
+        }
+
+        if (bytes[0] != Theme.Format.DEFLATE_VERSION) {
+            throw new IllegalArgumentException("Unsupported compressed theme version");
+        }
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(BUFFER);
+        final Inflater inflater = new Inflater(true);
+        final byte[] buffer = new byte[BUFFER];
+
+        try {
+            inflater.setDictionary(DICTIONARY);
+            // Raw inflater requires an extra dummy byte at the end of the input.
+            inflater.setInput(Arrays.copyOfRange(bytes, 1, bytes.length + 1));
+
+            while (!inflater.finished()) {
+                final int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Truncated compressed theme");
+                }
+
+                if (output.size() + count > LENGTH_MAX) {
+                    throw new IllegalArgumentException("Compressed theme is too large");
+                }
+
+                output.write(buffer, 0, count);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Invalid compressed theme", e);
+        } finally {
+            inflater.end();
+        }
+
+        final String payload = new String(output.toByteArray(), StandardCharsets.UTF_8);
+        if (isDeflate(payload)) {
+            throw new IllegalArgumentException("Nested compressed theme");
+        }
+
+        return payload;
+    }
+}
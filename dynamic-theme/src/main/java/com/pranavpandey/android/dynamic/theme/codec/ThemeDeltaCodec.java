@@ -0,0 +1,384 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.codec;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.adapter.DynamicThemeTypeAdapter;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+import com.pranavpandey.android.dynamic.theme.base.FallbackTheme;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeSchema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delta codec to encode only the theme values that differ from a base theme.
+ *
+ * <p>It uses the short (URL) pairs after the {@link Theme.Format#DELTA} prefix and omits
+ * every value that is equal to the base, so most of the shared themes are reduced to a few
+ * keys. The {@link Theme.Format#DELTA} payload uses the auto values as base and can be
+ * decoded anywhere, while the {@link Theme.Format#DELTA_BASE} payload must be decoded
+ * against the same base, the {@link FallbackTheme#getThemeFallback(boolean) default theme}
+ * by default.
+ *
+ * <p>The {@link Theme.Format#DELTA_BASE} prefix is followed by a fixed length identifier of
+ * the base theme, derived from its {@link ThemeSchema#getFingerprint(Object) fingerprint},
+ * so a payload is never applied on a different base.
+ */
+public class ThemeDeltaCodec {
+
+    /**
+     * Short keys written by the {@link ThemeUrlEncoder} that can be decoded back.
+     */
+    private static final String[] KEYS;
+
+    /**
+     * Separator between the key-value pairs.
+     */
+    private static final char SPLIT_KEY = Theme.Key.Short.SPLIT.charAt(0);
+
+    /**
+     * Separator between a key and its value.
+     */
+    private static final char SPLIT_VALUE = Theme.Value.Short.SPLIT.charAt(0);
+
+    /**
+     * Length of the base theme identifier after the {@link Theme.Format#DELTA_BASE} prefix.
+     */
+    private static final int BASE_LENGTH = 8;
+
+    static {
+        final List<String> keys = new ArrayList<>();
+
+        for (int i = 0; i < ThemeSchema.size(); i++) {
+            final String token = ThemeUrlEncoder.getToken(ThemeSchema.get(i).getKey());
+
+            if (token != null && ThemeUrlDecoder.getKey(token, 0, token.length()) != null) {
+                keys.add(token);
+            }
+        }
+
+        KEYS = keys.toArray(new String[0]);
+    }
+
+    /**
+     * Checks whether the payload is in the delta format.
+     *
+     * @param data The payload to be checked.
+     *
+     * @return {@code true} if the payload is in the delta format.
+     */
+    public static boolean isDelta(@Nullable String data) {
+        return data != null && (data.startsWith(Theme.Format.DELTA)
+                || data.startsWith(Theme.Format.DELTA_BASE));
+    }
+
+    /**
+     * Checks whether the payload has been encoded against a shared base theme.
+     *
+     * @param data The payload to be checked.
+     *
+     * @return {@code true} if the payload requires the base theme to be decoded.
+     */
+    public static boolean isRelative(@Nullable String data) {
+        return data != null && data.startsWith(Theme.Format.DELTA_BASE);
+    }
+
+    /**
+     * Encodes the theme against the auto values.
+     *
+     * @param theme The theme to be encoded.
+     *
+     * @return The delta theme string.
+     *
+     * @see #encodeTheme(BaseTheme, BaseTheme)
+     */
+    public static @NonNull String encodeTheme(@NonNull BaseTheme<?> theme) {
+        return encodeTheme(theme, null);
+    }
+
+    /**
+     * Encodes only the theme values that differ from the base theme.
+     * <p>A value is also omitted if it is auto and the base does not have that key.
+     *
+     * @param theme The theme to be encoded.
+     * @param base The base theme known to the decoder.
+     *             <p>Pass {@code null} to use the auto values as base.
+     *
+     * @return The delta theme string.
+     */
+    public static @NonNull String encodeTheme(@NonNull BaseTheme<?> theme,
+            @Nullable BaseTheme<?> base) {
+        final String data = ThemeUrlEncoder.write(theme, new StringBuilder()).toString();
+        final String reference = base != null
+                ? ThemeUrlEncoder.write(base, new StringBuilder()).toString() : null;
+        final StringBuilder builder = new StringBuilder(data.length());
+        if (base != null) {
+            builder.append(Theme.Format.DELTA_BASE).append(getBase(base));
+        } else {
+            builder.append(Theme.Format.DELTA);
+        }
+
+        final int start = builder.length();
+        final int end = data.length();
+        int index = 0;
+
+        while (index < end) {
+            int next = data.indexOf(SPLIT_KEY, index);
+            if (next == -1) {
+                next = end;
+            }
+
+            final int split = data.indexOf(SPLIT_VALUE, index);
+            if (split != -1 && split < next
+                    && ThemeUrlDecoder.getKey(data, index, split) != null) {
+                String expected = reference != null
+                        ? getValue(reference, data, index, split) : null;
+                if (expected == null) {
+                    expected = Theme.Value.Short.AUTO;
+                }
+
+                if (next - split - 1 != expected.length() || !data.regionMatches(
+                        split + 1, expected, 0, expected.length())) {
+                    if (builder.length() > start) {
+                        builder.append(SPLIT_KEY);
+                    }
+
+                    builder.append(data, index, next);
+                }
+            }
+
+            index = next + 1;
+        }
+
+        return ThemeUrlEncoder.toString(builder);
+    }
+
+    /**
+     * Decodes the delta theme string and applies its values on the supplied theme.
+     * <p>The {@link Theme.Format#DELTA_BASE} payload will be decoded against the default
+     * theme if the supplied theme is a {@link FallbackTheme}.
+     *
+     * @throws IllegalArgumentException If the payload has been encoded against a different
+     *                                  base theme.
+     *
+     * @param data The delta theme string to be decoded.
+     * @param theme The theme to apply the decoded values.
+     * @param <T> The type of the dynamic theme.
+     *
+     * @return The supplied theme after applying the decoded values.
+     *
+     * @see #decodeTheme(String, BaseTheme, BaseTheme)
+     */
+    public static <T extends BaseTheme<T>> @NonNull T decodeTheme(
+            @NonNull String data, @NonNull T theme) {
+        return decodeTheme(data, theme, null);
+    }
+
+    /**
+     * Decodes the delta theme string and applies its values on the supplied theme.
+     * <p>The omitted values are restored from the base theme, or set to auto if the base
+     * does not have that key.
+     *
+     * @param data The delta theme string to be decoded.
+     * @param theme The theme to apply the decoded values.
+     * @param base The base theme used by the encoder.
+     *             <p>Pass {@code null} to use the default theme for the
+     *             {@link Theme.Format#DELTA_BASE} payload.
+     * @param <T> The type of the dynamic theme.
+     *
+     * @return The supplied theme after applying the decoded values.
+     *
+     * @throws IllegalArgumentException If the payload has been encoded against a different
+     *                                  base theme, the supplied theme is not modified.
+     */
+    public static <T extends BaseTheme<T>> @NonNull T decodeTheme(@Nullable String data,
+            @NonNull T theme, @Nullable BaseTheme<?> base) {
+        data = ThemeCodecRegistry.getPayload(data);
+        if (!isDelta(data)) {
+            throw new IllegalArgumentException("Not a delta theme string.");
+        }
+
+        if (!isRelative(data)) {
+            base = null;
+        } else if (base == null && theme instanceof FallbackTheme) {
+            final Object fallback = ((FallbackTheme<?>) theme).getThemeFallback(false);
+
+            if (fallback instanceof BaseTheme) {
+                base = (BaseTheme<?>) fallback;
+            }
+        }
+
+        if (base != null && !data.regionMatches(Theme.Format.DELTA_BASE.length(),
+                getBase(base), 0, BASE_LENGTH)) {
+            throw new IllegalArgumentException("The base theme does not match.");
+        } else if (base == null && isRelative(data)) {
+            throw new IllegalArgumentException("The base theme is not available.");
+        }
+
+        // Encode the base before modifying the theme as it may be the same object.
+        final String reference = base != null
+                ? ThemeUrlEncoder.write(base, new StringBuilder()).toString() : null;
+        final DynamicThemeTypeAdapter<T> adapter = new DynamicThemeTypeAdapter<>(theme);
+
+        for (String key : KEYS) {
+            adapter.setValue(key, Theme.Value.Short.AUTO);
+        }
+
+        if (reference != null) {
+            ThemeUrlDecoder.decode(reference, 0, reference.length(), adapter);
+        }
+
+        ThemeUrlDecoder.decode(data, getStart(data), data.length(), adapter);
+
+        return theme;
+    }
+
+    /**
+     * Converts the delta theme string into a JSON string with the short keys.
+     * <p>The auto values omitted from the {@link Theme.Format#DELTA} payload are restored.
+     * The {@link Theme.Format#DELTA_BASE} payload only contains the changed values, so it
+     * must be decoded with {@link #decodeTheme(String, BaseTheme, BaseTheme)}.
+     *
+     * @param data The delta theme string to be converted.
+     *
+     * @return The JSON string for the delta theme string.
+     *
+     * @throws IllegalArgumentException If the payload requires the base theme.
+     */
+    public static @NonNull String toJson(@NonNull String data) {
+        if (!isDelta(data)) {
+            throw new IllegalArgumentException("Not a delta theme string.");
+        } else if (isRelative(data)) {
+            throw new IllegalArgumentException("The base theme is not available.");
+        }
+
+        final StringBuilder builder = new StringBuilder();
+        for (String key : KEYS) {
+            if (builder.length() > 0) {
+                builder.append(SPLIT_KEY);
+            }
+
+            final String value = getValue(data, key, 0, key.length());
+            builder.append(key).append(SPLIT_VALUE)
+                    .append(value != null ? value : Theme.Value.Short.AUTO);
+        }
+
+        return ThemeUrlDecoder.toJson(builder.toString());
+    }
+
+    /**
+     * Checks whether the delta theme string is valid.
+     * <p>An empty delta is valid as it represents the base theme. It only checks the
+     * structure, the {@link Theme.Format#DELTA_BASE} payload still requires its base theme
+     * to be decoded.
+     *
+     * @param data The delta theme string to be checked.
+     *
+     * @return {@code true} if the delta theme string is valid.
+     */
+    public static boolean isValid(@NonNull String data) {
+        if (!isDelta(data)) {
+            return false;
+        }
+
+        final int start = getStart(data);
+        if (data.length() < start) {
+            return false;
+        }
+
+        for (int i = Theme.Format.DELTA.length(); i < start; i++) {
+            if (Character.digit(data.charAt(i), 16) == -1) {
+                return false;
+            }
+        }
+
+        return data.length() == start || ThemeUrlDecoder.isValid(data, start, data.length());
+    }
+
+    /**
+     * Returns the identifier of the base theme written after the
+     * {@link Theme.Format#DELTA_BASE} prefix.
+     *
+     * @param base The base theme to be used.
+     *
+     * @return The identifier of the base theme.
+     */
+    public static @NonNull String getBase(@NonNull BaseTheme<?> base) {
+        final String id = Integer.toHexString((int) ThemeSchema.getFingerprint(base));
+        final StringBuilder builder = new StringBuilder(BASE_LENGTH);
+
+        for (int i = id.length(); i < BASE_LENGTH; i++) {
+            builder.append('0');
+        }
+
+        return builder.append(id).toString();
+    }
+
+    /**
+     * Returns the start index of the key-value pairs in the delta theme string.
+     *
+     * @param data The delta theme string to be used.
+     *
+     * @return The start index of the key-value pairs.
+     */
+    private static int getStart(@NonNull String data) {
+        return isRelative(data) ? Theme.Format.DELTA_BASE.length() + BASE_LENGTH
+                : Theme.Format.DELTA.length();
+    }
+
+    /**
+     * Returns the value for a key from the short theme string.
+     *
+     * @param data The short theme string to be searched.
+     * @param key The string containing the key.
+     * @param start The start index of the key (inclusive).
+     * @param end The end index of the key (exclusive).
+     *
+     * @return The value for the key, otherwise {@code null}.
+     */
+    private static @Nullable String getValue(@NonNull String data,
+            @NonNull String key, int start, int end) {
+        final int length = end - start;
+        int index = data.startsWith(Theme.Format.PREFIX) ? getStart(data) : 0;
+
+        while (index < data.length()) {
+            int next = data.indexOf(SPLIT_KEY, index);
+            if (next == -1) {
+                next = data.length();
+            }
+
+            if (index + length < next && data.charAt(index + length) == SPLIT_VALUE
+                    && data.regionMatches(index, key, start, length)) {
+                int limit = data.indexOf(SPLIT_VALUE, index + length + 1);
+                if (limit == -1 || limit > next) {
+                    limit = next;
+                }
+
+                return data.substring(index + length + 1, limit);
+            }
+
+            index = next + 1;
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.codec;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.adapter.DynamicThemeTypeAdapter;
+import com.pranavpandey.android.dynamic.theme.adapter.ThemeSerializer;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeSchema;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streaming codec to read and write a JSON array of dynamic themes.
+ *
+ * <p>It processes one theme at a time by using the Gson {@link JsonReader} and
+ * {@link JsonWriter}, so a large backup can be imported or exported without holding the
+ * whole document in memory. The supplied streams are not closed by this codec.
+ */
+public class ThemeListCodec {
+
+    /**
+     * Indent for the pretty JSON, same as the Gson pretty printing.
+     */
+    private static final String INDENT = "  ";
+
+    /**
+     * {@code true} to resolve the values.
+     */
+    private final boolean mResolve;
+
+    /**
+     * {@code true} to resolve the inverse values.
+     */
+    private final boolean mInverse;
+
+    /**
+     * {@code true} to write the pretty JSON.
+     */
+    private final boolean mPretty;
+
+    /**
+     * Constructor to initialize an object of this class.
+     */
+    public ThemeListCodec() {
+        this(false, false, false);
+    }
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param resolve {@code true} to resolve the values.
+     * @param inverse {@code true} to resolve the inverse values.
+     * @param pretty {@code true} to write the pretty JSON.
+     */
+    public ThemeListCodec(boolean resolve, boolean inverse, boolean pretty) {
+        this.mResolve = resolve;
+        this.mInverse = inverse;
+        this.mPretty = pretty;
+    }
+
+    /**
+     * Reads the themes from a JSON array and applies them one by one on the supplied theme.
+     * <p>The theme is reused for each element, so the values missing from an element are
+     * reset to auto and any value that cannot be converted will be ignored. A single theme
+     * object is also accepted as a list with one theme.
+     *
+     * @param in The reader to read the JSON.
+     * @param theme The theme to apply the values of each element.
+     * @param callback The callback to receive each theme.
+     *                 <p>Pass {@code null} to just apply the elements in order.
+     * @param <T> The type of the dynamic theme.
+     *
+     * @return The number of themes read.
+     *
+     * @throws IOException If there is an error in reading the JSON.
+     */
+    public <T extends BaseTheme<T>> int read(@NonNull Reader in, @NonNull T theme,
+            @Nullable Callback<T> callback) throws IOException {
+        final JsonReader reader = new JsonReader(in);
+        final DynamicThemeTypeAdapter<T> adapter = new DynamicThemeTypeAdapter<>(theme);
+
+        if (JsonToken.BEGIN_OBJECT.equals(reader.peek())) {
+            readTheme(reader, adapter);
+
+            if (callback != null) {
+                callback.onThemeRead(0, theme);
+            }
+
+            return 1;
+        }
+
+        int count = 0;
+        int index = 0;
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (!JsonToken.BEGIN_OBJECT.equals(reader.peek())) {
+                reader.skipValue();
+                index++;
+                continue;
+            }
+
+            readTheme(reader, adapter);
+            count++;
+
+            if (callback != null && !callback.onThemeRead(index++, theme)) {
+                return count;
+            }
+        }
+        reader.endArray();
+
+        return count;
+    }
+
+    /**
+     * Reads the themes from a UTF-8 JSON array and applies them one by one on the
+     * supplied theme.
+     *
+     * @param in The input stream to read the JSON.
+     * @param theme The theme to apply the values of each element.
+     * @param callback The callback to receive each theme.
+     *                 <p>Pass {@code null} to just apply the elements in order.
+     * @param <T> The type of the dynamic theme.
+     *
+     * @return The number of themes read.
+     *
+     * @throws IOException If there is an error in reading the JSON.
+     *
+     * @see #read(Reader, BaseTheme, Callback)
+     */
+    public <T extends BaseTheme<T>> int read(@NonNull InputStream in, @NonNull T theme,
+            @Nullable Callback<T> callback) throws IOException {
+        return read(new InputStreamReader(in, StandardCharsets.UTF_8), theme, callback);
+    }
+
+    /**
+     * Writes the themes as a JSON array.
+     *
+     * @param out The writer to write the JSON.
+     * @param themes The themes to be written, {@code null} elements are written as it is.
+     *
+     * @return The number of themes written.
+     *
+     * @throws IOException If there is an error in writing the JSON.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public int write(@NonNull Writer out,
+            @NonNull Iterable<? extends BaseTheme<?>> themes) throws IOException {
+        final Gson gson = ThemeSerializer.getGson(mResolve, mInverse, false);
+        final JsonWriter writer = new JsonWriter(out);
+        if (mPretty) {
+            writer.setIndent(INDENT);
+        }
+
+        int count = 0;
+        Class<?> type = null;
+        TypeAdapter adapter = null;
+
+        writer.beginArray();
+        for (BaseTheme<?> theme : themes) {
+            if (theme == null) {
+                writer.nullValue();
+                continue;
+            }
+
+            if (theme.getClass() != type) {
+                type = theme.getClass();
+                adapter = gson.getAdapter(type);
+            }
+
+            adapter.write(writer, theme);
+            count++;
+        }
+        writer.endArray();
+        writer.flush();
+
+        return count;
+    }
+
+    /**
+     * Writes the themes as a UTF-8 JSON array.
+     *
+     * @param out The output stream to write the JSON.
+     * @param themes The themes to be written, {@code null} elements are written as it is.
+     *
+     * @return The number of themes written.
+     *
+     * @throws IOException If there is an error in writing the JSON.
+     *
+     * @see #write(Writer, Iterable)
+     */
+    public int write(@NonNull OutputStream out,
+            @NonNull Iterable<? extends BaseTheme<?>> themes) throws IOException {
+        return write(new BufferedWriter(new OutputStreamWriter(
+                out, StandardCharsets.UTF_8)), themes);
+    }
+
+    /**
+     * Reads a theme object and applies its values by using the supplied adapter.
+     *
+     * @param reader The reader to read the theme object.
+     * @param adapter The adapter to set the values.
+     *
+     * @throws IOException If there is an error in reading the JSON.
+     */
+    private static void readTheme(@NonNull JsonReader reader,
+            @NonNull DynamicThemeTypeAdapter<?> adapter) throws IOException {
+        for (int i = 0; i < ThemeSchema.size(); i++) {
+            adapter.setValue(ThemeSchema.get(i).getShortKey(), Theme.Value.Short.AUTO);
+        }
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            final JsonToken token = reader.peek();
+
+            if (JsonToken.STRING.equals(token) || JsonToken.NUMBER.equals(token)) {
+                final String value = reader.nextString();
+
+                try {
+                    adapter.setValue(name, value);
+                } catch (Exception ignored) {
+                }
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
+    /**
+     * Callback to receive the themes while reading a JSON array.
+     *
+     * @param <T> The type of the dynamic theme.
+     */
+    public interface Callback<T extends BaseTheme<T>> {
+
+        /**
+         * This method will be called when a theme has been read from the JSON array.
+         * <p>The same theme object is used for all the elements, so it must be copied or
+         * saved before returning.
+         *
+         * @param index The index of the element in the JSON array.
+         * @param theme The theme with the values of the element.
+         *
+         * @return {@code true} to continue reading the next element.
+         */
+        boolean onThemeRead(int index, @NonNull T theme);
+    }
+}
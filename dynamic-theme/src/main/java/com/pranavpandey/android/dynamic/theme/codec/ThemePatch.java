@@ -0,0 +1,354 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.codec;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeProperty;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeSchema;
+
+import java.util.Arrays;
+
+/**
+ * Immutable patch with the raw theme values that are changed between two themes.
+ *
+ * <p>It lists the changed properties in the {@link ThemeSchema} order and is serialized as
+ * the short (URL) pairs with the {@link Theme.Key.Short short keys}, so it is also a valid
+ * theme string that updates only the changed values when decoded on any theme. The patch
+ * from the new theme to the old one can be used to undo a change.
+ * <p>The values use the {@link ThemeProperty} units, so a patch does not depend on the
+ * screen density of the device that created it.
+ *
+ * @see #diff(BaseTheme, BaseTheme)
+ */
+public final class ThemePatch {
+
+    /**
+     * Patch without any changes.
+     */
+    public static final ThemePatch EMPTY = new ThemePatch(new int[0], new int[0]);
+
+    /**
+     * Separator between the key-value pairs.
+     */
+    private static final char SPLIT_KEY = Theme.Key.Short.SPLIT.charAt(0);
+
+    /**
+     * Separator between a key and its value.
+     */
+    private static final char SPLIT_VALUE = Theme.Value.Short.SPLIT.charAt(0);
+
+    /**
+     * Schema indices of the changed properties in ascending order.
+     */
+    private final int[] mIndices;
+
+    /**
+     * Raw values of the changed properties in the schema units, the corner size is in dips.
+     */
+    private final int[] mValues;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param indices The schema indices of the changed properties in ascending order.
+     * @param values The raw values of the changed properties.
+     */
+    private ThemePatch(@NonNull int[] indices, @NonNull int[] values) {
+        this.mIndices = indices;
+        this.mValues = values;
+    }
+
+    /**
+     * Builds a patch from the changed values indexed by the schema.
+     *
+     * @param changed The changed state for each schema index.
+     * @param values The values for each schema index.
+     *
+     * @return The patch with the changed values.
+     */
+    private static @NonNull ThemePatch of(@NonNull boolean[] changed, @NonNull int[] values) {
+        int count = 0;
+        for (boolean change : changed) {
+            if (change) {
+                count++;
+            }
+        }
+
+        if (count == 0) {
+            return EMPTY;
+        }
+
+        final int[] indices = new int[count];
+        final int[] patch = new int[count];
+        for (int i = 0, j = 0; i < changed.length; i++) {
+            if (changed[i]) {
+                indices[j] = i;
+                patch[j++] = values[i];
+            }
+        }
+
+        return new ThemePatch(indices, patch);
+    }
+
+    /**
+     * Computes the patch to update a theme into the target theme.
+     * <p>It compares the raw values, so only the properties supported by the target and
+     * changed from the source are included.
+     *
+     * @param from The source theme.
+     * @param to The target theme.
+     *
+     * @return The patch to update the source theme into the target theme.
+     *
+     * @see ThemeSchema#getValues(Object, int[])
+     */
+    public static @NonNull ThemePatch diff(@NonNull BaseTheme<?> from,
+            @NonNull BaseTheme<?> to) {
+        final int[] source = new int[ThemeSchema.size()];
+        final int[] target = new int[ThemeSchema.size()];
+        final boolean[] changed = new boolean[ThemeSchema.size()];
+
+        ThemeSchema.getValues(from, source);
+        final int capabilities = ThemeSchema.getValues(to, target);
+
+        for (int i = 0; i < changed.length; i++) {
+            changed[i] = ThemeSchema.get(i).isSupported(capabilities) && source[i] != target[i];
+        }
+
+        return of(changed, target);
+    }
+
+    /**
+     * Parses the patch from its string equivalent.
+     * <p>Any unknown key or value that cannot be converted will be ignored.
+     *
+     * @param data The string to be parsed.
+     *
+     * @return The parsed patch.
+     *
+     * @see #toString()
+     */
+    public static @NonNull ThemePatch parse(@Nullable String data) {
+        if (data == null || data.isEmpty()) {
+            return EMPTY;
+        }
+
+        final int[] values = new int[ThemeSchema.size()];
+        final boolean[] changed = new boolean[ThemeSchema.size()];
+        final int end = data.length();
+        int index = 0;
+
+        while (index < end) {
+            int next = data.indexOf(SPLIT_KEY, index);
+            if (next == -1) {
+                next = end;
+            }
+
+            final int split = data.indexOf(SPLIT_VALUE, index);
+            if (split != -1 && split + 1 < next) {
+                int limit = data.indexOf(SPLIT_VALUE, split + 1);
+                if (limit == -1 || limit > next) {
+                    limit = next;
+                }
+
+                final ThemeProperty property = ThemeSchema.get(
+                        ThemeUrlDecoder.getKey(data, index, split));
+
+                if (property != null && limit > split + 1) {
+                    try {
+                        values[property.getIndex()] =
+                                property.parse(data.substring(split + 1, limit));
+                        changed[property.getIndex()] = true;
+                    } catch (Exception ignored) {
+                    }
+                }
+            }
+
+            index = next + 1;
+        }
+
+        return of(changed, values);
+    }
+
+    /**
+     * Returns the number of changed properties.
+     *
+     * @return The number of changed properties.
+     */
+    public int size() {
+        return mIndices.length;
+    }
+
+    /**
+     * Checks whether this patch has any changes.
+     *
+     * @return {@code true} if this patch does not have any changes.
+     */
+    public boolean isEmpty() {
+        return mIndices.length == 0;
+    }
+
+    /**
+     * Returns the changed property at the supplied position.
+     *
+     * @param position The position of the change in this patch.
+     *
+     * @return The changed property at the supplied position.
+     */
+    public @NonNull ThemeProperty getProperty(int position) {
+        return ThemeSchema.get(mIndices[position]);
+    }
+
+    /**
+     * Returns the raw value at the supplied position.
+     *
+     * @param position The position of the change in this patch.
+     *
+     * @return The raw value at the supplied position.
+     */
+    public int getValue(int position) {
+        return mValues[position];
+    }
+
+    /**
+     * Checks whether this patch changes the supplied property.
+     *
+     * @param property The property to be checked.
+     *
+     * @return {@code true} if this patch changes the supplied property.
+     */
+    public boolean contains(@Nullable ThemeProperty property) {
+        return property != null && Arrays.binarySearch(mIndices, property.getIndex()) >= 0;
+    }
+
+    /**
+     * Returns the capabilities of the changed properties.
+     * <p>It can be used to refresh only the views or colors derived from the changed
+     * theme types.
+     *
+     * @return The capabilities of the changed properties.
+     *
+     * @see ThemeSchema.Capability
+     */
+    public int getCapabilities() {
+        int capabilities = 0;
+        for (int index : mIndices) {
+            capabilities |= ThemeSchema.get(index).getCapability();
+        }
+
+        return capabilities;
+    }
+
+    /**
+     * Applies this patch on the supplied theme.
+     * <p>The changes for the properties that are not supported by the theme are ignored.
+     *
+     * @param theme The theme to apply this patch.
+     * @param <T> The type of the dynamic theme.
+     *
+     * @return The supplied theme after applying this patch.
+     */
+    public <T extends BaseTheme<T>> @NonNull T apply(@NonNull T theme) {
+        final int capabilities = ThemeSchema.getCapabilities(theme);
+
+        for (int i = 0; i < mIndices.length; i++) {
+            final ThemeProperty property = ThemeSchema.get(mIndices[i]);
+
+            if (property.isSupported(capabilities)) {
+                property.set(theme, mValues[i]);
+            }
+        }
+
+        return theme;
+    }
+
+    /**
+     * Merges the supplied patch after this patch.
+     * <p>The values of the supplied patch take precedence for the common properties, so
+     * the result is same as applying both the patches one after another.
+     *
+     * @param patch The patch to be merged.
+     *
+     * @return The merged patch.
+     */
+    public @NonNull ThemePatch merge(@Nullable ThemePatch patch) {
+        if (patch == null || patch.isEmpty()) {
+            return this;
+        } else if (isEmpty()) {
+            return patch;
+        }
+
+        final int[] values = new int[ThemeSchema.size()];
+        final boolean[] changed = new boolean[ThemeSchema.size()];
+
+        for (int i = 0; i < mIndices.length; i++) {
+            values[mIndices[i]] = mValues[i];
+            changed[mIndices[i]] = true;
+        }
+
+        for (int i = 0; i < patch.mIndices.length; i++) {
+            values[patch.mIndices[i]] = patch.mValues[i];
+            changed[patch.mIndices[i]] = true;
+        }
+
+        return of(changed, values);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (!(obj instanceof ThemePatch)) {
+            return false;
+        }
+
+        final ThemePatch patch = (ThemePatch) obj;
+        return Arrays.equals(mIndices, patch.mIndices) && Arrays.equals(mValues, patch.mValues);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(mIndices) + Arrays.hashCode(mValues);
+    }
+
+    /**
+     * Converts this patch into its string equivalent.
+     * <p>It is not URL encoded.
+     *
+     * @return The short (URL) pairs for the changed values.
+     */
+    @Override
+    public @NonNull String toString() {
+        final StringBuilder builder = new StringBuilder(mIndices.length * 12);
+
+        for (int i = 0; i < mIndices.length; i++) {
+            final ThemeProperty property = ThemeSchema.get(mIndices[i]);
+
+            if (i > 0) {
+                builder.append(SPLIT_KEY);
+            }
+
+            builder.append(property.getShortKey()).append(SPLIT_VALUE);
+            ThemeUrlEncoder.writeValue(builder, property, mValues[i]);
+        }
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.theme.codec;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.adapter.DynamicThemeTypeAdapter;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeSchema;
+import com.pranavpandey.android.dynamic.theme.util.DynamicThemeUtils;
+
+import org.json.JSONObject;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Streaming decoder to apply the short (URL) representation directly on a dynamic theme.
+ *
+ * <p>It tokenizes the theme string in a single pass and sets each value through the
+ * {@link DynamicThemeTypeAdapter}, so there is no intermediate map or JSON string as in
+ * {@link DynamicThemeUtils#decodeTheme(String)}.
+ */
+public class ThemeUrlDecoder {
+
+    /**
+     * Short keys supported by the decoder, including the {@link Theme.Key.Short#TYPE}.
+     */
+    private static final String[] KEYS = new String[ThemeSchema.size() + 1];
+
+    /**
+     * Separator between the key-value pairs.
+     */
+    private static final char SPLIT_KEY = Theme.Key.Short.SPLIT.charAt(0);
+
+    /**
+     * Separator between a key and its value.
+     */
+    private static final char SPLIT_VALUE = Theme.Value.Short.SPLIT.charAt(0);
+
+    static {
+        for (int i = 0; i < ThemeSchema.size(); i++) {
+            KEYS[i] = ThemeSchema.get(i).getShortKey();
+        }
+
+        KEYS[ThemeSchema.size()] = Theme.Key.Short.TYPE;
+    }
+
+    /**
+     * Decodes the theme string and applies its values on the supplied theme.
+     * <p>It accepts the complete theme URL or just the encoded theme string, including the
+     * {@link Theme.Format encoded} formats.
+     *
+     * @param data The theme string to be decoded.
+     * @param theme The theme to apply the decoded values.
+     * @param <T> The type of the dynamic theme.
+     *
+     * @return The supplied theme after applying the decoded values.
+     */
+    public static <T extends BaseTheme<T>> @NonNull T decodeTheme(
+            @Nullable String data, @NonNull T theme) {
+        data = ThemeCodecRegistry.getPayload(data);
+        if (data == null) {
+            return theme;
+        }
+
+        if (data.startsWith(Theme.Format.PREFIX)) {
+            return ThemeCodecRegistry.decode(data, theme);
+        }
+
+        decode(data, 0, data.length(), new DynamicThemeTypeAdapter<>(theme));
+
+        return theme;
+    }
+
+    /**
+     * Converts the short theme string into a JSON string with the short keys.
+     * <p>The string must not be URL encoded.
+     *
+     * @param data The theme string to be converted.
+     *
+     * @return The JSON string for the short theme string.
+     */
+    public static @NonNull String toJson(@NonNull String data) {
+        final Map<String, String> map = new LinkedHashMap<>();
+        final int end = data.length();
+        int index = 0;
+
+        while (index < end) {
+            int next = data.indexOf(SPLIT_KEY, index);
+            if (next == -1) {
+                next = end;
+            }
+
+            final int split = data.indexOf(SPLIT_VALUE, index);
+            if (split != -1 && split < next) {
+                int limit = data.indexOf(SPLIT_VALUE, split + 1);
+                if (limit == -1 || limit > next) {
+                    limit = next;
+                }
+
+                if (limit > split + 1) {
+                    map.put(data.substring(index, split), data.substring(split + 1, limit));
+                }
+            }
+
+            index = next + 1;
+        }
+
+        return new JSONObject(map).toString();
+    }
+
+    /**
+     * Checks whether the short theme string contains at least one known key with a value.
+     * <p>The string must not be URL encoded.
+     *
+     * @param data The theme string to be checked.
+     *
+     * @return {@code true} if the short theme string is valid.
+     */
+    public static boolean isValid(@NonNull String data) {
+        return isValid(data, 0, data.length());
+    }
+
+    /**
+     * Checks whether a range of the short theme string contains at least one known key
+     * with a value.
+     * <p>The range must not be URL encoded.
+     *
+     * @param data The theme string to be checked.
+     * @param start The start index of the range (inclusive).
+     * @param end The end index of the range (exclusive).
+     *
+     * @return {@code true} if the range is a valid short theme string.
+     */
+    public static boolean isValid(@NonNull String data, int start, int end) {
+        int index = start;
+
+        while (index < end) {
+            int next = data.indexOf(SPLIT_KEY, index);
+            if (next == -1 || next > end) {
+                next = end;
+            }
+
+            final int split = data.indexOf(SPLIT_VALUE, index);
+            if (split != -1 && split + 1 < next && getKey(data, index, split) != null) {
+                return true;
+            }
+
+            index = next + 1;
+        }
+
+        return false;
+    }
+
+    /**
+     * Decodes a range of the theme string and sets the values by using the supplied adapter.
+     * <p>The range must not be URL encoded. Any value that cannot be converted will be
+     * ignored without affecting the other values.
+     *
+     * @param data The theme string to be decoded.
+     * @param start The start index of the range (inclusive).
+     * @param end The end index of the range (exclusive).
+     * @param adapter The adapter to set the decoded values.
+     */
+    public static void decode(@NonNull String data, int start, int end,
+            @NonNull DynamicThemeTypeAdapter<?> adapter) {
+        int index = start;
+
+        while (index < end) {
+            int next = data.indexOf(SPLIT_KEY, index);
+            if (next == -1 || next > end) {
+                next = end;
+            }
+
+            int split = data.indexOf(SPLIT_VALUE, index);
+            if (split != -1 && split < next) {
+                int limit = data.indexOf(SPLIT_VALUE, split + 1);
+                if (limit == -1 || limit > next) {
+                    limit = next;
+                }
+
+                final String key = getKey(data, index, split);
+                if (key != null && limit > split + 1) {
+                    try {
+                        adapter.setValue(key, data.substring(split + 1, limit));
+                    } catch (Exception ignored) {
+                    }
+                }
+            }
+
+            index = next + 1;
+        }
+    }
+
+    /**
+     * Returns the short key for a range of the theme string.
+     *
+     * @param data The theme string to be used.
+     * @param start The start index of the key (inclusive).
+     * @param end The end index of the key (exclusive).
+     *
+     * @return The short key for the range, otherwise {@code null}.
+     */
+    static @Nullable String getKey(@NonNull String data, int start, int end) {
+        final int length = end - start;
+
+        for (String key : KEYS) {
+            if (key.length() == length && data.regionMatches(start, key, 0, length)) {
+                return key;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.theme.codec;
+
+import android.net.Uri;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.adapter.DynamicThemeTypeAdapter;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+import com.pranavpandey.android.dynamic.theme.base.StringTheme;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeProperty;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeSchema;
+import com.pranavpandey.android.dynamic.theme.util.DynamicHexUtils;
+import com.pranavpandey.android.dynamic.theme.util.DynamicThemeUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streaming encoder to convert a dynamic theme into its short (URL) representation.
+ *
+ * <p>It walks the {@link ThemeSchema} once in the same order as the
+ * {@link DynamicThemeTypeAdapter} and writes the short tokens directly into a reusable
+ * buffer, so the output is identical to the formatted JSON after applying the
+ * {@link DynamicThemeUtils#getThemeMap()} replacements.
+ *
+ * <p>The values are read through the schema instead of the default
+ * {@link StringTheme#toDynamicString()}. The themes that override it are encoded from the
+ * returned string by using the theme map replacements, so their output stays the same.
+ */
+public class ThemeUrlEncoder {
+
+    /**
+     * Initial capacity of the buffer, enough to hold a complete theme.
+     */
+    private static final int CAPACITY = 384;
+
+    /**
+     * Map of the theme keys and values with their short tokens.
+     */
+    private static final Map<String, String> TOKENS = new HashMap<>();
+
+    /**
+     * Map of the theme classes and whether they use the default dynamic string.
+     */
+    private static final Map<Class<?>, Boolean> DEFAULT_STRING = new ConcurrentHashMap<>();
+
+    /**
+     * Encoder for the current thread to reuse its buffer.
+     */
+    private static final ThreadLocal<ThemeUrlEncoder> ENCODER =
+            new ThreadLocal<ThemeUrlEncoder>() {
+        @Override
+        protected ThemeUrlEncoder initialValue() {
+            return new ThemeUrlEncoder();
+        }
+    };
+
+    static {
+        for (int i = 0; i < ThemeSchema.size(); i++) {
+            final String key = ThemeSchema.get(i).getKey();
+            TOKENS.put(key, shorten(key));
+        }
+
+        for (String value : new String[] {
+                Theme.Value.AUTO, Theme.Value.SYSTEM,
+                Theme.Value.DISABLE, Theme.Value.ENABLE,
+                Theme.Value.CUSTOM, Theme.Value.HIDE, Theme.Value.SHOW }) {
+            TOKENS.put(value, shorten(value));
+        }
+    }
+
+    /**
+     * Buffer used by this encoder.
+     */
+    private final StringBuilder mBuilder;
+
+    /**
+     * Constructor to initialize an object of this class.
+     */
+    public ThemeUrlEncoder() {
+        this.mBuilder = new StringBuilder(CAPACITY);
+    }
+
+    /**
+     * Applies the theme map replacements on a single token.
+     * <p>It is only used once for each known token to build the lookup table so that the
+     * result always stays in sync with the legacy encoding.
+     *
+     * @param token The token to be shortened.
+     *
+     * @return The short token according to the theme map.
+     */
+    private static @NonNull String shorten(@NonNull String token) {
+        for (Map.Entry<String, String> element : DynamicThemeUtils.getThemeMap().entrySet()) {
+            if (!Theme.Key.BRACKETS.equals(element.getKey())) {
+                token = token.replace(element.getKey(), element.getValue());
+            }
+        }
+
+        return token;
+    }
+
+    /**
+     * Encodes the theme by using the encoder for the current thread.
+     * <p>The themes that override the {@link StringTheme#toDynamicString()} are encoded from
+     * the returned string instead.
+     *
+     * @param theme The theme to be encoded.
+     *
+     * @return The encoded theme string.
+     *
+     * @see #isDefaultString(Class)
+     */
+    public static @NonNull String encodeTheme(@NonNull BaseTheme<?> theme) {
+        if (theme instanceof StringTheme && !isDefaultString(theme.getClass())) {
+            return encodeString(((StringTheme<?>) theme).toDynamicString());
+        }
+
+        return ENCODER.get().encode(theme);
+    }
+
+    /**
+     * Checks whether the theme class uses the default {@link StringTheme#toDynamicString()}.
+     * <p>Only these themes can be encoded from the schema values, the result is cached for
+     * each class.
+     *
+     * @param type The theme class to be checked.
+     *
+     * @return {@code true} if the theme class does not override the dynamic string.
+     */
+    public static boolean isDefaultString(@NonNull Class<?> type) {
+        Boolean defaultString = DEFAULT_STRING.get(type);
+        if (defaultString == null) {
+            try {
+                defaultString = StringTheme.class.equals(
+                        type.getMethod("toDynamicString").getDeclaringClass());
+            } catch (Exception e) {
+                defaultString = false;
+            }
+
+            DEFAULT_STRING.put(type, defaultString);
+        }
+
+        return defaultString;
+    }
+
+    /**
+     * Encodes the dynamic string of a theme by applying the theme map replacements.
+     * <p>It is the previous encoding used for the themes that override the
+     * {@link StringTheme#toDynamicString()}.
+     *
+     * @param string The dynamic string to be encoded.
+     *
+     * @return The encoded theme string.
+     */
+    static @NonNull String encodeString(@NonNull String string) {
+        string = DynamicThemeUtils.format(string);
+
+        for (Map.Entry<String, String> element : DynamicThemeUtils.getThemeMap().entrySet()) {
+            string = string.replaceAll(element.getKey(), element.getValue());
+        }
+
+        return Uri.encode(string);
+    }
+
+    /**
+     * Encodes the theme by reusing the buffer of this encoder.
+     *
+     * @param theme The theme to be encoded.
+     *
+     * @return The encoded theme string.
+     */
+    public @NonNull String encode(@NonNull BaseTheme<?> theme) {
+        mBuilder.setLength(0);
+
+        return toString(write(theme, mBuilder));
+    }
+
+    /**
+     * Returns the short token for a theme key or value.
+     *
+     * @param token The token to be shortened.
+     *
+     * @return The short token, otherwise {@code null} if it is not a known token.
+     */
+    static @Nullable String getToken(@NonNull String token) {
+        return TOKENS.get(token);
+    }
+
+    /**
+     * Converts the builder into a string that can be used in a URL.
+     * <p>It is URL encoded only if it contains any unsafe character.
+     *
+     * @param builder The builder to be converted.
+     *
+     * @return The string that can be used in a URL.
+     */
+    static @NonNull String toString(@NonNull StringBuilder builder) {
+        for (int i = 0; i < builder.length(); i++) {
+            if (!isSafe(builder.charAt(i))) {
+                return Uri.encode(builder.toString());
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Writes the short representation of the theme into the supplied builder.
+     * <p>The output is not URL encoded.
+     *
+     * @param theme The theme to be written.
+     * @param builder The builder to append the tokens.
+     *
+     * @return The supplied builder to allow for chaining of calls.
+     */
+    public static @NonNull StringBuilder write(@NonNull BaseTheme<?> theme,
+            @NonNull StringBuilder builder) {
+        final int start = builder.length();
+        final int capabilities = ThemeSchema.getCapabilities(theme);
+
+        for (int i = 0; i < ThemeSchema.size(); i++) {
+            final ThemeProperty property = ThemeSchema.get(i);
+            if (!property.isSupported(capabilities)) {
+                continue;
+            }
+
+            writeKey(builder, start, property.getKey());
+            writeValue(builder, property, property.get(theme, false, false));
+        }
+
+        return builder;
+    }
+
+    /**
+     * Writes the short key along with the key and value separators.
+     *
+     * @param builder The builder to append the key.
+     * @param start The start index of the theme in the builder.
+     * @param key The key to be written.
+     */
+    private static void writeKey(@NonNull StringBuilder builder,
+            int start, @NonNull String key) {
+        if (builder.length() > start) {
+            builder.append(Theme.Key.Short.SPLIT);
+        }
+
+        builder.append(TOKENS.get(key)).append(Theme.Value.Short.SPLIT);
+    }
+
+    /**
+     * Writes the value of a property in its short form.
+     *
+     * @param builder The builder to append the value.
+     * @param property The property to be written.
+     * @param value The value to be written.
+     */
+    static void writeValue(@NonNull StringBuilder builder,
+            @NonNull ThemeProperty property, int value) {
+        if (property.isColor()) {
+            if (value == Theme.AUTO) {
+                builder.append(Theme.Value.Short.AUTO);
+            } else {
+                DynamicHexUtils.append(value, DynamicHexUtils.HASH_SHORT, builder);
+            }
+
+            return;
+        }
+
+        final String string = property.format(value);
+        final String token = TOKENS.get(string);
+        builder.append(token != null ? token : string);
+    }
+
+    /**
+     * Checks whether the character is left as it is by the {@link Uri#encode(String)}.
+     *
+     * @param c The character to be checked.
+     *
+     * @return {@code true} if the character does not require encoding.
+     */
+    private static boolean isSafe(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || "_-!.~'()*".indexOf(c) != -1;
+    }
+}
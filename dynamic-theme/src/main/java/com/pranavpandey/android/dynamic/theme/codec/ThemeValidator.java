@@ -0,0 +1,555 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.theme.codec;
+
+import android.net.Uri;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeSchema;
+
+/**
+ * Streaming validator to check the theme JSON or URL in a single pass over the characters.
+ *
+ * <p>It does not build any intermediate object for the JSON or the short (URL) format and
+ * returns a shared {@link Verdict} for the valid themes.
+ */
+public class ThemeValidator {
+
+    /**
+     * Maximum depth of the nested JSON objects and arrays.
+     */
+    private static final int DEPTH_MAX = Long.SIZE - 1;
+
+    /**
+     * Scanner state to expect a value.
+     */
+    private static final int STATE_VALUE = 0;
+
+    /**
+     * Scanner state to expect a value or the end of an array.
+     */
+    private static final int STATE_VALUE_OR_END = 1;
+
+    /**
+     * Scanner state to expect a key or the end of an object.
+     */
+    private static final int STATE_KEY_OR_END = 2;
+
+    /**
+     * Scanner state to expect a key.
+     */
+    private static final int STATE_KEY = 3;
+
+    /**
+     * Scanner state to expect the key separator.
+     */
+    private static final int STATE_COLON = 4;
+
+    /**
+     * Scanner state to expect a value separator or the end of the current container.
+     */
+    private static final int STATE_NEXT = 5;
+
+    /**
+     * Scanner state after the root object.
+     */
+    private static final int STATE_DONE = 6;
+
+    /**
+     * Scan result for a valid JSON with at least one theme key.
+     */
+    private static final int RESULT_THEME = -1;
+
+    /**
+     * Scan result for a valid JSON without any theme key.
+     */
+    private static final int RESULT_UNKNOWN = -2;
+
+    /**
+     * Theme keys to be matched in the JSON.
+     */
+    private static final String[] KEYS = new String[ThemeSchema.size() * 2 + 2];
+
+    static {
+        int index = 0;
+        for (int i = 0; i < ThemeSchema.size(); i++) {
+            KEYS[index++] = ThemeSchema.get(i).getKey();
+        }
+
+        KEYS[index++] = Theme.Key.TYPE;
+        for (int i = 0; i < ThemeSchema.size(); i++) {
+            KEYS[index++] = ThemeSchema.get(i).getShortKey();
+        }
+
+        KEYS[index] = Theme.Key.Short.TYPE;
+    }
+
+    /**
+     * Verdict for a valid theme JSON.
+     */
+    public static final Verdict JSON = new Verdict(Verdict.JSON, Verdict.OFFSET_NONE);
+
+    /**
+     * Verdict for a valid theme URL.
+     */
+    public static final Verdict URL = new Verdict(Verdict.URL, Verdict.OFFSET_NONE);
+
+    /**
+     * Verdict for a theme JSON or URL which is valid but does not contain any theme key.
+     */
+    public static final Verdict UNKNOWN = new Verdict(Verdict.INVALID, 0);
+
+    /**
+     * Validates the supplied theme JSON or URL.
+     *
+     * @param data The data to be validated.
+     *
+     * @return The verdict for the supplied data.
+     */
+    public static @NonNull Verdict validate(@Nullable String data) {
+        if (data == null) {
+            return UNKNOWN;
+        }
+
+        final int start = skipWhitespace(data, 0, data.length());
+        if (start < data.length() && data.charAt(start) == '{') {
+            final int result = scanJson(data, start, data.length());
+            if (result == RESULT_THEME) {
+                return JSON;
+            } else if (!containsUrl(data)) {
+                return result == RESULT_UNKNOWN ? UNKNOWN : new Verdict(Verdict.INVALID, result);
+            }
+
+            return URL;
+        }
+
+        final int query = data.indexOf(Theme.QUERY, start);
+        if (query != -1 && isValidQuery(data, query + Theme.QUERY.length())) {
+            return URL;
+        }
+
+        return containsUrl(data) ? URL : new Verdict(Verdict.INVALID,
+                query != -1 ? query + Theme.QUERY.length() : start);
+    }
+
+    /**
+     * Validates the supplied theme JSON.
+     *
+     * @param data The JSON to be validated.
+     *
+     * @return The verdict for the supplied JSON.
+     */
+    public static @NonNull Verdict validateJson(@NonNull String data) {
+        final int start = skipWhitespace(data, 0, data.length());
+        if (start >= data.length() || data.charAt(start) != '{') {
+            return new Verdict(Verdict.INVALID, start);
+        }
+
+        final int result = scanJson(data, start, data.length());
+        return result == RESULT_THEME ? JSON : result == RESULT_UNKNOWN
+                ? UNKNOWN : new Verdict(Verdict.INVALID, result);
+    }
+
+    /**
+     * Checks whether the theme parameter of a URL is valid.
+     *
+     * @param data The URL to be checked.
+     * @param start The start index of the theme parameter.
+     *
+     * @return {@code true} if the theme parameter is valid.
+     */
+    private static boolean isValidQuery(@NonNull String data, int start) {
+        int end = data.indexOf('&', start);
+        if (end == -1) {
+            end = data.length();
+        }
+
+        start = skipWhitespace(data, start, end);
+        while (end > start && isWhitespace(data.charAt(end - 1))) {
+            end--;
+        }
+
+        if (start >= end) {
+            return false;
+        }
+
+        final int escape = data.indexOf('%', start);
+        if (escape == -1 || escape >= end) {
+            final char c = data.charAt(start);
+
+            if (c >= '0' && c <= '9') {
+                return ThemeUrlDecoder.isValid(data, start, end);
+            } else if (c == '{') {
+                return scanJson(data, start, end) == RESULT_THEME;
+            }
+        }
+
+        String payload = data.substring(start, end);
+        if (escape != -1 && escape < end) {
+            payload = Uri.decode(payload).trim();
+        }
+
+        final ThemeCodec codec = ThemeCodecRegistry.getCodec(payload);
+
+        return codec != null && codec.isValid(payload);
+    }
+
+    /**
+     * Checks whether the data contains the theme URL by ignoring the case.
+     *
+     * @param data The data to be checked.
+     *
+     * @return {@code true} if the data contains the theme URL.
+     */
+    private static boolean containsUrl(@NonNull String data) {
+        final int length = Theme.URL.length();
+        final char first = Theme.URL.charAt(0);
+
+        for (int i = 0; i <= data.length() - length; i++) {
+            if (Character.toLowerCase(data.charAt(i)) == first
+                    && data.regionMatches(true, i, Theme.URL, 0, length)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Scans a JSON object in the supplied range.
+     *
+     * @param data The data to be scanned.
+     * @param start The start index of the object.
+     * @param end The end index of the range (exclusive).
+     *
+     * @return {@link #RESULT_THEME} or {@link #RESULT_UNKNOWN} if the object is valid,
+     *         otherwise the offset of the error.
+     */
+    private static int scanJson(@NonNull String data, int start, int end) {
+        boolean theme = false;
+        long containers = 0;
+        int depth = 0;
+        int state = STATE_VALUE;
+        int index = start;
+
+        while (true) {
+            index = skipWhitespace(data, index, end);
+            if (index >= end) {
+                return state == STATE_DONE ? theme ? RESULT_THEME : RESULT_UNKNOWN : index;
+            }
+
+            final char c = data.charAt(index);
+            switch (state) {
+                case STATE_VALUE_OR_END:
+                    if (c == ']') {
+                        depth--;
+                        containers >>>= 1;
+                        index++;
+                        state = depth == 0 ? STATE_DONE : STATE_NEXT;
+                        break;
+                    }
+                    // fall through
+                case STATE_VALUE:
+                    if (c == '{' || c == '[') {
+                        if (depth == DEPTH_MAX || (depth == 0 && c != '{')) {
+                            return index;
+                        }
+
+                        depth++;
+                        containers = (containers << 1) | (c == '{' ? 1 : 0);
+                        index++;
+                        state = c == '{' ? STATE_KEY_OR_END : STATE_VALUE_OR_END;
+                        break;
+                    } else if (depth == 0) {
+                        return index;
+                    }
+
+                    final int next = scanValue(data, index, end);
+                    if (next < 0) {
+                        return ~next;
+                    }
+
+                    index = next;
+                    state = STATE_NEXT;
+                    break;
+                case STATE_KEY_OR_END:
+                    if (c == '}') {
+                        depth--;
+                        containers >>>= 1;
+                        index++;
+                        state = depth == 0 ? STATE_DONE : STATE_NEXT;
+                        break;
+                    }
+                    // fall through
+                case STATE_KEY:
+                    if (c != '"') {
+                        return index;
+                    }
+
+                    final int key = scanString(data, index, end);
+                    if (key < 0) {
+                        return ~key;
+                    }
+
+                    if (!theme && depth == 1) {
+                        theme = isKey(data, index + 1, key - 1);
+                    }
+
+                    index = key;
+                    state = STATE_COLON;
+                    break;
+                case STATE_COLON:
+                    if (c != ':') {
+                        return index;
+                    }
+
+                    index++;
+                    state = STATE_VALUE;
+                    break;
+                case STATE_NEXT:
+                    final boolean object = (containers & 1) == 1;
+                    if (c == ',') {
+                        index++;
+                        state = object ? STATE_KEY : STATE_VALUE;
+                    } else if ((object && c == '}') || (!object && c == ']')) {
+                        depth--;
+                        containers >>>= 1;
+                        index++;
+                        state = depth == 0 ? STATE_DONE : STATE_NEXT;
+                    } else {
+                        return index;
+                    }
+                    break;
+                case STATE_DONE:
+                default:
+                    return index;
+            }
+        }
+    }
+
+    /**
+     * Scans a JSON string, number or literal.
+     *
+     * @param data The data to be scanned.
+     * @param start The start index of the value.
+     * @param end The end index of the range (exclusive).
+     *
+     * @return The index after the value, otherwise the complement of the error offset.
+     */
+    private static int scanValue(@NonNull String data, int start, int end) {
+        final char c = data.charAt(start);
+
+        if (c == '"') {
+            return scanString(data, start, end);
+        } else if (c == '-' || (c >= '0' && c <= '9')) {
+            return scanNumber(data, start, end);
+        } else if (data.startsWith("true", start)) {
+            return start + 4;
+        } else if (data.startsWith("false", start)) {
+            return start + 5;
+        } else if (data.startsWith("null", start)) {
+            return start + 4;
+        }
+
+        return ~start;
+    }
+
+    /**
+     * Scans a JSON string.
+     *
+     * @param data The data to be scanned.
+     * @param start The index of the opening quote.
+     * @param end The end index of the range (exclusive).
+     *
+     * @return The index after the closing quote, otherwise the complement of the
+     *         error offset.
+     */
+    private static int scanString(@NonNull String data, int start, int end) {
+        for (int i = start + 1; i < end; i++) {
+            final char c = data.charAt(i);
+
+            if (c == '"') {
+                return i + 1;
+            } else if (c == '\\') {
+                i++;
+            }
+        }
+
+        return ~end;
+    }
+
+    /**
+     * Scans a JSON number.
+     *
+     * @param data The data to be scanned.
+     * @param start The start index of the number.
+     * @param end The end index of the range (exclusive).
+     *
+     * @return The index after the number, otherwise the complement of the error offset.
+     */
+    private static int scanNumber(@NonNull String data, int start, int end) {
+        int index = start;
+        if (data.charAt(index) == '-') {
+            index++;
+        }
+
+        final int digits = index;
+        while (index < end && isNumber(data.charAt(index))) {
+            index++;
+        }
+
+        return index > digits ? index : ~index;
+    }
+
+    /**
+     * Checks whether the character can be a part of a JSON number after its sign.
+     *
+     * @param c The character to be checked.
+     *
+     * @return {@code true} if the character can be a part of a JSON number.
+     */
+    private static boolean isNumber(char c) {
+        return (c >= '0' && c <= '9') || c == '.' || c == 'e'
+                || c == 'E' || c == '+' || c == '-';
+    }
+
+    /**
+     * Checks whether a range of the data is a theme key.
+     *
+     * @param data The data to be checked.
+     * @param start The start index of the key (inclusive).
+     * @param end The end index of the key (exclusive).
+     *
+     * @return {@code true} if the range is a theme key.
+     */
+    private static boolean isKey(@NonNull String data, int start, int end) {
+        final int length = end - start;
+
+        for (String key : KEYS) {
+            if (key.length() == length && data.regionMatches(start, key, 0, length)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the index of the first non white space character in the range.
+     *
+     * @param data The data to be used.
+     * @param start The start index of the range (inclusive).
+     * @param end The end index of the range (exclusive).
+     *
+     * @return The index of the first non white space character in the range.
+     */
+    private static int skipWhitespace(@NonNull String data, int start, int end) {
+        while (start < end && isWhitespace(data.charAt(start))) {
+            start++;
+        }
+
+        return start;
+    }
+
+    /**
+     * Checks whether the character is a white space or a line break.
+     *
+     * @param c The character to be checked.
+     *
+     * @return {@code true} if the character is a white space or a line break.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    /**
+     * Verdict of the theme validation.
+     */
+    public static final class Verdict {
+
+        /**
+         * Constant for the invalid theme.
+         */
+        public static final int INVALID = 0;
+
+        /**
+         * Constant for the theme JSON.
+         */
+        public static final int JSON = 1;
+
+        /**
+         * Constant for the theme URL.
+         */
+        public static final int URL = 2;
+
+        /**
+         * Constant for no error offset.
+         */
+        public static final int OFFSET_NONE = -1;
+
+        /**
+         * Type of the theme.
+         */
+        private final int mType;
+
+        /**
+         * Offset of the error, if any.
+         */
+        private final int mOffset;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param type The type of the theme.
+         * @param offset The offset of the error, if any.
+         */
+        Verdict(int type, int offset) {
+            this.mType = type;
+            this.mOffset = offset;
+        }
+
+        /**
+         * Returns the type of the theme.
+         *
+         * @return The type of the theme.
+         */
+        public int getType() {
+            return mType;
+        }
+
+        /**
+         * Returns the offset of the error.
+         *
+         * @return The offset of the error, otherwise {@link #OFFSET_NONE}.
+         */
+        public int getOffset() {
+            return mOffset;
+        }
+
+        /**
+         * Checks whether the theme is valid.
+         *
+         * @return {@code true} if the theme is valid.
+         */
+        public boolean isValid() {
+            return mType != INVALID;
+        }
+    }
+}
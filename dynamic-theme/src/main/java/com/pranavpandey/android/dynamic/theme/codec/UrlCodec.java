@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.theme.codec;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.theme.adapter.DynamicThemeTypeAdapter;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+
+/**
+ * Theme codec for the short (URL) format.
+ *
+ * @see ThemeUrlEncoder
+ * @see ThemeUrlDecoder
+ */
+public class UrlCodec implements ThemeCodec {
+
+    /**
+     * Characters to start a short theme string, the short keys start with a digit.
+     */
+    public static final String SIGNATURE = "0123456789";
+
+    @Override
+    public @NonNull String getSignature() {
+        return SIGNATURE;
+    }
+
+    @Override
+    public boolean isSupported(@NonNull String data) {
+        return !data.isEmpty() && Character.isDigit(data.charAt(0));
+    }
+
+    @Override
+    public boolean isValid(@NonNull String data) {
+        return ThemeUrlDecoder.isValid(data);
+    }
+
+    @Override
+    public @NonNull String encode(@NonNull BaseTheme<?> theme) {
+        return ThemeUrlEncoder.encodeTheme(theme);
+    }
+
+    @Override
+    public <T extends BaseTheme<T>> @NonNull T decode(@NonNull String data, @NonNull T theme) {
+        ThemeUrlDecoder.decode(data, 0, data.length(), new DynamicThemeTypeAdapter<>(theme));
+
+        return theme;
+    }
+
+    @Override
+    public @Nullable String toJson(@NonNull String data) {
+        return isValid(data) ? ThemeUrlDecoder.toJson(data) : null;
+    }
+}
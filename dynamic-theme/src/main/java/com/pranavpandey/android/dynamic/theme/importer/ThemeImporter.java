@@ -0,0 +1,662 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.importer;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.codec.ThemeCodecRegistry;
+import com.pranavpandey.android.dynamic.theme.codec.ThemeValidator;
+import com.pranavpandey.android.dynamic.theme.util.DynamicCodeUtils;
+import com.pranavpandey.android.dynamic.util.DynamicBitmapUtils;
+import com.pranavpandey.android.dynamic.util.DynamicFileUtils;
+
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Importer to read the theme data from several sources in parallel.
+ *
+ * <p>Each source is read, sniffed, decoded or scanned and then validated on a bounded
+ * executor. The results are delivered on the callback executor in the same order as the
+ * sources as soon as they are available, with an error for each source that cannot be
+ * imported.
+ */
+public class ThemeImporter {
+
+    /**
+     * Maximum number of threads for the default executor.
+     */
+    public static final int THREADS_MAX = 4;
+
+    /**
+     * Time in seconds to keep the idle threads of the default executor.
+     */
+    private static final int KEEP_ALIVE = 30;
+
+    /**
+     * Default executor to import the themes.
+     */
+    private static ThreadPoolExecutor sExecutor;
+
+    /**
+     * Context to read the sources.
+     */
+    private final Context mContext;
+
+    /**
+     * Executor to import the themes.
+     */
+    private final Executor mExecutor;
+
+    /**
+     * Executor to deliver the results.
+     */
+    private final Executor mCallbackExecutor;
+
+    /**
+     * Constructor to initialize an object of this class.
+     * <p>It will use the default executor and deliver the results on the main thread.
+     *
+     * @param context The context to read the sources.
+     */
+    public ThemeImporter(@NonNull Context context) {
+        this(context, getDefaultExecutor(), null);
+    }
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param context The context to read the sources.
+     * @param executor The executor to import the themes.
+     * @param callbackExecutor The serial executor to deliver the results.
+     *                         <p>Pass {@code null} to deliver them on the main thread.
+     */
+    public ThemeImporter(@NonNull Context context, @NonNull Executor executor,
+            @Nullable Executor callbackExecutor) {
+        this.mContext = context.getApplicationContext() != null
+                ? context.getApplicationContext() : context;
+        this.mExecutor = executor;
+        this.mCallbackExecutor = callbackExecutor != null
+                ? callbackExecutor : new MainExecutor();
+    }
+
+    /**
+     * Returns the default executor to import the themes.
+     * <p>It is bounded to {@link #THREADS_MAX} threads which are released when idle.
+     *
+     * @return The default executor to import the themes.
+     */
+    public static synchronized @NonNull Executor getDefaultExecutor() {
+        if (sExecutor == null) {
+            final int threads = Math.max(2, Math.min(THREADS_MAX,
+                    Runtime.getRuntime().availableProcessors() - 1));
+
+            sExecutor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                private final AtomicInteger mCount = new AtomicInteger();
+
+                @Override
+                public Thread newThread(@NonNull Runnable runnable) {
+                    final Thread thread = new Thread(runnable,
+                            "ThemeImporter #" + mCount.incrementAndGet());
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+
+                    return thread;
+                }
+            });
+            sExecutor.allowCoreThreadTimeOut(true);
+        }
+
+        return sExecutor;
+    }
+
+    /**
+     * Imports the themes from the supplied URIs.
+     * <p>A URI can be a theme URL, a theme file or a theme code image.
+     *
+     * @param sources The URIs to import the themes.
+     * @param callback The callback to receive the results.
+     *
+     * @return The task to cancel the import.
+     */
+    public @NonNull Task importThemes(@NonNull List<Uri> sources, @NonNull Callback callback) {
+        final Task task = new Task(sources, callback);
+        task.start();
+
+        return task;
+    }
+
+    /**
+     * Imports the themes from the supplied URLs.
+     *
+     * @param urls The URLs to import the themes.
+     * @param callback The callback to receive the results.
+     *
+     * @return The task to cancel the import.
+     *
+     * @see #importThemes(List, Callback)
+     */
+    public @NonNull Task importThemeUrls(@NonNull List<String> urls, @NonNull Callback callback) {
+        final List<Uri> sources = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            sources.add(url != null ? Uri.parse(url.trim()) : Uri.EMPTY);
+        }
+
+        return importThemes(sources, callback);
+    }
+
+    /**
+     * Imports the theme from the URI.
+     * <p>It does not throw, the result contains the theme data or the
+     * {@link Result#getReason() reason} if the theme cannot be imported.
+     *
+     * @param context The context to be used.
+     * @param uri The URI to import the theme.
+     *
+     * @return The result for the URI.
+     *
+     * @see com.pranavpandey.android.dynamic.theme.util.DynamicThemeUtils
+     * #getThemeData(Context, Uri)
+     */
+    @WorkerThread
+    public static @NonNull Result importTheme(@NonNull Context context, @NonNull Uri uri) {
+        return importTheme(context, 0, uri);
+    }
+
+    /**
+     * Imports the theme from the URI.
+     *
+     * @param context The context to be used.
+     * @param index The index of the source.
+     * @param uri The URI to import the theme.
+     *
+     * @return The result for the URI.
+     */
+    @WorkerThread
+    static @NonNull Result importTheme(@NonNull Context context, int index, @NonNull Uri uri) {
+        final String data;
+
+        try {
+            if (uri.isHierarchical()
+                    && uri.getQueryParameterNames().contains(Theme.PARAMETER)) {
+                data = ThemeCodecRegistry.toJson(uri.getQueryParameter(Theme.PARAMETER));
+
+                return data != null ? new Result(index, uri, data, Reason.NONE, null)
+                        : new Result(index, uri, null, Reason.INVALID, null);
+            } else if (DynamicFileUtils.isValidMimeType(context, uri,
+                    Theme.MIME, Theme.EXTENSION)) {
+                data = DynamicFileUtils.readStringFromFile(context, uri);
+
+                if (data == null) {
+                    return new Result(index, uri, null, Reason.READ, null);
+                }
+            } else if (DynamicFileUtils.isValidMimeType(context, uri,
+                    Theme.MIME_IMAGE_MATCH, Theme.EXTENSION_IMAGE)) {
+                final Bitmap bitmap = DynamicBitmapUtils.getBitmap(context, uri);
+
+                if (bitmap == null) {
+                    return new Result(index, uri, null, Reason.READ, null);
+                }
+
+                data = DynamicCodeUtils.getTheme(bitmap);
+
+                if (data == null) {
+                    return new Result(index, uri, null, Reason.NOT_FOUND, null);
+                }
+            } else {
+                return new Result(index, uri, null, Reason.UNSUPPORTED, null);
+            }
+        } catch (Exception e) {
+            return new Result(index, uri, null, Reason.READ, e);
+        }
+
+        return ThemeValidator.validate(data).isValid()
+                ? new Result(index, uri, data, Reason.NONE, null)
+                : new Result(index, uri, null, Reason.INVALID, null);
+    }
+
+    /**
+     * Constants for the reason of an import failure.
+     */
+    @Retention(RetentionPolicy.SOURCE)
+    public @interface Reason {
+
+        /**
+         * Constant for no failure.
+         */
+        int NONE = 0;
+
+        /**
+         * Constant when the source cannot be read.
+         */
+        int READ = 1;
+
+        /**
+         * Constant when the source is not supported.
+         */
+        int UNSUPPORTED = 2;
+
+        /**
+         * Constant when the source does not contain a theme code.
+         */
+        int NOT_FOUND = 3;
+
+        /**
+         * Constant when the source does not contain a valid theme.
+         */
+        int INVALID = 4;
+
+        /**
+         * Constant when the import failed unexpectedly.
+         */
+        int UNKNOWN = 5;
+    }
+
+    /**
+     * Callback to receive the import results.
+     */
+    public interface Callback {
+
+        /**
+         * This method will be called when a theme has been imported or failed.
+         * <p>It is called in the same order as the sources.
+         *
+         * @param result The result for the source.
+         */
+        void onThemeImported(@NonNull Result result);
+
+        /**
+         * This method will be called when all the themes have been processed.
+         * <p>It will not be called if the import has been cancelled.
+         *
+         * @param results The results in the same order as the sources.
+         */
+        void onImportComplete(@NonNull List<Result> results);
+    }
+
+    /**
+     * Result of importing a theme from a source.
+     */
+    public static class Result {
+
+        /**
+         * Index of the source.
+         */
+        private final int mIndex;
+
+        /**
+         * Source of the theme.
+         */
+        private final Uri mSource;
+
+        /**
+         * Theme data for the source.
+         */
+        private final String mData;
+
+        /**
+         * Reason if the theme cannot be imported.
+         */
+        private final @Reason int mReason;
+
+        /**
+         * Cause of the failure if any.
+         */
+        private final Throwable mCause;
+
+        /**
+         * Error for the source, created on demand.
+         */
+        private Exception mError;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param index The index of the source.
+         * @param source The source of the theme.
+         * @param data The theme data for the source.
+         * @param reason The reason if the theme cannot be imported.
+         * @param cause The cause of the failure if any.
+         */
+        Result(int index, @NonNull Uri source, @Nullable String data,
+                @Reason int reason, @Nullable Throwable cause) {
+            this.mIndex = index;
+            this.mSource = source;
+            this.mData = data;
+            this.mReason = reason;
+            this.mCause = cause;
+        }
+
+        /**
+         * Returns the index of the source.
+         *
+         * @return The index of the source.
+         */
+        public int getIndex() {
+            return mIndex;
+        }
+
+        /**
+         * Returns the source of the theme.
+         *
+         * @return The source of the theme.
+         */
+        public @NonNull Uri getSource() {
+            return mSource;
+        }
+
+        /**
+         * Returns the theme data for the source.
+         *
+         * @return The theme data for the source, otherwise {@code null}.
+         */
+        public @Nullable String getData() {
+            return mData;
+        }
+
+        /**
+         * Returns the reason if the theme cannot be imported.
+         *
+         * @return The reason if the theme cannot be imported, otherwise {@link Reason#NONE}.
+         */
+        public @Reason int getReason() {
+            return mReason;
+        }
+
+        /**
+         * Returns the error for the source.
+         *
+         * @return The error for the source, otherwise {@code null}.
+         */
+        public @Nullable Exception getError() {
+            if (mReason == Reason.NONE || mError != null) {
+                return mError;
+            }
+
+            switch (mReason) {
+                case Reason.READ:
+                    mError = mCause instanceof Exception ? (Exception) mCause
+                            : new IOException("Unable to read the theme source: " + mSource);
+                    break;
+                case Reason.UNSUPPORTED:
+                    mError = new IllegalArgumentException(
+                            "Unsupported theme source: " + mSource);
+                    break;
+                case Reason.NOT_FOUND:
+                    mError = new IllegalArgumentException("No theme code found: " + mSource);
+                    break;
+                case Reason.INVALID:
+                    mError = new IllegalArgumentException("Invalid theme data: " + mSource);
+                    break;
+                default:
+                    mError = mCause instanceof Exception ? (Exception) mCause
+                            : new ExecutionException(mCause);
+                    break;
+            }
+
+            return mError;
+        }
+
+        /**
+         * Checks whether the theme has been imported successfully.
+         *
+         * @return {@code true} if the theme has been imported successfully.
+         */
+        public boolean isSuccessful() {
+            return mReason == Reason.NONE && mData != null;
+        }
+    }
+
+    /**
+     * Task to import the themes from several sources.
+     */
+    public class Task {
+
+        /**
+         * Sources to import the themes.
+         */
+        private final Uri[] mSources;
+
+        /**
+         * Callback to receive the results.
+         */
+        private final Callback mCallback;
+
+        /**
+         * Results for the sources.
+         */
+        private final Result[] mResults;
+
+        /**
+         * Futures to import the themes.
+         */
+        private final FutureTask<?>[] mFutures;
+
+        /**
+         * Index of the next result to be delivered.
+         */
+        private int mNext;
+
+        /**
+         * {@code true} if the task has been cancelled.
+         */
+        private volatile boolean mCancelled;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param sources The sources to import the themes.
+         * @param callback The callback to receive the results.
+         */
+        Task(@NonNull List<Uri> sources, @NonNull Callback callback) {
+            this.mSources = sources.toArray(new Uri[0]);
+            this.mCallback = callback;
+            this.mResults = new Result[mSources.length];
+            this.mFutures = new FutureTask<?>[mSources.length];
+        }
+
+        /**
+         * Submits the sources to the executor.
+         */
+        void start() {
+            if (mSources.length == 0) {
+                deliver(Collections.<Result>emptyList(), true);
+                return;
+            }
+
+            for (int i = 0; i < mSources.length; i++) {
+                final int index = i;
+
+                mFutures[i] = new FutureTask<>(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (!mCancelled) {
+                            onResult(execute(index));
+                        }
+                    }
+                }, null);
+            }
+
+            for (FutureTask<?> future : mFutures) {
+                if (mCancelled) {
+                    break;
+                }
+
+                mExecutor.execute(future);
+            }
+        }
+
+        /**
+         * Imports the theme from a source.
+         *
+         * @param index The index of the source.
+         *
+         * @return The result for the source.
+         */
+        @WorkerThread
+        @NonNull Result execute(int index) {
+            final Uri source = mSources[index] != null ? mSources[index] : Uri.EMPTY;
+
+            try {
+                return importTheme(mContext, index, source);
+            } catch (Throwable e) {
+                // Always return a result, otherwise the ordered delivery will stall.
+                return new Result(index, source, null, Reason.UNKNOWN, e);
+            }
+        }
+
+        /**
+         * Stores the result and delivers the completed results in order.
+         *
+         * @param result The result to be stored.
+         */
+        void onResult(@NonNull Result result) {
+            final List<Result> results;
+            final boolean complete;
+
+            synchronized (this) {
+                mResults[result.getIndex()] = result;
+
+                if (result.getIndex() != mNext) {
+                    return;
+                }
+
+                final int start = mNext;
+                while (mNext < mResults.length && mResults[mNext] != null) {
+                    mNext++;
+                }
+
+                results = Arrays.asList(mResults).subList(start, mNext);
+                complete = mNext == mResults.length;
+
+                // Post while holding the lock to keep the results in order.
+                deliver(results, complete);
+            }
+        }
+
+        /**
+         * Delivers the results on the callback executor.
+         *
+         * @param results The results to be delivered.
+         * @param complete {@code true} if all the results are available.
+         */
+        private void deliver(final @NonNull List<Result> results, final boolean complete) {
+            mCallbackExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    for (Result result : results) {
+                        if (mCancelled) {
+                            return;
+                        }
+
+                        mCallback.onThemeImported(result);
+                    }
+
+                    if (complete && !mCancelled) {
+                        mCallback.onImportComplete(Collections.unmodifiableList(
+                                Arrays.asList(mResults)));
+                    }
+                }
+            });
+        }
+
+        /**
+         * Cancels the import.
+         * <p>The pending sources will not be imported and no further results will be
+         * delivered.
+         */
+        public void cancel() {
+            mCancelled = true;
+
+            for (FutureTask<?> future : mFutures) {
+                if (future != null) {
+                    future.cancel(true);
+                }
+            }
+
+            if (mExecutor instanceof ThreadPoolExecutor) {
+                ((ThreadPoolExecutor) mExecutor).purge();
+            }
+        }
+
+        /**
+         * Checks whether the import has been cancelled.
+         *
+         * @return {@code true} if the import has been cancelled.
+         */
+        public boolean isCancelled() {
+            return mCancelled;
+        }
+
+        /**
+         * Returns the number of sources.
+         *
+         * @return The number of sources.
+         */
+        public int getCount() {
+            return mSources.length;
+        }
+
+        /**
+         * Returns the number of results available in order.
+         *
+         * @return The number of results available in order.
+         */
+        public synchronized int getProgress() {
+            return mNext;
+        }
+    }
+
+    /**
+     * Executor to run the tasks on the main thread.
+     */
+    private static class MainExecutor implements Executor {
+
+        /**
+         * Handler for the main thread.
+         */
+        private final Handler mHandler = new Handler(Looper.getMainLooper());
+
+        @Override
+        public void execute(@NonNull Runnable runnable) {
+            mHandler.post(runnable);
+        }
+    }
+}
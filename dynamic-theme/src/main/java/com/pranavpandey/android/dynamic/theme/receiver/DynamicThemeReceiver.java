@@ -25,6 +25,10 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.base.StringTheme;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A {@link BroadcastReceiver} to receive the theme data.
@@ -34,6 +38,13 @@ import com.pranavpandey.android.dynamic.theme.Theme;
  */
 public abstract class DynamicThemeReceiver extends BroadcastReceiver {
 
+    /**
+     * Fingerprints of the last applied themes keyed by the receiver class, theme kind and
+     * app widget id.
+     * <p>A new receiver object is created for each broadcast, so they are kept statically.
+     */
+    private static final Map<String, Long> FINGERPRINTS = new ConcurrentHashMap<>();
+
     @Override
     public void onReceive(final @NonNull Context context, @Nullable Intent intent) {
         if (intent == null) {
@@ -69,6 +80,118 @@ public abstract class DynamicThemeReceiver extends BroadcastReceiver {
     protected abstract void onReceiveTheme(@Nullable @Theme.ToString String theme,
             @Nullable @Theme.ToString String value, @Nullable String data);
 
+    /**
+     * Returns the key to store the fingerprint of a theme.
+     *
+     * @param receiver The class of the receiver.
+     * @param kind The kind of the theme.
+     * @param appWidgetId The app widget id for the widget theme.
+     *
+     * @return The key to store the fingerprint of a theme.
+     */
+    private static @NonNull String getKey(@NonNull Class<?> receiver,
+            @Theme int kind, int appWidgetId) {
+        return receiver.getName() + ":" + kind + ":" + appWidgetId;
+    }
+
+    /**
+     * Checks whether the theme is different from the last theme applied by this receiver.
+     * <p>Call it from {@link #onReceiveTheme(String, String, String)} after decoding the
+     * theme to skip re-applying an unchanged theme. The themes are compared by their
+     * {@link StringTheme#getFingerprint() fingerprint} separately for each kind of theme
+     * and app widget.
+     *
+     * <p>It does not remember the theme, call {@link #markApplied(StringTheme, int, int)}
+     * after it has been applied successfully.
+     *
+     * @param theme The decoded theme to be checked.
+     * @param kind The kind of the theme, for example {@link Theme#APP} or {@link Theme#WIDGET}.
+     * @param appWidgetId The app widget id for the widget theme.
+     *                    <p>Pass {@link AppWidgetManager#INVALID_APPWIDGET_ID} for the
+     *                    other themes.
+     *
+     * @return {@code true} if the theme is different from the last applied theme.
+     *
+     * @see #clearFingerprint(Class)
+     */
+    protected boolean isThemeChanged(@Nullable StringTheme<?> theme,
+            @Theme int kind, int appWidgetId) {
+        if (theme == null) {
+            return false;
+        }
+
+        final Long fingerprint = FINGERPRINTS.get(getKey(getClass(), kind, appWidgetId));
+        return fingerprint == null || fingerprint != theme.getFingerprint();
+    }
+
+    /**
+     * Checks whether the theme is different from the last theme applied by this receiver.
+     *
+     * @param theme The decoded theme to be checked.
+     * @param kind The kind of the theme, for example {@link Theme#APP} or {@link Theme#DAY}.
+     *
+     * @return {@code true} if the theme is different from the last applied theme.
+     *
+     * @see #isThemeChanged(StringTheme, int, int)
+     */
+    protected boolean isThemeChanged(@Nullable StringTheme<?> theme, @Theme int kind) {
+        return isThemeChanged(theme, kind, AppWidgetManager.INVALID_APPWIDGET_ID);
+    }
+
+    /**
+     * Remembers the theme applied by this receiver.
+     * <p>Call it only after the theme has been applied successfully, so that a failed
+     * attempt can be retried with the same theme.
+     *
+     * @param theme The applied theme.
+     * @param kind The kind of the theme, for example {@link Theme#APP} or {@link Theme#WIDGET}.
+     * @param appWidgetId The app widget id for the widget theme.
+     *                    <p>Pass {@link AppWidgetManager#INVALID_APPWIDGET_ID} for the
+     *                    other themes.
+     *
+     * @see #isThemeChanged(StringTheme, int, int)
+     */
+    protected void markApplied(@Nullable StringTheme<?> theme,
+            @Theme int kind, int appWidgetId) {
+        if (theme == null) {
+            return;
+        }
+
+        FINGERPRINTS.put(getKey(getClass(), kind, appWidgetId), theme.getFingerprint());
+    }
+
+    /**
+     * Remembers the theme applied by this receiver.
+     *
+     * @param theme The applied theme.
+     * @param kind The kind of the theme, for example {@link Theme#APP} or {@link Theme#DAY}.
+     *
+     * @see #markApplied(StringTheme, int, int)
+     */
+    protected void markApplied(@Nullable StringTheme<?> theme, @Theme int kind) {
+        markApplied(theme, kind, AppWidgetManager.INVALID_APPWIDGET_ID);
+    }
+
+    /**
+     * Clears the fingerprints of all the themes applied by a receiver.
+     * <p>Call it when the theme is changed by any other means, so that the next received
+     * theme is applied even if it is same as the last one.
+     *
+     * @param receiver The class of the receiver.
+     *
+     * @see #markApplied(StringTheme, int, int)
+     */
+    public static void clearFingerprint(
+            @NonNull Class<? extends DynamicThemeReceiver> receiver) {
+        final String prefix = receiver.getName() + ":";
+
+        for (String key : FINGERPRINTS.keySet()) {
+            if (key.startsWith(prefix)) {
+                FINGERPRINTS.remove(key);
+            }
+        }
+    }
+
     /**
      * This method will be called when an app widget is added via pinning.
      *
@@ -0,0 +1,641 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.theme.schema;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+import com.pranavpandey.android.dynamic.theme.base.CodeTheme;
+import com.pranavpandey.android.dynamic.theme.base.CornerTheme;
+import com.pranavpandey.android.dynamic.theme.base.StrokeTheme;
+import com.pranavpandey.android.dynamic.theme.base.TranslucentTheme;
+
+import java.util.Arrays;
+
+/**
+ * Immutable snapshot of the resolved values of a dynamic theme.
+ *
+ * <p>All the {@link ThemeSchema} values are resolved once for a resolve and inverse mode and
+ * stored in a primitive array, so they can be read any number of times without running
+ * the auto fallback, tint and contrast derivation again. The snapshot is never modified
+ * after it has been created, so it can be shared across threads without any locks.
+ *
+ * <p>It also stores the values used to render the QR Code for a {@link CodeTheme}. Use
+ * {@link #forCode(BaseTheme)} to resolve only these values if the schema values are not
+ * required.
+ *
+ * @see ThemeSchema
+ */
+public final class ResolvedTheme {
+
+    /**
+     * Index of the first value used to render the QR Code.
+     */
+    private static final int CODE = ThemeSchema.size();
+
+    /**
+     * Index of the code background color.
+     */
+    private static final int CODE_BACKGROUND = CODE;
+
+    /**
+     * Index of the code stroke color.
+     */
+    private static final int CODE_STROKE = CODE + 1;
+
+    /**
+     * Index of the code data color.
+     */
+    private static final int CODE_DATA = CODE + 2;
+
+    /**
+     * Index of the code finder color.
+     */
+    private static final int CODE_FINDER = CODE + 3;
+
+    /**
+     * Index of the code overlay color.
+     */
+    private static final int CODE_OVERLAY = CODE + 4;
+
+    /**
+     * Index of the code contrast ratio stored as float bits.
+     */
+    private static final int CODE_CONTRAST_RATIO = CODE + 5;
+
+    /**
+     * Index of the code style.
+     */
+    private static final int CODE_STYLE = CODE + 6;
+
+    /**
+     * Index of the code corner radius in pixels.
+     */
+    private static final int CODE_CORNER_RADIUS = CODE + 7;
+
+    /**
+     * Index of the code corner size in dips.
+     */
+    private static final int CODE_CORNER_SIZE = CODE + 8;
+
+    /**
+     * Index of the code opacity.
+     */
+    private static final int CODE_OPACITY = CODE + 9;
+
+    /**
+     * Index of the code stroke state.
+     */
+    private static final int CODE_STROKE_STATE = CODE + 10;
+
+    /**
+     * Total number of values stored by the snapshot.
+     */
+    private static final int SIZE = CODE + 11;
+
+    /**
+     * Constant for the unsupported code stroke state.
+     */
+    private static final int STROKE_UNSUPPORTED = -1;
+
+    /**
+     * Index of the font scale property.
+     */
+    private static final int FONT_SCALE = getIndex(Theme.Key.FONT_SCALE);
+
+    /**
+     * Index of the corner radius property.
+     */
+    private static final int CORNER_RADIUS = getIndex(Theme.Key.CORNER_RADIUS);
+
+    /**
+     * Index of the background aware property.
+     */
+    private static final int BACKGROUND_AWARE = getIndex(Theme.Key.BACKGROUND_AWARE);
+
+    /**
+     * Index of the contrast property.
+     */
+    private static final int CONTRAST = getIndex(Theme.Key.CONTRAST);
+
+    /**
+     * Index of the opacity property.
+     */
+    private static final int OPACITY = getIndex(Theme.Key.OPACITY);
+
+    /**
+     * Index of the elevation property.
+     */
+    private static final int ELEVATION = getIndex(Theme.Key.ELEVATION);
+
+    /**
+     * Index of the style property.
+     */
+    private static final int STYLE = getIndex(Theme.Key.STYLE);
+
+    /**
+     * Index of the header property.
+     */
+    private static final int HEADER = getIndex(Theme.Key.HEADER);
+
+    /**
+     * Capabilities of the resolved theme.
+     */
+    private final int mCapabilities;
+
+    /**
+     * {@code true} if the values are resolved.
+     */
+    private final boolean mResolve;
+
+    /**
+     * {@code true} if the inverse values are resolved.
+     */
+    private final boolean mInverse;
+
+    /**
+     * {@code true} if the resolved theme is a code theme.
+     */
+    private final boolean mCode;
+
+    /**
+     * {@code true} if the schema values are resolved.
+     */
+    private final boolean mSchema;
+
+    /**
+     * Resolved values in the schema order followed by the code values.
+     */
+    private final int[] mValues;
+
+    /**
+     * Constructor to initialize an object of this class.
+     * <p>It resolves the values without inverse.
+     *
+     * @param theme The theme to be resolved.
+     */
+    public ResolvedTheme(@NonNull BaseTheme<?> theme) {
+        this(theme, true, false);
+    }
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param theme The theme to be resolved.
+     * @param resolve {@code true} to resolve the values.
+     * @param inverse {@code true} to resolve the inverse values.
+     */
+    public ResolvedTheme(@NonNull BaseTheme<?> theme, boolean resolve, boolean inverse) {
+        this(theme, resolve, inverse, true);
+    }
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param theme The theme to be resolved.
+     * @param resolve {@code true} to resolve the values.
+     * @param inverse {@code true} to resolve the inverse values.
+     * @param schema {@code true} to resolve the schema values.
+     */
+    private ResolvedTheme(@NonNull BaseTheme<?> theme,
+            boolean resolve, boolean inverse, boolean schema) {
+        this.mCapabilities = ThemeSchema.getCapabilities(theme.getClass());
+        this.mResolve = resolve;
+        this.mInverse = inverse;
+        this.mCode = theme instanceof CodeTheme;
+        this.mSchema = schema;
+        this.mValues = new int[SIZE];
+
+        for (int i = 0; i < CODE; i++) {
+            final ThemeProperty property = ThemeSchema.get(i);
+
+            if (schema && property.isSupported(mCapabilities)) {
+                mValues[i] = property.get(theme, resolve, inverse);
+            } else {
+                mValues[i] = property.isColor() ? Theme.Color.UNKNOWN : Theme.AUTO;
+            }
+        }
+
+        Arrays.fill(mValues, CODE, SIZE, Theme.Color.UNKNOWN);
+        mValues[CODE_STROKE_STATE] = STROKE_UNSUPPORTED;
+
+        if (mCode) {
+            final CodeTheme<?> code = (CodeTheme<?>) theme;
+            mValues[CODE_BACKGROUND] = code.getCodeBackgroundColor();
+            mValues[CODE_STROKE] = code.getCodeStrokeColor();
+            mValues[CODE_DATA] = code.getCodeDataColor();
+            mValues[CODE_FINDER] = code.getCodeFinderColor();
+            mValues[CODE_OVERLAY] = code.getCodeOverlayColor();
+            mValues[CODE_CONTRAST_RATIO] = Float.floatToIntBits(code.getCodeContrastRatio());
+            mValues[CODE_STYLE] = code.getCodeStyle();
+        }
+
+        if (theme instanceof CornerTheme) {
+            mValues[CODE_CORNER_RADIUS] = ((CornerTheme<?>) theme).getCornerRadius();
+            mValues[CODE_CORNER_SIZE] = ((CornerTheme<?>) theme).getCornerSize();
+        }
+
+        if (theme instanceof TranslucentTheme) {
+            mValues[CODE_OPACITY] = ((TranslucentTheme<?>) theme).getOpacity();
+        }
+
+        if (theme instanceof StrokeTheme) {
+            mValues[CODE_STROKE_STATE] = ((StrokeTheme<?>) theme).isStroke() ? 1 : 0;
+        }
+    }
+
+    /**
+     * Returns a snapshot with only the values used to render the QR Code.
+     * <p>The schema values are not resolved and will be returned as unsupported, so it
+     * avoids resolving all the properties to render a QR Code.
+     *
+     * @param theme The theme to be resolved.
+     *
+     * @return The snapshot with only the values used to render the QR Code.
+     *
+     * @see #getCodeValues()
+     */
+    public static @NonNull ResolvedTheme forCode(@NonNull BaseTheme<?> theme) {
+        return new ResolvedTheme(theme, true, false, false);
+    }
+
+    /**
+     * Returns the schema index for a theme key.
+     *
+     * @param key The theme key to be used.
+     *
+     * @return The schema index for the theme key.
+     */
+    private static int getIndex(@NonNull String key) {
+        final ThemeProperty property = ThemeSchema.get(key);
+        if (property == null) {
+            throw new IllegalStateException("Unknown theme key: " + key);
+        }
+
+        return property.getIndex();
+    }
+
+    /**
+     * Returns the capabilities of the resolved theme.
+     *
+     * @return The capabilities of the resolved theme.
+     *
+     * @see ThemeSchema.Capability
+     */
+    public int getCapabilities() {
+        return mCapabilities;
+    }
+
+    /**
+     * Returns whether the values are resolved.
+     *
+     * @return {@code true} if the values are resolved.
+     */
+    public boolean isResolve() {
+        return mResolve;
+    }
+
+    /**
+     * Returns whether the inverse values are resolved.
+     *
+     * @return {@code true} if the inverse values are resolved.
+     */
+    public boolean isInverse() {
+        return mInverse;
+    }
+
+    /**
+     * Returns whether the schema values are resolved.
+     *
+     * @return {@code true} if the schema values are resolved.
+     *
+     * @see #forCode(BaseTheme)
+     */
+    public boolean isSchema() {
+        return mSchema;
+    }
+
+    /**
+     * Checks whether a property is supported by the resolved theme.
+     *
+     * @param property The property to be checked.
+     *
+     * @return {@code true} if the property is supported by the resolved theme.
+     */
+    public boolean isSupported(@NonNull ThemeProperty property) {
+        return property.isSupported(mCapabilities);
+    }
+
+    /**
+     * Returns the resolved value of a property.
+     *
+     * @param property The property to be used.
+     *
+     * @return The resolved value of the property, otherwise {@link Theme.Color#UNKNOWN} for
+     *         an unsupported color and {@link Theme#AUTO} for any other unsupported value.
+     */
+    public int get(@NonNull ThemeProperty property) {
+        return mValues[property.getIndex()];
+    }
+
+    /**
+     * Returns the resolved value at a schema index.
+     *
+     * @param index The schema index of the property.
+     *
+     * @return The resolved value at the schema index.
+     *
+     * @see #get(ThemeProperty)
+     */
+    public int get(int index) {
+        if (index < 0 || index >= CODE) {
+            throw new IndexOutOfBoundsException("Invalid schema index: " + index);
+        }
+
+        return mValues[index];
+    }
+
+    /**
+     * Returns the resolved color for a color type.
+     *
+     * @param colorType The color type to be used.
+     *
+     * @return The resolved color for the color type, otherwise {@link Theme.Color#UNKNOWN}.
+     */
+    public @ColorInt int getColor(@Theme.ColorType int colorType) {
+        final ThemeProperty property = ThemeSchema.getColor(colorType);
+
+        return property != null ? mValues[property.getIndex()] : Theme.Color.UNKNOWN;
+    }
+
+    /**
+     * Returns the resolved font scale.
+     *
+     * @return The resolved font scale.
+     */
+    public int getFontScale() {
+        return mValues[FONT_SCALE];
+    }
+
+    /**
+     * Returns the resolved corner size in dips.
+     *
+     * @return The resolved corner size in dips.
+     */
+    public int getCornerSize() {
+        return mValues[CORNER_RADIUS];
+    }
+
+    /**
+     * Returns the resolved background aware functionality.
+     *
+     * @return The resolved background aware functionality.
+     */
+    public @Theme.BackgroundAware int getBackgroundAware() {
+        return mValues[BACKGROUND_AWARE];
+    }
+
+    /**
+     * Returns the resolved contrast.
+     *
+     * @return The resolved contrast.
+     */
+    public int getContrast() {
+        return mValues[CONTRAST];
+    }
+
+    /**
+     * Returns the resolved opacity.
+     *
+     * @return The resolved opacity.
+     */
+    public int getOpacity() {
+        return mValues[OPACITY];
+    }
+
+    /**
+     * Returns the resolved elevation.
+     *
+     * @return The resolved elevation.
+     */
+    public @Theme.Elevation int getElevation() {
+        return mValues[ELEVATION];
+    }
+
+    /**
+     * Returns the resolved style.
+     *
+     * @return The resolved style.
+     */
+    public @Theme.Style int getStyle() {
+        return mValues[STYLE];
+    }
+
+    /**
+     * Returns the resolved header visibility.
+     *
+     * @return The resolved header visibility.
+     */
+    public @Theme.Visibility int getHeader() {
+        return mValues[HEADER];
+    }
+
+    /**
+     * Returns whether the resolved theme is a code theme.
+     *
+     * @return {@code true} if the resolved theme is a {@link CodeTheme}.
+     */
+    public boolean isCode() {
+        return mCode;
+    }
+
+    /**
+     * Returns the background color used to render the QR Code.
+     *
+     * @return The background color used to render the QR Code.
+     *
+     * @see CodeTheme#getCodeBackgroundColor()
+     */
+    public @ColorInt int getCodeBackgroundColor() {
+        return mValues[CODE_BACKGROUND];
+    }
+
+    /**
+     * Returns the stroke color used to render the QR Code.
+     *
+     * @return The stroke color used to render the QR Code.
+     *
+     * @see CodeTheme#getCodeStrokeColor()
+     */
+    public @ColorInt int getCodeStrokeColor() {
+        return mValues[CODE_STROKE];
+    }
+
+    /**
+     * Returns the data color used to render the QR Code.
+     *
+     * @return The data color used to render the QR Code.
+     *
+     * @see CodeTheme#getCodeDataColor()
+     */
+    public @ColorInt int getCodeDataColor() {
+        return mValues[CODE_DATA];
+    }
+
+    /**
+     * Returns the finder color used to render the QR Code.
+     *
+     * @return The finder color used to render the QR Code.
+     *
+     * @see CodeTheme#getCodeFinderColor()
+     */
+    public @ColorInt int getCodeFinderColor() {
+        return mValues[CODE_FINDER];
+    }
+
+    /**
+     * Returns the overlay color used to render the QR Code.
+     *
+     * @return The overlay color used to render the QR Code.
+     *
+     * @see CodeTheme#getCodeOverlayColor()
+     */
+    public @ColorInt int getCodeOverlayColor() {
+        return mValues[CODE_OVERLAY];
+    }
+
+    /**
+     * Returns the contrast ratio used to render the QR Code.
+     *
+     * @return The contrast ratio used to render the QR Code.
+     *
+     * @see CodeTheme#getCodeContrastRatio()
+     */
+    public float getCodeContrastRatio() {
+        return Float.intBitsToFloat(mValues[CODE_CONTRAST_RATIO]);
+    }
+
+    /**
+     * Returns the style used to render the QR Code.
+     *
+     * @return The style used to render the QR Code.
+     *
+     * @see CodeTheme#getCodeStyle()
+     */
+    public @Theme.Code.Style int getCodeStyle() {
+        return mValues[CODE_STYLE];
+    }
+
+    /**
+     * Returns the corner size in pixels used to render the QR Code.
+     *
+     * @return The corner size in pixels used to render the QR Code.
+     *
+     * @see CornerTheme#getCornerRadius()
+     */
+    public int getCodeCornerRadius() {
+        return mValues[CODE_CORNER_RADIUS];
+    }
+
+    /**
+     * Returns the corner size in dips used to render the QR Code.
+     *
+     * @return The corner size in dips used to render the QR Code.
+     *
+     * @see CornerTheme#getCornerSize()
+     */
+    public int getCodeCornerSize() {
+        return mValues[CODE_CORNER_SIZE];
+    }
+
+    /**
+     * Returns the opacity used to render the QR Code.
+     *
+     * @return The opacity used to render the QR Code.
+     *
+     * @see TranslucentTheme#getOpacity()
+     */
+    public int getCodeOpacity() {
+        return mValues[CODE_OPACITY];
+    }
+
+    /**
+     * Returns whether the resolved theme is a stroke theme.
+     *
+     * @return {@code true} if the resolved theme is a {@link StrokeTheme}.
+     */
+    public boolean isStrokeTheme() {
+        return mValues[CODE_STROKE_STATE] != STROKE_UNSUPPORTED;
+    }
+
+    /**
+     * Returns whether the stroke is required to render the QR Code.
+     *
+     * @return {@code true} if the stroke is required to render the QR Code.
+     *
+     * @see StrokeTheme#isStroke()
+     */
+    public boolean isStroke() {
+        return mValues[CODE_STROKE_STATE] == 1;
+    }
+
+    /**
+     * Returns a copy of the resolved values in the schema order.
+     *
+     * @return A copy of the resolved values in the schema order.
+     */
+    public @NonNull int[] getValues() {
+        return Arrays.copyOf(mValues, CODE);
+    }
+
+    /**
+     * Returns a copy of the values used to render the QR Code.
+     * <p>Two snapshots with the same capabilities and code values render the same QR Code
+     * for the same data.
+     *
+     * @return A copy of the values used to render the QR Code.
+     */
+    public @NonNull int[] getCodeValues() {
+        return Arrays.copyOfRange(mValues, CODE, SIZE);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (!(obj instanceof ResolvedTheme)) {
+            return false;
+        }
+
+        final ResolvedTheme theme = (ResolvedTheme) obj;
+        return mCapabilities == theme.mCapabilities && mResolve == theme.mResolve
+                && mInverse == theme.mInverse && mCode == theme.mCode
+                && mSchema == theme.mSchema
+                && Arrays.equals(mValues, theme.mValues);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * mCapabilities + Arrays.hashCode(mValues);
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return Arrays.toString(mValues);
+    }
+}
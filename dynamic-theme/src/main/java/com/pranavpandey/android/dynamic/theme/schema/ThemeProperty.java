@@ -0,0 +1,383 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.schema;
+
+import androidx.annotation.NonNull;
+
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.util.DynamicThemeUtils;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * Immutable descriptor for a dynamic theme property.
+ *
+ * <p>It holds the long and short keys, the {@link Theme.ColorType} and the kind of value
+ * along with the primitive getter and setter, so the codecs can process a theme by
+ * iterating the {@link ThemeSchema}.
+ */
+public abstract class ThemeProperty {
+
+    /**
+     * Constant values for the kind of property value.
+     */
+    @Retention(RetentionPolicy.SOURCE)
+    public @interface Kind {
+
+        /**
+         * Constant for the color value.
+         */
+        int COLOR = 0;
+
+        /**
+         * Constant for the font scale value.
+         */
+        int FONT_SCALE = 1;
+
+        /**
+         * Constant for the corner radius value in dips.
+         */
+        int CORNER_RADIUS = 2;
+
+        /**
+         * Constant for the background aware value.
+         */
+        int BACKGROUND_AWARE = 3;
+
+        /**
+         * Constant for the contrast value.
+         */
+        int CONTRAST = 4;
+
+        /**
+         * Constant for the opacity value.
+         */
+        int OPACITY = 5;
+
+        /**
+         * Constant for the elevation value.
+         */
+        int ELEVATION = 6;
+
+        /**
+         * Constant for the style value.
+         */
+        int STYLE = 7;
+
+        /**
+         * Constant for the visibility value.
+         */
+        int VISIBILITY = 8;
+    }
+
+    /**
+     * Constant values for the property flags.
+     */
+    @Retention(RetentionPolicy.SOURCE)
+    public @interface Flag {
+
+        /**
+         * Constant for no flags.
+         */
+        int NONE = 0;
+
+        /**
+         * Constant for the color that can be mapped from the dynamic colors.
+         */
+        int DYNAMIC = 1;
+
+        /**
+         * Constant for the color that is stored in the mutated dynamic colors.
+         */
+        int MUTABLE = 1 << 1;
+    }
+
+    /**
+     * Index of this property in the schema.
+     */
+    int mIndex;
+
+    /**
+     * Long key for this property.
+     */
+    private final String mKey;
+
+    /**
+     * Short key for this property.
+     */
+    private final String mShortKey;
+
+    /**
+     * Color type for this property.
+     */
+    private final @Theme.ColorType int mColorType;
+
+    /**
+     * Kind of value for this property.
+     */
+    private final @Kind int mKind;
+
+    /**
+     * Capability required to get this property.
+     */
+    private final int mCapability;
+
+    /**
+     * Capability required to read this property.
+     */
+    private final int mReadCapability;
+
+    /**
+     * Flags for this property.
+     */
+    private final @Flag int mFlags;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param key The long key for this property.
+     * @param shortKey The short key for this property.
+     * @param colorType The color type for this property.
+     * @param kind The kind of value for this property.
+     * @param capability The capability required to get this property.
+     * @param readCapability The capability required to read this property.
+     * @param flags The flags for this property.
+     */
+    ThemeProperty(@NonNull String key, @NonNull String shortKey,
+            @Theme.ColorType int colorType, @Kind int kind,
+            int capability, int readCapability, @Flag int flags) {
+        this.mKey = key;
+        this.mShortKey = shortKey;
+        this.mColorType = colorType;
+        this.mKind = kind;
+        this.mCapability = capability;
+        this.mReadCapability = readCapability;
+        this.mFlags = flags;
+    }
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param key The long key for this property.
+     * @param shortKey The short key for this property.
+     * @param colorType The color type for this property.
+     * @param kind The kind of value for this property.
+     * @param capability The capability required to get and read this property.
+     * @param flags The flags for this property.
+     */
+    ThemeProperty(@NonNull String key, @NonNull String shortKey,
+            @Theme.ColorType int colorType, @Kind int kind, int capability, @Flag int flags) {
+        this(key, shortKey, colorType, kind, capability, capability, flags);
+    }
+
+    /**
+     * Returns the index of this property in the schema.
+     *
+     * @return The index of this property in the schema.
+     */
+    public int getIndex() {
+        return mIndex;
+    }
+
+    /**
+     * Returns the long key for this property.
+     *
+     * @return The long key for this property.
+     *
+     * @see Theme.Key
+     */
+    public @NonNull String getKey() {
+        return mKey;
+    }
+
+    /**
+     * Returns the short key for this property.
+     *
+     * @return The short key for this property.
+     *
+     * @see Theme.Key.Short
+     */
+    public @NonNull String getShortKey() {
+        return mShortKey;
+    }
+
+    /**
+     * Returns the color type for this property.
+     *
+     * @return The color type for this property, otherwise {@link Theme.ColorType#UNKNOWN}.
+     */
+    public @Theme.ColorType int getColorType() {
+        return mColorType;
+    }
+
+    /**
+     * Returns the kind of value for this property.
+     *
+     * @return The kind of value for this property.
+     */
+    public @Kind int getKind() {
+        return mKind;
+    }
+
+    /**
+     * Checks whether this property is a color.
+     *
+     * @return {@code true} if this property is a color.
+     */
+    public boolean isColor() {
+        return mKind == Kind.COLOR;
+    }
+
+    /**
+     * Returns the capability required to get this property.
+     *
+     * @return The capability required to get this property.
+     *
+     * @see ThemeSchema.Capability
+     */
+    public int getCapability() {
+        return mCapability;
+    }
+
+    /**
+     * Checks whether this property is supported by the theme capabilities.
+     *
+     * @param capabilities The capabilities of the theme.
+     *
+     * @return {@code true} if this property can be get and set on the theme.
+     *
+     * @see ThemeSchema#getCapabilities(Class)
+     */
+    public boolean isSupported(int capabilities) {
+        return (capabilities & mCapability) != 0;
+    }
+
+    /**
+     * Checks whether this property can be read from a theme string by the theme
+     * capabilities.
+     * <p>It is same as the {@link #isSupported(int)} except for the header which is only
+     * read for the {@link com.pranavpandey.android.dynamic.theme.AppWidgetTheme}.
+     *
+     * @param capabilities The capabilities of the theme.
+     *
+     * @return {@code true} if this property can be read on the theme.
+     */
+    public boolean isReadable(int capabilities) {
+        return (capabilities & mReadCapability) != 0;
+    }
+
+    /**
+     * Checks whether this property has the supplied flag.
+     *
+     * @param flag The flag to be checked.
+     *
+     * @return {@code true} if this property has the supplied flag.
+     */
+    public boolean hasFlag(@Flag int flag) {
+        return (mFlags & flag) != 0;
+    }
+
+    /**
+     * Returns the value of this property from the theme.
+     * <p>The theme must be {@link #isSupported(int) supported} by this property.
+     *
+     * @param theme The theme to be used.
+     * @param resolve {@code true} to resolve the value.
+     * @param inverse {@code true} to resolve the inverse value.
+     *
+     * @return The value of this property.
+     */
+    public abstract int get(@NonNull Object theme, boolean resolve, boolean inverse);
+
+    /**
+     * Sets the value of this property on the theme.
+     * <p>The theme must be {@link #isSupported(int) supported} by this property.
+     *
+     * @param theme The theme to be used.
+     * @param value The value to be set.
+     */
+    public abstract void set(@NonNull Object theme, int value);
+
+    /**
+     * Converts the value of this property into its string equivalent.
+     *
+     * @param value The value to be converted.
+     *
+     * @return The string equivalent of the value.
+     */
+    public @NonNull String format(int value) {
+        switch (mKind) {
+            case Kind.FONT_SCALE:
+                return DynamicThemeUtils.getValueFromFontScale(value);
+            case Kind.CORNER_RADIUS:
+                return DynamicThemeUtils.getValueFromCornerSize(value);
+            case Kind.BACKGROUND_AWARE:
+                return DynamicThemeUtils.getValueFromBackgroundAware(value);
+            case Kind.CONTRAST:
+                return DynamicThemeUtils.getValueFromContrast(value);
+            case Kind.OPACITY:
+                return DynamicThemeUtils.getValueFromOpacity(value);
+            case Kind.ELEVATION:
+                return DynamicThemeUtils.getValueFromElevation(value);
+            case Kind.STYLE:
+                return DynamicThemeUtils.getValueFromStyle(value);
+            case Kind.VISIBILITY:
+                return DynamicThemeUtils.getValueFromVisibility(value);
+            case Kind.COLOR:
+            default:
+                return DynamicThemeUtils.getValueFromColor(value);
+        }
+    }
+
+    /**
+     * Converts the string equivalent into the value of this property.
+     *
+     * @param value The string to be converted.
+     *
+     * @return The value of this property.
+     */
+    public int parse(@NonNull String value) {
+        switch (mKind) {
+            case Kind.FONT_SCALE:
+                return DynamicThemeUtils.getValueFromFontScale(value);
+            case Kind.CORNER_RADIUS:
+                return DynamicThemeUtils.getValueFromCornerRadius(value);
+            case Kind.BACKGROUND_AWARE:
+                return DynamicThemeUtils.getValueFromBackgroundAware(value);
+            case Kind.CONTRAST:
+                return DynamicThemeUtils.getValueFromContrast(value);
+            case Kind.OPACITY:
+                return DynamicThemeUtils.getValueFromOpacity(value);
+            case Kind.ELEVATION:
+                return DynamicThemeUtils.getValueFromElevation(value);
+            case Kind.STYLE:
+                return DynamicThemeUtils.getValueFromStyle(value);
+            case Kind.VISIBILITY:
+                return DynamicThemeUtils.getValueFromVisibility(value);
+            case Kind.COLOR:
+            default:
+                return DynamicThemeUtils.getValueFromColor(value);
+        }
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return mKey;
+    }
+}
@@ -0,0 +1,679 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.schema;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.theme.AppWidgetTheme;
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.base.AccentTheme;
+import com.pranavpandey.android.dynamic.theme.base.BackgroundAware;
+import com.pranavpandey.android.dynamic.theme.base.BackgroundTheme;
+import com.pranavpandey.android.dynamic.theme.base.CornerTheme;
+import com.pranavpandey.android.dynamic.theme.base.ElevationTheme;
+import com.pranavpandey.android.dynamic.theme.base.ErrorTheme;
+import com.pranavpandey.android.dynamic.theme.base.PrimaryTheme;
+import com.pranavpandey.android.dynamic.theme.base.StyleTheme;
+import com.pranavpandey.android.dynamic.theme.base.SurfaceTheme;
+import com.pranavpandey.android.dynamic.theme.base.TextTheme;
+import com.pranavpandey.android.dynamic.theme.base.TranslucentTheme;
+import com.pranavpandey.android.dynamic.theme.base.WidgetTheme;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeProperty.Flag;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeProperty.Kind;
+import com.pranavpandey.android.dynamic.theme.util.DynamicThemeUtils;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Schema of the dynamic theme properties in the order they are serialized.
+ *
+ * <p>It is the single table used by the type adapter, codecs and mappers to process a
+ * theme, so a property or a codec can be added without repeating the theme interfaces.
+ *
+ * @see ThemeProperty
+ */
+public class ThemeSchema {
+
+    /**
+     * Constant values for the theme capabilities.
+     * <p>The bits are stable as they are also stored by the
+     * {@link com.pranavpandey.android.dynamic.theme.codec.ThemeBinaryCodec}.
+     */
+    @Retention(RetentionPolicy.SOURCE)
+    public @interface Capability {
+
+        /**
+         * Capability for the {@link BackgroundTheme}.
+         */
+        int BACKGROUND = 1 << 0;
+
+        /**
+         * Capability for the {@link SurfaceTheme}.
+         */
+        int SURFACE = 1 << 1;
+
+        /**
+         * Capability for the {@link PrimaryTheme}.
+         */
+        int PRIMARY = 1 << 2;
+
+        /**
+         * Capability for the {@link AccentTheme}.
+         */
+        int ACCENT = 1 << 3;
+
+        /**
+         * Capability for the {@link ErrorTheme}.
+         */
+        int ERROR = 1 << 4;
+
+        /**
+         * Capability for the {@link TextTheme}.
+         */
+        int TEXT = 1 << 5;
+
+        /**
+         * Capability for the {@link CornerTheme}.
+         */
+        int CORNER = 1 << 6;
+
+        /**
+         * Capability for the {@link BackgroundAware}.
+         */
+        int BACKGROUND_AWARE = 1 << 7;
+
+        /**
+         * Capability for the {@link TranslucentTheme}.
+         */
+        int TRANSLUCENT = 1 << 8;
+
+        /**
+         * Capability for the {@link ElevationTheme}.
+         */
+        int ELEVATION = 1 << 9;
+
+        /**
+         * Capability for the {@link StyleTheme}.
+         */
+        int STYLE = 1 << 10;
+
+        /**
+         * Capability for the {@link WidgetTheme}.
+         */
+        int WIDGET = 1 << 11;
+
+        /**
+         * Capability for the {@link AppWidgetTheme}.
+         */
+        int APP_WIDGET = 1 << 12;
+    }
+
+    /**
+     * Theme types for the capabilities, the index of each type is its capability bit.
+     */
+    private static final Class<?>[] TYPES = new Class<?>[] {
+            BackgroundTheme.class, SurfaceTheme.class, PrimaryTheme.class, AccentTheme.class,
+            ErrorTheme.class, TextTheme.class, CornerTheme.class, BackgroundAware.class,
+            TranslucentTheme.class, ElevationTheme.class, StyleTheme.class, WidgetTheme.class,
+            AppWidgetTheme.class };
+
+    /**
+     * Properties in the order they are serialized.
+     */
+    private static final ThemeProperty[] PROPERTIES = new ThemeProperty[] {
+            new ThemeProperty(Theme.Key.BACKGROUND, Theme.Key.Short.BACKGROUND,
+                    Theme.ColorType.BACKGROUND, Kind.COLOR, Capability.BACKGROUND,
+                    Flag.DYNAMIC | Flag.MUTABLE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((BackgroundTheme<?>) theme).getBackgroundColor(resolve, inverse);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((BackgroundTheme<?>) theme).setBackgroundColor(value, false);
+                }
+            },
+            new ThemeProperty(Theme.Key.TINT_BACKGROUND, Theme.Key.Short.TINT_BACKGROUND,
+                    Theme.ColorType.TINT_BACKGROUND, Kind.COLOR, Capability.BACKGROUND, Flag.NONE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((BackgroundTheme<?>) theme).getTintBackgroundColor(resolve, inverse);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((BackgroundTheme<?>) theme).setTintBackgroundColor(value);
+                }
+            },
+            new ThemeProperty(Theme.Key.SURFACE, Theme.Key.Short.SURFACE,
+                    Theme.ColorType.SURFACE, Kind.COLOR, Capability.SURFACE,
+                    Flag.DYNAMIC | Flag.MUTABLE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((SurfaceTheme<?>) theme).getSurfaceColor(resolve, inverse);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((SurfaceTheme<?>) theme).setSurfaceColor(value, false);
+                }
+            },
+            new ThemeProperty(Theme.Key.TINT_SURFACE, Theme.Key.Short.TINT_SURFACE,
+                    Theme.ColorType.TINT_SURFACE, Kind.COLOR, Capability.SURFACE, Flag.NONE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((SurfaceTheme<?>) theme).getTintSurfaceColor(resolve, inverse);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((SurfaceTheme<?>) theme).setTintSurfaceColor(value);
+                }
+            },
+            new ThemeProperty(Theme.Key.PRIMARY, Theme.Key.Short.PRIMARY,
+                    Theme.ColorType.PRIMARY, Kind.COLOR, Capability.PRIMARY,
+                    Flag.DYNAMIC | Flag.MUTABLE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((PrimaryTheme<?>) theme).getPrimaryColor(resolve, inverse);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((PrimaryTheme<?>) theme).setPrimaryColor(value, false);
+                }
+            },
+            new ThemeProperty(Theme.Key.TINT_PRIMARY, Theme.Key.Short.TINT_PRIMARY,
+                    Theme.ColorType.TINT_PRIMARY, Kind.COLOR, Capability.PRIMARY, Flag.NONE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((PrimaryTheme<?>) theme).getTintPrimaryColor(resolve, inverse);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((PrimaryTheme<?>) theme).setTintPrimaryColor(value);
+                }
+            },
+            new ThemeProperty(Theme.Key.PRIMARY_DARK, Theme.Key.Short.PRIMARY_DARK,
+                    Theme.ColorType.PRIMARY_DARK, Kind.COLOR, Capability.PRIMARY, Flag.MUTABLE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((PrimaryTheme<?>) theme).getPrimaryColorDark(resolve, inverse);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((PrimaryTheme<?>) theme).setPrimaryColorDark(value, false);
+                }
+            },
+            new ThemeProperty(Theme.Key.TINT_PRIMARY_DARK, Theme.Key.Short.TINT_PRIMARY_DARK,
+                    Theme.ColorType.TINT_PRIMARY_DARK, Kind.COLOR, Capability.PRIMARY, Flag.NONE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((PrimaryTheme<?>) theme).getTintPrimaryColorDark(resolve, inverse);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((PrimaryTheme<?>) theme).setTintPrimaryColorDark(value);
+                }
+            },
+            new ThemeProperty(Theme.Key.ACCENT, Theme.Key.Short.ACCENT,
+                    Theme.ColorType.ACCENT, Kind.COLOR, Capability.ACCENT,
+                    Flag.DYNAMIC | Flag.MUTABLE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((AccentTheme<?>) theme).getAccentColor(resolve, inverse);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((AccentTheme<?>) theme).setAccentColor(value, false);
+                }
+            },
+            new ThemeProperty(Theme.Key.TINT_ACCENT, Theme.Key.Short.TINT_ACCENT,
+                    Theme.ColorType.TINT_ACCENT, Kind.COLOR, Capability.ACCENT, Flag.NONE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((AccentTheme<?>) theme).getTintAccentColor(resolve, inverse);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((AccentTheme<?>) theme).setTintAccentColor(value);
+                }
+            },
+            new ThemeProperty(Theme.Key.ACCENT_DARK, Theme.Key.Short.ACCENT_DARK,
+                    Theme.ColorType.ACCENT_DARK, Kind.COLOR, Capability.ACCENT, Flag.MUTABLE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((AccentTheme<?>) theme).getAccentColorDark(resolve, inverse);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((AccentTheme<?>) theme).setAccentColorDark(value, false);
+                }
+            },
+            new ThemeProperty(Theme.Key.TINT_ACCENT_DARK, Theme.Key.Short.TINT_ACCENT_DARK,
+                    Theme.ColorType.TINT_ACCENT_DARK, Kind.COLOR, Capability.ACCENT, Flag.NONE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((AccentTheme<?>) theme).getTintAccentColorDark(resolve, inverse);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((AccentTheme<?>) theme).setTintAccentColorDark(value);
+                }
+            },
+            new ThemeProperty(Theme.Key.ERROR, Theme.Key.Short.ERROR,
+                    Theme.ColorType.ERROR, Kind.COLOR, Capability.ERROR, Flag.MUTABLE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((ErrorTheme<?>) theme).getErrorColor(resolve, inverse);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((ErrorTheme<?>) theme).setErrorColor(value, false);
+                }
+            },
+            new ThemeProperty(Theme.Key.TINT_ERROR, Theme.Key.Short.TINT_ERROR,
+                    Theme.ColorType.TINT_ERROR, Kind.COLOR, Capability.ERROR, Flag.NONE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((ErrorTheme<?>) theme).getTintErrorColor(resolve, inverse);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((ErrorTheme<?>) theme).setTintErrorColor(value);
+                }
+            },
+            new ThemeProperty(Theme.Key.TEXT_PRIMARY, Theme.Key.Short.TEXT_PRIMARY,
+                    Theme.ColorType.TEXT_PRIMARY, Kind.COLOR, Capability.TEXT, Flag.NONE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((TextTheme<?>) theme).getTextPrimaryColor(resolve, inverse);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((TextTheme<?>) theme).setTextPrimaryColor(value, false);
+                }
+            },
+            new ThemeProperty(Theme.Key.TEXT_PRIMARY_INVERSE, Theme.Key.Short.TEXT_PRIMARY_INVERSE,
+                    Theme.ColorType.TEXT_PRIMARY_INVERSE, Kind.COLOR, Capability.TEXT, Flag.NONE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((TextTheme<?>) theme).getTextPrimaryColorInverse(resolve, inverse);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((TextTheme<?>) theme).setTextPrimaryColorInverse(value);
+                }
+            },
+            new ThemeProperty(Theme.Key.TEXT_SECONDARY, Theme.Key.Short.TEXT_SECONDARY,
+                    Theme.ColorType.TEXT_SECONDARY, Kind.COLOR, Capability.TEXT, Flag.NONE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((TextTheme<?>) theme).getTextSecondaryColor(resolve, inverse);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((TextTheme<?>) theme).setTextSecondaryColor(value, false);
+                }
+            },
+            new ThemeProperty(Theme.Key.TEXT_SECONDARY_INVERSE,
+                    Theme.Key.Short.TEXT_SECONDARY_INVERSE, Theme.ColorType.TEXT_SECONDARY_INVERSE,
+                    Kind.COLOR, Capability.TEXT, Flag.NONE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((TextTheme<?>) theme).getTextSecondaryColorInverse(resolve, inverse);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((TextTheme<?>) theme).setTextSecondaryColorInverse(value);
+                }
+            },
+            new ThemeProperty(Theme.Key.FONT_SCALE, Theme.Key.Short.FONT_SCALE,
+                    Theme.ColorType.UNKNOWN, Kind.FONT_SCALE, Capability.TEXT, Flag.NONE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((TextTheme<?>) theme).getFontScale(resolve);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((TextTheme<?>) theme).setFontScale(value);
+                }
+            },
+            new ThemeProperty(Theme.Key.CORNER_RADIUS, Theme.Key.Short.CORNER_RADIUS,
+                    Theme.ColorType.UNKNOWN, Kind.CORNER_RADIUS, Capability.CORNER, Flag.NONE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return DynamicThemeUtils.getCornerSize(
+                            ((CornerTheme<?>) theme).getCornerRadius(resolve));
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((CornerTheme<?>) theme).setCornerSize(value);
+                }
+            },
+            new ThemeProperty(Theme.Key.BACKGROUND_AWARE, Theme.Key.Short.BACKGROUND_AWARE,
+                    Theme.ColorType.UNKNOWN, Kind.BACKGROUND_AWARE, Capability.BACKGROUND_AWARE,
+                    Flag.NONE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((BackgroundAware<?>) theme).getBackgroundAware(resolve);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((BackgroundAware<?>) theme).setBackgroundAware(value);
+                }
+            },
+            new ThemeProperty(Theme.Key.CONTRAST, Theme.Key.Short.CONTRAST,
+                    Theme.ColorType.UNKNOWN, Kind.CONTRAST, Capability.BACKGROUND_AWARE,
+                    Flag.NONE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((BackgroundAware<?>) theme).getContrast(resolve);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((BackgroundAware<?>) theme).setContrast(value);
+                }
+            },
+            new ThemeProperty(Theme.Key.OPACITY, Theme.Key.Short.OPACITY,
+                    Theme.ColorType.UNKNOWN, Kind.OPACITY, Capability.TRANSLUCENT, Flag.NONE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((TranslucentTheme<?>) theme).getOpacity(resolve);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((TranslucentTheme<?>) theme).setOpacity(value);
+                }
+            },
+            new ThemeProperty(Theme.Key.ELEVATION, Theme.Key.Short.ELEVATION,
+                    Theme.ColorType.UNKNOWN, Kind.ELEVATION, Capability.ELEVATION, Flag.NONE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((ElevationTheme<?>) theme).getElevation(resolve);
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((ElevationTheme<?>) theme).setElevation(value);
+                }
+            },
+            new ThemeProperty(Theme.Key.STYLE, Theme.Key.Short.STYLE,
+                    Theme.ColorType.UNKNOWN, Kind.STYLE, Capability.STYLE, Flag.NONE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((StyleTheme<?>) theme).getStyle();
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((StyleTheme<?>) theme).setStyle(value);
+                }
+            },
+            new ThemeProperty(Theme.Key.HEADER, Theme.Key.Short.HEADER,
+                    Theme.ColorType.UNKNOWN, Kind.VISIBILITY, Capability.WIDGET,
+                    Capability.APP_WIDGET, Flag.NONE) {
+                @Override
+                public int get(@NonNull Object theme, boolean resolve, boolean inverse) {
+                    return ((WidgetTheme<?, ?>) theme).getHeader();
+                }
+
+                @Override
+                public void set(@NonNull Object theme, int value) {
+                    ((WidgetTheme<?, ?>) theme).setHeader(value);
+                }
+            } };
+
+    /**
+     * Properties for the long and short keys.
+     */
+    private static final Map<String, ThemeProperty> KEYS = new HashMap<>();
+
+    /**
+     * Color properties for the color types.
+     */
+    private static final ThemeProperty[] COLORS =
+            new ThemeProperty[Theme.ColorType.TINT_ERROR + 1];
+
+    /**
+     * Capabilities for each theme class, so the interfaces are checked only once.
+     */
+    private static final Map<Class<?>, Integer> CAPABILITIES = new ConcurrentHashMap<>();
+
+    /**
+     * Offset basis for the fingerprint.
+     */
+    private static final long FINGERPRINT_OFFSET = 0xcbf29ce484222325L;
+
+    /**
+     * Prime for the fingerprint.
+     */
+    private static final long FINGERPRINT_PRIME = 0x100000001b3L;
+
+    static {
+        for (int i = 0; i < PROPERTIES.length; i++) {
+            final ThemeProperty property = PROPERTIES[i];
+            property.mIndex = i;
+
+            KEYS.put(property.getKey(), property);
+            KEYS.put(property.getShortKey(), property);
+
+            if (property.isColor()) {
+                COLORS[property.getColorType()] = property;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of properties in this schema.
+     *
+     * @return The number of properties in this schema.
+     */
+    public static int size() {
+        return PROPERTIES.length;
+    }
+
+    /**
+     * Returns the property at the supplied index.
+     *
+     * @param index The index of the property.
+     *
+     * @return The property at the supplied index.
+     */
+    public static @NonNull ThemeProperty get(int index) {
+        return PROPERTIES[index];
+    }
+
+    /**
+     * Returns the property for a long or short key.
+     *
+     * @param key The key of the property.
+     *
+     * @return The property for the key, otherwise {@code null}.
+     */
+    public static @Nullable ThemeProperty get(@Nullable String key) {
+        return key != null ? KEYS.get(key) : null;
+    }
+
+    /**
+     * Returns the color property for a color type.
+     *
+     * @param colorType The color type of the property.
+     *
+     * @return The color property for the color type, otherwise {@code null}.
+     */
+    public static @Nullable ThemeProperty getColor(@Theme.ColorType int colorType) {
+        return colorType >= 0 && colorType < COLORS.length ? COLORS[colorType] : null;
+    }
+
+    /**
+     * Returns the capabilities for a theme class.
+     * <p>They are computed once for each class and cached for the subsequent calls.
+     *
+     * @param type The theme class to be used.
+     *
+     * @return The capabilities for the implemented theme types.
+     *
+     * @see Capability
+     */
+    public static int getCapabilities(@NonNull Class<?> type) {
+        Integer capabilities = CAPABILITIES.get(type);
+        if (capabilities == null) {
+            int bits = 0;
+            for (int i = 0; i < TYPES.length; i++) {
+                if (TYPES[i].isAssignableFrom(type)) {
+                    bits |= 1 << i;
+                }
+            }
+
+            capabilities = bits;
+            CAPABILITIES.put(type, capabilities);
+        }
+
+        return capabilities;
+    }
+
+    /**
+     * Returns the capabilities for a theme.
+     *
+     * @param theme The theme to be used.
+     *
+     * @return The capabilities for the theme, otherwise {@code 0}.
+     *
+     * @see #getCapabilities(Class)
+     */
+    public static int getCapabilities(@Nullable Object theme) {
+        return theme != null ? getCapabilities(theme.getClass()) : 0;
+    }
+
+    /**
+     * Reads the canonical form of a theme, that is the raw values of all the properties in
+     * the schema order.
+     * <p>The values are not resolved and {@link Theme#AUTO} is used for the properties
+     * that are not supported by the theme.
+     *
+     * @param theme The theme to be read.
+     * @param values The array to store the values, it must have at least {@link #size()}
+     *               elements.
+     *
+     * @return The capabilities of the theme.
+     */
+    public static int getValues(@NonNull Object theme, @NonNull int[] values) {
+        final int capabilities = getCapabilities(theme.getClass());
+
+        for (int i = 0; i < PROPERTIES.length; i++) {
+            final ThemeProperty property = PROPERTIES[i];
+            values[i] = property.isSupported(capabilities)
+                    ? property.get(theme, false, false) : Theme.AUTO;
+        }
+
+        return capabilities;
+    }
+
+    /**
+     * Returns the stable 64-bit fingerprint for the canonical form of a theme.
+     * <p>It does not depend on the theme class or the process, so it can be used to
+     * compare, dedupe or cache the themes without serializing them.
+     *
+     * @param capabilities The capabilities of the theme.
+     * @param values The canonical values of the theme.
+     *
+     * @return The fingerprint for the canonical form of a theme.
+     *
+     * @see #getValues(Object, int[])
+     */
+    public static long getFingerprint(int capabilities, @NonNull int[] values) {
+        long fingerprint = FINGERPRINT_OFFSET;
+        fingerprint = (fingerprint ^ capabilities) * FINGERPRINT_PRIME;
+
+        for (int i = 0; i < PROPERTIES.length; i++) {
+            fingerprint = (fingerprint ^ (values[i] & 0xffffffffL)) * FINGERPRINT_PRIME;
+        }
+
+        return mix(fingerprint);
+    }
+
+    /**
+     * Returns the stable 64-bit fingerprint for a theme.
+     * <p>It is computed over the raw values without building the canonical form, so it
+     * is same as {@link #getFingerprint(int, int[])} without any allocation.
+     *
+     * @param theme The theme to be used.
+     *
+     * @return The fingerprint for the theme, otherwise {@code 0}.
+     */
+    public static long getFingerprint(@Nullable Object theme) {
+        if (theme == null) {
+            return 0;
+        }
+
+        final int capabilities = getCapabilities(theme.getClass());
+        long fingerprint = FINGERPRINT_OFFSET;
+        fingerprint = (fingerprint ^ capabilities) * FINGERPRINT_PRIME;
+
+        for (ThemeProperty property : PROPERTIES) {
+            final int value = property.isSupported(capabilities)
+                    ? property.get(theme, false, false) : Theme.AUTO;
+            fingerprint = (fingerprint ^ (value & 0xffffffffL)) * FINGERPRINT_PRIME;
+        }
+
+        return mix(fingerprint);
+    }
+
+    /**
+     * Mixes the bits of a fingerprint so that a small change in the values affects all
+     * the bits.
+     *
+     * @param fingerprint The fingerprint to be mixed.
+     *
+     * @return The mixed fingerprint.
+     */
+    private static long mix(long fingerprint) {
+        fingerprint ^= fingerprint >>> 33;
+        fingerprint *= 0xff51afd7ed558ccdL;
+        fingerprint ^= fingerprint >>> 33;
+        fingerprint *= 0xc4ceb9fe1a85ec53L;
+        fingerprint ^= fingerprint >>> 33;
+
+        return fingerprint;
+    }
+}
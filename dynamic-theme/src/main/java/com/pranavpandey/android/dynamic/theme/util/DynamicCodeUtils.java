@@ -20,10 +20,9 @@ import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
+import android.graphics.Path;
 import android.graphics.PorterDuff;
 import android.graphics.PorterDuffColorFilter;
-import android.graphics.PorterDuffXfermode;
-import android.graphics.Rect;
 import android.graphics.RectF;
 import android.graphics.drawable.Drawable;
 import android.graphics.drawable.GradientDrawable;
@@ -49,14 +48,15 @@ import com.google.zxing.qrcode.encoder.Encoder;
 import com.pranavpandey.android.dynamic.theme.AppTheme;
 import com.pranavpandey.android.dynamic.theme.Theme;
 import com.pranavpandey.android.dynamic.theme.base.CodeTheme;
-import com.pranavpandey.android.dynamic.theme.base.CornerTheme;
-import com.pranavpandey.android.dynamic.theme.base.StrokeTheme;
-import com.pranavpandey.android.dynamic.theme.base.TranslucentTheme;
+import com.pranavpandey.android.dynamic.theme.cache.CodeMatrixCache;
+import com.pranavpandey.android.dynamic.theme.schema.ResolvedTheme;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeSchema;
 import com.pranavpandey.android.dynamic.util.DynamicBitmapUtils;
 import com.pranavpandey.android.dynamic.util.DynamicColorUtils;
 import com.pranavpandey.android.dynamic.util.DynamicDrawableUtils;
 import com.pranavpandey.android.dynamic.util.DynamicUnitUtils;
 
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.Map;
 
@@ -85,6 +85,70 @@ public class DynamicCodeUtils {
      */
     public static final String LINE_BREAK = "\\\\n";
 
+    /**
+     * Pixels of a QR Code rendered without using the {@link Canvas}.
+     *
+     * @see #renderCodePixels(ResolvedTheme, ByteMatrix, int)
+     */
+    public static class Pixels {
+
+        /**
+         * Width of the rendered QR Code.
+         */
+        private final int mWidth;
+
+        /**
+         * Height of the rendered QR Code.
+         */
+        private final int mHeight;
+
+        /**
+         * {@code ARGB} pixels of the rendered QR Code, one row after another.
+         */
+        private final @NonNull int[] mPixels;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param width The width of the rendered QR Code.
+         * @param height The height of the rendered QR Code.
+         * @param pixels The pixels of the rendered QR Code.
+         */
+        Pixels(int width, int height, @NonNull int[] pixels) {
+            this.mWidth = width;
+            this.mHeight = height;
+            this.mPixels = pixels;
+        }
+
+        /**
+         * Returns the width of the rendered QR Code.
+         *
+         * @return The width of the rendered QR Code.
+         */
+        public int getWidth() {
+            return mWidth;
+        }
+
+        /**
+         * Returns the height of the rendered QR Code.
+         *
+         * @return The height of the rendered QR Code.
+         */
+        public int getHeight() {
+            return mHeight;
+        }
+
+        /**
+         * Returns the {@code ARGB} pixels of the rendered QR Code.
+         * <p>The rows are stored one after another with a stride of the width.
+         *
+         * @return The pixels of the rendered QR Code.
+         */
+        public @NonNull int[] getPixels() {
+            return mPixels;
+        }
+    }
+
     /**
      * Format data to suitable for the code.
      * 
@@ -97,7 +161,49 @@ public class DynamicCodeUtils {
             return null;
         }
 
-        return data.replaceAll(PATTERN_LINE_BREAK, LINE_BREAK);
+        final int length = data.length();
+        StringBuilder builder = null;
+
+        for (int i = 0; i < length; i++) {
+            final char c = data.charAt(i);
+
+            if (isLineBreak(c)) {
+                if (builder == null) {
+                    builder = new StringBuilder(length + 16);
+                    builder.append(data, 0, i);
+                }
+
+                builder.append('\\').append('n');
+            } else if (builder != null) {
+                builder.append(c);
+            }
+        }
+
+        return builder != null ? builder.toString() : data;
+    }
+
+    /**
+     * Checks whether the character is matched by the {@link #PATTERN_LINE_BREAK}.
+     *
+     * @param c The character to be checked.
+     *
+     * @return {@code true} if the character is a line break.
+     */
+    public static boolean isLineBreak(char c) {
+        return c == '\r' || c == '\n' || c == '|';
+    }
+
+    /**
+     * Checks whether the character is matched by the {@link #PATTERN_LINE_BREAK} or
+     * {@link #PATTERN_SPACE}.
+     *
+     * @param c The character to be checked.
+     *
+     * @return {@code true} if the character is a line break or white space.
+     */
+    public static boolean isSpace(char c) {
+        return isLineBreak(c) || c == ' ' || c == '\t'
+                || c == '\u000B' || c == '\f' || c == '+';
     }
 
     /**
@@ -288,8 +394,135 @@ public class DynamicCodeUtils {
             return null;
         }
 
+        return generateCode(ResolvedTheme.forCode(theme), data, overlay);
+    }
+
+    /**
+     * Generates a QR Code from the resolved theme snapshot.
+     * <p>All the theme values are read from the snapshot, so it can be reused to render
+     * the QR Code multiple times without resolving the theme again.
+     *
+     * @param theme The resolved code theme to generate the QR Code.
+     * @param data The data for the QR Code.
+     * @param overlay The optional QR Code overlay.
+     *
+     * @return The generated QR Code from the resolved theme.
+     *
+     * @see ResolvedTheme#isCode()
+     * @see com.pranavpandey.android.dynamic.theme.cache.CodeBitmapCache
+     */
+    public static @Nullable Bitmap generateCode(@Nullable ResolvedTheme theme,
+            @Nullable String data, @Nullable Drawable overlay) {
+        if (theme == null || !theme.isCode() || data == null) {
+            return null;
+        }
+
+        return CodeMatrixCache.getInstance().renderCodes(data, overlay, theme)[0];
+    }
+
+    /**
+     * Encodes the data into a QR Code matrix.
+     * <p>It does not use any cache, use the {@link CodeMatrixCache} to reuse the matrix.
+     *
+     * @param data The data for the QR Code.
+     * @param level The error correction level to be used.
+     * @param charset The character set to be used.
+     *
+     * @return The encoded QR Code matrix, otherwise {@code null} if the data cannot be
+     *         encoded.
+     */
+    public static @Nullable ByteMatrix encodeCode(@Nullable String data,
+            @NonNull ErrorCorrectionLevel level, @NonNull String charset) {
+        if (data == null) {
+            return null;
+        }
+
+        final Map<EncodeHintType, Object> hints = new EnumMap<>(EncodeHintType.class);
+        hints.put(EncodeHintType.CHARACTER_SET, charset);
+
+        try {
+            return Encoder.encode(data, level, hints).getMatrix();
+        } catch (Exception ignored) {
+        }
+
+        return null;
+    }
+
+    /**
+     * Renders the encoded QR Code matrix by using the resolved theme snapshot.
+     * <p>The matrix is only read, so the same matrix can be rendered with different styles
+     * or colors without encoding the data again.
+     *
+     * @param theme The resolved code theme to render the QR Code.
+     * @param byteMatrix The encoded QR Code matrix.
+     * @param overlay The optional QR Code overlay.
+     *
+     * @return The rendered QR Code from the resolved theme.
+     *
+     * @see #encodeCode(String, ErrorCorrectionLevel, String)
+     */
+    public static @Nullable Bitmap renderCode(@Nullable ResolvedTheme theme,
+            @Nullable ByteMatrix byteMatrix, @Nullable Drawable overlay) {
+        return renderCode(theme, byteMatrix, overlay, Theme.Size.DEFAULT);
+    }
+
+    /**
+     * Renders the encoded QR Code matrix by using the resolved theme snapshot.
+     * <p>The output size is increased if the QR Code modules or the background corners do not
+     * fit in the supplied size.
+     *
+     * @param theme The resolved code theme to render the QR Code.
+     * @param byteMatrix The encoded QR Code matrix.
+     * @param overlay The optional QR Code overlay.
+     * @param size The output size of the QR Code in pixels.
+     *
+     * @return The rendered QR Code from the resolved theme.
+     *
+     * @see #encodeCode(String, ErrorCorrectionLevel, String)
+     */
+    public static @Nullable Bitmap renderCode(@Nullable ResolvedTheme theme,
+            @Nullable ByteMatrix byteMatrix, @Nullable Drawable overlay, int size) {
+        if (theme == null || !theme.isCode() || byteMatrix == null) {
+            return null;
+        }
+
+        if (overlay == null) {
+            final Pixels pixels = renderCodePixels(theme, byteMatrix, size);
+
+            if (pixels != null) {
+                try {
+                    final Bitmap bitmap = Bitmap.createBitmap(pixels.getWidth(),
+                            pixels.getHeight(), Bitmap.Config.ARGB_8888);
+                    bitmap.setPixels(pixels.getPixels(), 0, pixels.getWidth(), 0, 0,
+                            pixels.getWidth(), pixels.getHeight());
+
+                    return bitmap;
+                } catch (Exception ignored) {
+                    return null;
+                }
+            }
+        }
+
+        return drawCode(theme, byteMatrix, overlay, size);
+    }
+
+    /**
+     * Draws the encoded QR Code matrix on a canvas by using the resolved theme snapshot.
+     * <p>It supports all the styles and backgrounds, so it is used when the theme cannot be
+     * rendered by the {@link #renderCodePixels(ResolvedTheme, ByteMatrix, int)}.
+     *
+     * @param theme The resolved code theme to render the QR Code.
+     * @param byteMatrix The encoded QR Code matrix.
+     * @param overlay The optional QR Code overlay.
+     * @param size The output size of the QR Code in pixels.
+     *
+     * @return The rendered QR Code from the resolved theme.
+     */
+    static @Nullable Bitmap drawCode(@NonNull ResolvedTheme theme,
+            @NonNull ByteMatrix byteMatrix, @Nullable Drawable overlay, int size) {
+        final boolean cornerTheme = (theme.getCapabilities()
+                & ThemeSchema.Capability.CORNER) != 0;
         Bitmap bitmap = null;
-        Bitmap bitmapCode;
         @ColorInt int backgroundColor =
                 DynamicColorUtils.removeAlpha(theme.getCodeBackgroundColor());
         @ColorInt int dataColor = DynamicColorUtils.removeAlpha(
@@ -307,19 +540,14 @@ public class DynamicCodeUtils {
                     theme.getCodeOverlayColor(), backgroundColor, theme.getCodeContrastRatio()));
         }
 
-        Map<EncodeHintType, Object> hints = new EnumMap<>(EncodeHintType.class);
-        hints.put(EncodeHintType.CHARACTER_SET, Theme.CHARACTER_SET);
-
         try {
-            ByteMatrix byteMatrix = Encoder.encode(data,
-                    getErrorCorrectionLevel(data), hints).getMatrix();
             int quietZone = Theme.Size.QUIET_ZONE;
             int inputWidth = byteMatrix.getWidth();
             int inputHeight = byteMatrix.getHeight();
             int codeWidth = inputWidth + (quietZone * 2);
             int codeHeight = inputHeight + (quietZone * 2);
-            int outputWidth = Math.max(Theme.Size.DEFAULT, codeWidth);
-            int outputHeight = Math.max(Theme.Size.DEFAULT, codeHeight);
+            int outputWidth = Math.max(size, codeWidth);
+            int outputHeight = Math.max(size, codeHeight);
             int multiple = Math.min(outputWidth / codeWidth, outputHeight / codeHeight);
 
             final int FINDER_SIZE = 7;
@@ -336,9 +564,9 @@ public class DynamicCodeUtils {
             float corner = Theme.Corner.MIN;
             int cornerDp = Theme.Corner.MIN;
 
-            if (theme instanceof CornerTheme) {
-                corner = ((CornerTheme<?>) theme).getCornerRadius();
-                cornerDp = ((CornerTheme<?>) theme).getCornerSize();
+            if (cornerTheme) {
+                corner = theme.getCodeCornerRadius();
+                cornerDp = theme.getCodeCornerSize();
 
                 final int startWidth = (outputWidth - codeWidth * multiple) / 2;
                 final int startHeight = (outputHeight - codeHeight * multiple) / 2;
@@ -361,21 +589,19 @@ public class DynamicCodeUtils {
             int finderDiameter = multiple * FINDER_SIZE;
             float cornerData = Theme.Corner.MIN;
 
-            if (theme instanceof CornerTheme) {
+            if (cornerTheme) {
                 cornerData = style == Theme.Code.Style.ROUND
-                        ? Math.min(((CornerTheme<?>) theme).getCornerRadius(), finderDiameter / 2)
+                        ? Math.min(theme.getCodeCornerRadius(), finderDiameter / 2)
                         : Theme.Corner.MIN;
             }
 
             bitmap = Bitmap.createBitmap(outputWidth, outputHeight, Bitmap.Config.ARGB_8888);
-            bitmapCode = Bitmap.createBitmap(outputWidth, outputHeight, Bitmap.Config.ARGB_8888);
             final Canvas canvas = new Canvas(bitmap);
-            final Canvas canvasCode = new Canvas(bitmapCode);
             final Paint paint = getPaint(style);
 
-            if (theme instanceof StrokeTheme) {
+            if (theme.isStrokeTheme()) {
                 final Drawable background;
-                if (((StrokeTheme<?>) theme).isStroke()) {
+                if (theme.isStroke()) {
                     background = DynamicCodeUtils.getCornerDrawableWithStroke(
                             outputWidth, outputHeight, cornerDp, backgroundColor,
                             false, theme.getCodeStrokeColor());
@@ -384,8 +610,8 @@ public class DynamicCodeUtils {
                             outputHeight, cornerDp, backgroundColor, false);
                 }
 
-                if (theme instanceof TranslucentTheme) {
-                    background.setAlpha(((TranslucentTheme<?>) theme).getOpacity());
+                if ((theme.getCapabilities() & ThemeSchema.Capability.TRANSLUCENT) != 0) {
+                    background.setAlpha(theme.getCodeOpacity());
                 }
 
                 background.setBounds(0, 0, outputWidth, outputHeight);
@@ -395,45 +621,62 @@ public class DynamicCodeUtils {
                 canvas.drawPaint(paint);
             }
 
+            // Batch the circles into a single path, the squares are faster to draw directly.
+            final Path pathData = new Path();
+            final boolean mergeRuns = style != Theme.Code.Style.OVAL && dataSize >= multiple;
+            paint.setColor(dataColor);
+
             for (int inputY = 0, outputY = topPadding; inputY < inputHeight;
                  inputY++, outputY += multiple) {
-                for (int inputX = 0, outputX = leftPadding; inputX < inputWidth;
+                int runStart = -1;
+
+                for (int inputX = 0, outputX = leftPadding; inputX <= inputWidth;
                      inputX++, outputX += multiple) {
-                    if (byteMatrix.get(inputX, inputY) == 1) {
-                        if (!(inputX <= FINDER_SIZE && inputY <= FINDER_SIZE
-                                || inputX >= inputWidth - FINDER_SIZE
-                                && inputY <= FINDER_SIZE
-                                || inputX <= FINDER_SIZE
-                                && inputY >= inputHeight - FINDER_SIZE
-                                || inputX >= inputCenterX - OVERLAY_SIZE_CENTER
-                                && inputX <= inputCenterX + OVERLAY_SIZE_CENTER
-                                && inputY >= inputCenterY - OVERLAY_SIZE_CENTER
-                                && inputY <= inputCenterY + OVERLAY_SIZE_CENTER)) {
-                            paint.setColor(dataColor);
-
-                            if (style == Theme.Code.Style.OVAL) {
-                                canvasCode.drawCircle(outputX, outputY, dataRadius, paint);
-                            } else {
-                                canvasCode.drawRect(new Rect(outputX, outputY,
-                                        outputX + dataSize, outputY + dataSize), paint);
-                            }
+                    final boolean module = inputX < inputWidth
+                            && byteMatrix.get(inputX, inputY) == 1
+                            && !(inputX <= FINDER_SIZE && inputY <= FINDER_SIZE
+                            || inputX >= inputWidth - FINDER_SIZE
+                            && inputY <= FINDER_SIZE
+                            || inputX <= FINDER_SIZE
+                            && inputY >= inputHeight - FINDER_SIZE
+                            || inputX >= inputCenterX - OVERLAY_SIZE_CENTER
+                            && inputX <= inputCenterX + OVERLAY_SIZE_CENTER
+                            && inputY >= inputCenterY - OVERLAY_SIZE_CENTER
+                            && inputY <= inputCenterY + OVERLAY_SIZE_CENTER);
+
+                    if (mergeRuns) {
+                        // Merge the adjacent squares into a single rectangle.
+                        if (module && runStart == -1) {
+                            runStart = outputX;
+                        } else if (!module && runStart != -1) {
+                            canvas.drawRect(runStart, outputY, outputX - multiple + dataSize,
+                                    outputY + dataSize, paint);
+                            runStart = -1;
+                        }
+                    } else if (module) {
+                        if (style == Theme.Code.Style.OVAL) {
+                            pathData.addCircle(outputX, outputY,
+                                    dataRadius, Path.Direction.CW);
+                        } else {
+                            canvas.drawRect(outputX, outputY, outputX + dataSize,
+                                    outputY + dataSize, paint);
                         }
                     }
                 }
             }
 
-            drawCodeFinder(canvasCode, leftPadding, topPadding, finderDiameter, paint,
+
+            canvas.drawPath(pathData, paint);
+
+            drawCodeFinder(canvas, leftPadding, topPadding, finderDiameter, paint,
                     finderExternalColor, finderInternalColor, cornerData, style);
-            drawCodeFinder(canvasCode, leftPadding + (inputWidth - FINDER_SIZE) * multiple,
+            drawCodeFinder(canvas, leftPadding + (inputWidth - FINDER_SIZE) * multiple,
                     topPadding, finderDiameter, paint, finderExternalColor,
                     finderInternalColor, cornerData, style);
-            drawCodeFinder(canvasCode, leftPadding, topPadding + (inputHeight - FINDER_SIZE)
+            drawCodeFinder(canvas, leftPadding, topPadding + (inputHeight - FINDER_SIZE)
                             * multiple, finderDiameter, paint, finderExternalColor,
                     finderInternalColor, cornerData, style);
 
-            canvas.drawBitmap(bitmapCode, 0, 0, null);
-            bitmapCode.recycle();
-
             if (overlay != null) {
                 Bitmap overlayBitmap = DynamicBitmapUtils.getBitmap(
                         overlay, overlaySize, overlaySize);
@@ -456,6 +699,169 @@ public class DynamicCodeUtils {
         return bitmap;
     }
 
+    /**
+     * Renders the encoded QR Code matrix into an {@code ARGB} pixel buffer without using
+     * the {@link Canvas}, so it can also be used on a JVM without the Android graphics.
+     * <p>It only supports the {@link Theme.Code.Style#SQUARE} style with an opaque square
+     * background, the themes with an enabled stroke, a translucent or a rounded background
+     * must be rendered by using the {@link #renderCode(ResolvedTheme, ByteMatrix, Drawable)}.
+     *
+     * @param theme The resolved code theme to render the QR Code.
+     * @param byteMatrix The encoded QR Code matrix.
+     *
+     * @return The pixels of the rendered QR Code with its width and height, otherwise
+     *         {@code null} if the theme is not supported.
+     */
+    public static @Nullable Pixels renderCodePixels(@Nullable ResolvedTheme theme,
+            @Nullable ByteMatrix byteMatrix) {
+        return renderCodePixels(theme, byteMatrix, Theme.Size.DEFAULT);
+    }
+
+    /**
+     * Renders the encoded QR Code matrix into an {@code ARGB} pixel buffer of the supplied
+     * size without using the {@link Canvas}.
+     *
+     * @param theme The resolved code theme to render the QR Code.
+     * @param byteMatrix The encoded QR Code matrix.
+     * @param size The output size of the QR Code in pixels.
+     *
+     * @return The pixels of the rendered QR Code with its width and height, otherwise
+     *         {@code null} if the theme is not supported.
+     *
+     * @see #renderCodePixels(ResolvedTheme, ByteMatrix)
+     */
+    public static @Nullable Pixels renderCodePixels(@Nullable ResolvedTheme theme,
+            @Nullable ByteMatrix byteMatrix, int size) {
+        if (theme == null || !theme.isCode() || byteMatrix == null
+                || theme.getCodeStyle() != Theme.Code.Style.SQUARE) {
+            return null;
+        }
+
+        // The background drawable of the stroke themes is only different from a solid fill
+        // if it has a stroke, translucency or rounded corners.
+        if (theme.isStrokeTheme() && (theme.isStroke()
+                || ((theme.getCapabilities() & ThemeSchema.Capability.TRANSLUCENT) != 0
+                && theme.getCodeOpacity() < Theme.Opacity.MAX)
+                || ((theme.getCapabilities() & ThemeSchema.Capability.CORNER) != 0
+                && theme.getCodeCornerSize() > Theme.Corner.MIN))) {
+            return null;
+        }
+
+        @ColorInt int backgroundColor =
+                DynamicColorUtils.removeAlpha(theme.getCodeBackgroundColor());
+        @ColorInt int dataColor = DynamicColorUtils.removeAlpha(
+                DynamicColorUtils.getContrastColor(theme.getCodeDataColor(),
+                        backgroundColor, theme.getCodeContrastRatio()));
+        @ColorInt int finderInternalColor = DynamicColorUtils.removeAlpha(
+                DynamicColorUtils.getContrastColor(theme.getCodeFinderColor(),
+                        backgroundColor, theme.getCodeContrastRatio()));
+
+        final int FINDER_SIZE = 7;
+        int quietZone = Theme.Size.QUIET_ZONE;
+        int inputWidth = byteMatrix.getWidth();
+        int inputHeight = byteMatrix.getHeight();
+        int codeWidth = inputWidth + (quietZone * 2);
+        int codeHeight = inputHeight + (quietZone * 2);
+        int outputWidth = Math.max(size, codeWidth);
+        int outputHeight = Math.max(size, codeHeight);
+        int multiple = Math.min(outputWidth / codeWidth, outputHeight / codeHeight);
+
+        if ((theme.getCapabilities() & ThemeSchema.Capability.CORNER) != 0) {
+            final float corner = theme.getCodeCornerRadius();
+            final int startWidth = (outputWidth - codeWidth * multiple) / 2;
+            final int startHeight = (outputHeight - codeHeight * multiple) / 2;
+
+            if (corner > Math.min(startWidth, startHeight)) {
+                final int factor = (int) (corner - Math.min(startWidth, startHeight));
+                outputWidth = outputWidth + factor;
+                outputHeight = outputHeight + factor;
+            }
+        }
+
+        int inputCenterX = inputWidth / 2;
+        int inputCenterY = inputHeight / 2;
+        int leftPadding = (outputWidth - (inputWidth * multiple)) / 2;
+        int topPadding = (outputHeight - (inputHeight * multiple)) / 2;
+        int finderDiameter = multiple * FINDER_SIZE;
+
+        final int[] pixels = new int[outputWidth * outputHeight];
+        Arrays.fill(pixels, backgroundColor);
+
+        for (int inputY = 0, outputY = topPadding; inputY < inputHeight;
+             inputY++, outputY += multiple) {
+            final int rowStart = outputY * outputWidth;
+            int runStart = -1;
+
+            for (int inputX = 0, outputX = leftPadding; inputX <= inputWidth;
+                 inputX++, outputX += multiple) {
+                final boolean module = inputX < inputWidth
+                        && byteMatrix.get(inputX, inputY) == 1
+                        && !(inputX <= FINDER_SIZE && inputY <= FINDER_SIZE
+                        || inputX >= inputWidth - FINDER_SIZE
+                        && inputY <= FINDER_SIZE
+                        || inputX <= FINDER_SIZE
+                        && inputY >= inputHeight - FINDER_SIZE
+                        || inputX == inputCenterX && inputY == inputCenterY);
+
+                if (module && runStart == -1) {
+                    runStart = outputX;
+                } else if (!module && runStart != -1) {
+                    Arrays.fill(pixels, rowStart + runStart, rowStart + outputX, dataColor);
+                    runStart = -1;
+                }
+            }
+
+            // Copy the first pixel row to the remaining rows of the modules.
+            for (int row = 1; row < multiple; row++) {
+                System.arraycopy(pixels, rowStart, pixels,
+                        rowStart + row * outputWidth, outputWidth);
+            }
+        }
+
+        fillCodeFinder(pixels, outputWidth, leftPadding, topPadding, finderDiameter,
+                dataColor, backgroundColor, finderInternalColor);
+        fillCodeFinder(pixels, outputWidth, leftPadding + (inputWidth - FINDER_SIZE)
+                * multiple, topPadding, finderDiameter, dataColor, backgroundColor,
+                finderInternalColor);
+        fillCodeFinder(pixels, outputWidth, leftPadding, topPadding
+                + (inputHeight - FINDER_SIZE) * multiple, finderDiameter, dataColor,
+                backgroundColor, finderInternalColor);
+
+        return new Pixels(outputWidth, outputHeight, pixels);
+    }
+
+    /**
+     * Fills the square finder for the QR Code in the pixel buffer.
+     *
+     * @param pixels The pixel buffer to be used.
+     * @param width The width of the pixel buffer.
+     * @param x The x-axis start location.
+     * @param y The y-axis start location.
+     * @param diameter The diameter to be used.
+     * @param parent The parent color to be set.
+     * @param background The background color to be set.
+     * @param child The child color to be set.
+     */
+    private static void fillCodeFinder(@NonNull int[] pixels, int width, int x, int y,
+            int diameter, @ColorInt int parent, @ColorInt int background, @ColorInt int child) {
+        final int PARENT_OFFSET = diameter / 7;
+        final int CHILD_OFFSET = diameter * 2 / 7;
+
+        for (int row = 0; row < diameter; row++) {
+            final int rowStart = (y + row) * width + x;
+
+            Arrays.fill(pixels, rowStart, rowStart + diameter, parent);
+            if (row >= PARENT_OFFSET && row < diameter - PARENT_OFFSET) {
+                Arrays.fill(pixels, rowStart + PARENT_OFFSET,
+                        rowStart + diameter - PARENT_OFFSET, background);
+            }
+            if (row >= CHILD_OFFSET && row < diameter - CHILD_OFFSET) {
+                Arrays.fill(pixels, rowStart + CHILD_OFFSET,
+                        rowStart + diameter - CHILD_OFFSET, child);
+            }
+        }
+    }
+
     /**
      * Draws the finder for the QR Code according to the supplied parameters.
      *
@@ -480,34 +886,40 @@ public class DynamicCodeUtils {
         final int PARENT_OFFSET = diameter / 7;
         final int CHILD_SIZE = diameter * 3 / 7;
         final int CHILD_OFFSET = diameter * 2 / 7;
-        final Paint clear = new Paint(Paint.ANTI_ALIAS_FLAG | Paint.DITHER_FLAG);
-        clear.setXfermode(new PorterDuffXfermode(PorterDuff.Mode.CLEAR));
+        final Path ring = new Path();
+        ring.setFillType(Path.FillType.EVEN_ODD);
 
+        // Draw the outer ring as a path with a hole, so it does not clear the canvas. The hole
+        // is added in the opposite direction as the nested rectangles are drawn as a filled
+        // rectangle if both have the same direction, even with the even-odd fill type.
         if (style == Theme.Code.Style.OVAL) {
+            ring.addCircle(x + PARENT_OFFSET + CHILD_OFFSET, y + PARENT_OFFSET + CHILD_OFFSET,
+                    diameter / 2f, Path.Direction.CW);
+            ring.addCircle(x + PARENT_OFFSET + CHILD_OFFSET, y + PARENT_OFFSET + CHILD_OFFSET,
+                    PARENT_SIZE / 2f, Path.Direction.CCW);
             paint.setColor(parent);
-            canvas.drawCircle(x + PARENT_OFFSET + CHILD_OFFSET,
-                    y + PARENT_OFFSET + CHILD_OFFSET, diameter / 2f, paint);
-            canvas.drawCircle(x + PARENT_OFFSET + CHILD_OFFSET,
-                    y + PARENT_OFFSET + CHILD_OFFSET, PARENT_SIZE / 2f, clear);
+            canvas.drawPath(ring, paint);
             paint.setColor(child);
             canvas.drawCircle(x + PARENT_OFFSET + CHILD_OFFSET,
                     y + PARENT_OFFSET + CHILD_OFFSET, CHILD_SIZE / 2f, paint);
         } else if (style == Theme.Code.Style.ROUND) {
-            paint.setColor(parent);
-            canvas.drawRoundRect(new RectF(x, y, x + diameter,
-                    y + diameter), corner, corner, paint);
-            canvas.drawRoundRect(new RectF(x + PARENT_OFFSET, y + PARENT_OFFSET,
+            ring.addRoundRect(new RectF(x, y, x + diameter, y + diameter),
+                    corner, corner, Path.Direction.CW);
+            ring.addRoundRect(new RectF(x + PARENT_OFFSET, y + PARENT_OFFSET,
                     x + diameter - PARENT_OFFSET, y + diameter - PARENT_OFFSET),
-                    corner, corner, clear);
+                    corner, corner, Path.Direction.CCW);
+            paint.setColor(parent);
+            canvas.drawPath(ring, paint);
             paint.setColor(child);
             canvas.drawRoundRect(new RectF(x + CHILD_OFFSET, y + CHILD_OFFSET,
                     x + diameter - CHILD_OFFSET, y + diameter - CHILD_OFFSET),
                     corner, corner, paint);
         } else {
+            ring.addRect(x, y, x + diameter, y + diameter, Path.Direction.CW);
+            ring.addRect(x + PARENT_OFFSET, y + PARENT_OFFSET, x + diameter - PARENT_OFFSET,
+                    y + diameter - PARENT_OFFSET, Path.Direction.CCW);
             paint.setColor(parent);
-            canvas.drawRect(new Rect(x, y, x + diameter, y + diameter), paint);
-            canvas.drawRect(x + PARENT_OFFSET, y + PARENT_OFFSET,
-                    x + diameter - PARENT_OFFSET, y + diameter - PARENT_OFFSET, clear);
+            canvas.drawPath(ring, paint);
             paint.setColor(child);
             canvas.drawRect(x + CHILD_OFFSET, y + CHILD_OFFSET,
                     x + diameter - CHILD_OFFSET, y + diameter - CHILD_OFFSET, paint);
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.theme.util;
+
+import android.graphics.Color;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+
+import com.pranavpandey.android.dynamic.theme.Theme;
+
+import java.io.IOException;
+
+/**
+ * Helper class to format and parse the hex colors without any temporary strings.
+ */
+public class DynamicHexUtils {
+
+    /**
+     * Characters used to write the hex digits.
+     */
+    private static final char[] DIGITS = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * Values of the hex digits according to their characters, {@code -1} for the
+     * invalid characters.
+     */
+    private static final byte[] VALUES = new byte[128];
+
+    /**
+     * Maximum length of a formatted color including its prefix.
+     */
+    public static final int LENGTH_MAX = 9;
+
+    /**
+     * Character for the hash prefix.
+     */
+    public static final char HASH = '#';
+
+    /**
+     * Character for the short hash prefix.
+     */
+    public static final char HASH_SHORT = 'X';
+
+    /**
+     * Buffer for the current thread to format the colors.
+     */
+    private static final ThreadLocal<char[]> BUFFER = new ThreadLocal<char[]>() {
+        @Override
+        protected char[] initialValue() {
+            return new char[LENGTH_MAX];
+        }
+    };
+
+    static {
+        for (int i = 0; i < VALUES.length; i++) {
+            VALUES[i] = -1;
+        }
+
+        for (int i = 0; i < DIGITS.length; i++) {
+            VALUES[DIGITS[i]] = (byte) i;
+            VALUES[Character.toLowerCase(DIGITS[i])] = (byte) i;
+        }
+    }
+
+    /**
+     * Checks whether the color has a non-opaque alpha and should be written with 8 digits.
+     *
+     * @param color The color to be checked.
+     *
+     * @return {@code true} if the color has a non-opaque alpha.
+     */
+    public static boolean isAlpha(@ColorInt int color) {
+        return (color >>> 24) != 0xFF;
+    }
+
+    /**
+     * Writes the color with a prefix into the supplied buffer.
+     * <p>It writes {@code RRGGBB} for the opaque colors, otherwise {@code AARRGGBB}.
+     *
+     * @param color The color to be written.
+     * @param prefix The prefix to be written before the digits.
+     * @param buffer The buffer to write the color.
+     * @param offset The offset in the buffer to start writing.
+     *
+     * @return The number of characters written.
+     */
+    public static int write(@ColorInt int color, char prefix,
+            @NonNull char[] buffer, int offset) {
+        int index = offset;
+        buffer[index++] = prefix;
+
+        for (int shift = isAlpha(color) ? 28 : 20; shift >= 0; shift -= 4) {
+            buffer[index++] = DIGITS[(color >>> shift) & 0xF];
+        }
+
+        return index - offset;
+    }
+
+    /**
+     * Appends the color with a prefix to the supplied appendable.
+     *
+     * @param color The color to be appended.
+     * @param prefix The prefix to be appended before the digits.
+     * @param appendable The appendable to append the color.
+     * @param <A> The type of the appendable.
+     *
+     * @return The supplied appendable to allow for chaining of calls.
+     *
+     * @throws IOException If the appendable throws an I/O exception.
+     */
+    public static <A extends Appendable> @NonNull A append(@ColorInt int color,
+            char prefix, @NonNull A appendable) throws IOException {
+        appendable.append(prefix);
+
+        for (int shift = isAlpha(color) ? 28 : 20; shift >= 0; shift -= 4) {
+            appendable.append(DIGITS[(color >>> shift) & 0xF]);
+        }
+
+        return appendable;
+    }
+
+    /**
+     * Appends the color with a prefix to the supplied builder.
+     *
+     * @param color The color to be appended.
+     * @param prefix The prefix to be appended before the digits.
+     * @param builder The builder to append the color.
+     *
+     * @return The supplied builder to allow for chaining of calls.
+     */
+    public static @NonNull StringBuilder append(@ColorInt int color,
+            char prefix, @NonNull StringBuilder builder) {
+        builder.append(prefix);
+
+        for (int shift = isAlpha(color) ? 28 : 20; shift >= 0; shift -= 4) {
+            builder.append(DIGITS[(color >>> shift) & 0xF]);
+        }
+
+        return builder;
+    }
+
+    /**
+     * Converts the color into its hex string with the {@link #HASH} prefix.
+     *
+     * @param color The color to be converted.
+     *
+     * @return The hex string for the color.
+     */
+    public static @NonNull String toString(@ColorInt int color) {
+        final char[] buffer = BUFFER.get();
+
+        return new String(buffer, 0, write(color, HASH, buffer, 0));
+    }
+
+    /**
+     * Parses the color from a hex string with the {@link #HASH} or {@link #HASH_SHORT}
+     * prefix.
+     * <p>It supports {@code RRGGBB} and {@code AARRGGBB} digits, any other value will be
+     * parsed by using the {@link Color#parseColor(String)}.
+     *
+     * @param value The value to be parsed.
+     *
+     * @return The parsed color.
+     *
+     * @throws IllegalArgumentException If the value is not a valid color.
+     */
+    public static @ColorInt int parse(@NonNull CharSequence value) {
+        return parse(value, 0, value.length());
+    }
+
+    /**
+     * Parses the color from a range of a hex string with the {@link #HASH} or
+     * {@link #HASH_SHORT} prefix.
+     * <p>It supports {@code RRGGBB} and {@code AARRGGBB} digits, any other value will be
+     * parsed by using the {@link Color#parseColor(String)}.
+     *
+     * @param value The value to be parsed.
+     * @param start The start index of the range (inclusive).
+     * @param end The end index of the range (exclusive).
+     *
+     * @return The parsed color.
+     *
+     * @throws IllegalArgumentException If the value is not a valid color.
+     */
+    public static @ColorInt int parse(@NonNull CharSequence value, int start, int end) {
+        final int length = end - start - 1;
+
+        if ((length == 6 || length == 8) && (value.charAt(start) == HASH
+                || value.charAt(start) == HASH_SHORT)) {
+            int color = 0;
+
+            for (int i = start + 1; i < end; i++) {
+                final char c = value.charAt(i);
+                final int digit = c < VALUES.length ? VALUES[c] : -1;
+
+                if (digit == -1) {
+                    return parseColor(value, start, end);
+                }
+
+                color = (color << 4) | digit;
+            }
+
+            return length == 6 ? color | 0xFF000000 : color;
+        }
+
+        return parseColor(value, start, end);
+    }
+
+    /**
+     * Parses the color by using the {@link Color#parseColor(String)}.
+     *
+     * @param value The value to be parsed.
+     * @param start The start index of the range (inclusive).
+     * @param end The end index of the range (exclusive).
+     *
+     * @return The parsed color.
+     *
+     * @throws IllegalArgumentException If the value is not a valid color.
+     */
+    private static @ColorInt int parseColor(@NonNull CharSequence value, int start, int end) {
+        return Color.parseColor(value.subSequence(start, end).toString().replace(
+                Theme.Value.Short.HASH, Theme.Value.HASH));
+    }
+}
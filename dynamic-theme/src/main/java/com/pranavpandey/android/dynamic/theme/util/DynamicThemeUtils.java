@@ -26,7 +26,6 @@ import android.content.Intent;
 import android.content.pm.PackageManager;
 import android.content.pm.ResolveInfo;
 import android.graphics.Bitmap;
-import android.graphics.Color;
 import android.net.Uri;
 import android.os.Build;
 import android.text.TextUtils;
@@ -40,22 +39,29 @@ import androidx.palette.graphics.Palette;
 import com.pranavpandey.android.dynamic.theme.AppTheme;
 import com.pranavpandey.android.dynamic.theme.Theme;
 import com.pranavpandey.android.dynamic.theme.ThemeContract;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
 import com.pranavpandey.android.dynamic.theme.base.StringTheme;
+import com.pranavpandey.android.dynamic.theme.codec.ThemeCodec;
+import com.pranavpandey.android.dynamic.theme.codec.ThemeCodecRegistry;
+import com.pranavpandey.android.dynamic.theme.codec.ThemeDeflateCodec;
+import com.pranavpandey.android.dynamic.theme.codec.ThemeDeltaCodec;
+import com.pranavpandey.android.dynamic.theme.codec.ThemeUrlDecoder;
+import com.pranavpandey.android.dynamic.theme.codec.ThemeValidator;
+import com.pranavpandey.android.dynamic.theme.codec.ThemeUrlEncoder;
+import com.pranavpandey.android.dynamic.theme.importer.ThemeImporter;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeProperty;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeSchema;
 import com.pranavpandey.android.dynamic.util.DynamicBitmapUtils;
-import com.pranavpandey.android.dynamic.util.DynamicColorUtils;
 import com.pranavpandey.android.dynamic.util.DynamicDeviceUtils;
 import com.pranavpandey.android.dynamic.util.DynamicFileUtils;
 import com.pranavpandey.android.dynamic.util.DynamicIntentUtils;
 import com.pranavpandey.android.dynamic.util.DynamicSdkUtils;
 import com.pranavpandey.android.dynamic.util.DynamicUnitUtils;
 
-import org.json.JSONObject;
-
 import java.io.File;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -160,8 +166,7 @@ public class DynamicThemeUtils {
         if (value == Theme.AUTO) {
             return Theme.Value.AUTO;
         } else {
-            return DynamicColorUtils.getColorString(value,
-                    DynamicColorUtils.isAlpha(value), true);
+            return DynamicHexUtils.toString(value);
         }
     }
 
@@ -176,7 +181,7 @@ public class DynamicThemeUtils {
         if (Theme.Value.AUTO.equals(value) || Theme.Value.Short.AUTO.equals(value)) {
             return Theme.AUTO;
         } else {
-            return Color.parseColor(value.replace(Theme.Value.Short.HASH, Theme.Value.HASH));
+            return DynamicHexUtils.parse(value);
         }
     }
 
@@ -228,6 +233,42 @@ public class DynamicThemeUtils {
         }
     }
 
+    /**
+     * Converts the corner size in dips into its string equivalent.
+     *
+     * @param value The value to be converted.
+     *
+     * @return The string equivalent of the corner size.
+     */
+    public static @NonNull String getValueFromCornerSize(int value) {
+        switch (value) {
+            case Theme.Corner.AUTO:
+                return Theme.Value.AUTO;
+            case Theme.Corner.SYSTEM:
+                return Theme.Value.SYSTEM;
+            default:
+                return String.valueOf(value);
+        }
+    }
+
+    /**
+     * Converts the corner radius in pixels into the corner size in dips.
+     * <p>The auto and system corner values are returned as they are.
+     *
+     * @param cornerRadius The corner radius in pixels to be converted.
+     *
+     * @return The corner size in dips.
+     */
+    public static int getCornerSize(int cornerRadius) {
+        switch (cornerRadius) {
+            case Theme.Corner.AUTO:
+            case Theme.Corner.SYSTEM:
+                return cornerRadius;
+            default:
+                return DynamicUnitUtils.convertPixelsToDp(cornerRadius);
+        }
+    }
+
     /**
      * Converts the corner radius string into its integer equivalent.
      *
@@ -543,17 +584,24 @@ public class DynamicThemeUtils {
      */
     public static @NonNull String format(@NonNull String string) {
         try {
-            String[] query = string.trim().split(Theme.QUERY);
-            String theme = query.length > 1 && !TextUtils.isEmpty(query[1])
-                    ? decodeTheme(query[1]) : string.trim();
+            final String trimmed = string.trim();
+            String theme = null;
 
-            if (theme == null) {
-                theme = string.trim();
+            int start = trimmed.indexOf(Theme.QUERY);
+            if (start != -1) {
+                start += Theme.QUERY.length();
+
+                int end = trimmed.indexOf(Theme.QUERY, start);
+                if (end == -1) {
+                    end = trimmed.length();
+                }
+
+                if (end > start) {
+                    theme = decodeTheme(trimmed.substring(start, end));
+                }
             }
 
-            return theme.replaceAll(DynamicCodeUtils.PATTERN_LINE_BREAK, "")
-                    .replaceAll(DynamicCodeUtils.PATTERN_SPACE, "")
-                    .replaceAll(DynamicCodeUtils.PATTERN_QUOTES, "\"");
+            return normalize(theme != null ? theme : trimmed);
         } catch (Exception ignored) {
         }
 
@@ -561,28 +609,51 @@ public class DynamicThemeUtils {
     }
 
     /**
-     * Checks whether the string is a valid JSON.
+     * Removes the line breaks and white spaces from the theme string in a single pass.
+     * <p>It is equivalent to replacing the {@link DynamicCodeUtils#PATTERN_LINE_BREAK},
+     * {@link DynamicCodeUtils#PATTERN_SPACE} and {@link DynamicCodeUtils#PATTERN_QUOTES}
+     * without compiling a pattern for each call.
      *
-     * @param string The string to be checked.
+     * @param string The theme string to be normalized.
      *
-     * @return {@code true} if the supplied string is a valid JSON.
+     * @return The normalized theme string.
      */
-    public static boolean isValidTheme(@Nullable String string) {
-        boolean validTheme = false;
+    public static @NonNull String normalize(@NonNull String string) {
+        final int length = string.length();
+        int index = 0;
 
-        try {
-            if (string != null) {
-                new JSONObject(format(string));
-                validTheme = true;
-            }
-        } catch (Exception e) {
-            try {
-                validTheme = string.toLowerCase(Locale.ROOT).contains(Theme.URL);
-            } catch (Exception ignored) {
+        while (index < length && !DynamicCodeUtils.isSpace(string.charAt(index))) {
+            index++;
+        }
+
+        if (index == length) {
+            return string;
+        }
+
+        final StringBuilder builder = new StringBuilder(length);
+        builder.append(string, 0, index);
+
+        for (; index < length; index++) {
+            final char c = string.charAt(index);
+            if (!DynamicCodeUtils.isSpace(c)) {
+                builder.append(c);
             }
         }
 
-        return validTheme;
+        return builder.toString();
+    }
+
+    /**
+     * Checks whether the string is a valid theme JSON or URL.
+     *
+     * @param string The string to be checked.
+     *
+     * @return {@code true} if the supplied string is a valid theme.
+     *
+     * @see ThemeValidator
+     */
+    public static boolean isValidTheme(@Nullable String string) {
+        return ThemeValidator.validate(string).isValid();
     }
 
     /**
@@ -623,10 +694,14 @@ public class DynamicThemeUtils {
 
     /**
      * Encodes a dynamic theme.
+     * <p>The theme values are read through the schema, unless the theme overrides the
+     * {@link StringTheme#toDynamicString()}.
      *
      * @param theme The theme to be encoded.
      *
      * @return The encoded theme string.
+     *
+     * @see ThemeUrlEncoder
      */
     public static @Nullable String encodeTheme(@Nullable StringTheme<?> theme) {
         if (theme == null) {
@@ -636,14 +711,34 @@ public class DynamicThemeUtils {
         String string = null;
 
         try {
-            string = format(theme.toDynamicString());
-            Map<String, String> map = getThemeMap();
+            string = ThemeUrlEncoder.encodeTheme(theme);
+        } catch (Exception ignored) {
+        }
 
-            for (Map.Entry<String, String> element : map.entrySet()) {
-                string = string.replaceAll(element.getKey(), element.getValue());
-            }
+        return string;
+    }
+
+    /**
+     * Encodes only the values of a dynamic theme that differ from the base theme.
+     *
+     * @param theme The theme to be encoded.
+     * @param base The base theme known to the decoder.
+     *             <p>Pass {@code null} to use the auto values as base.
+     *
+     * @return The encoded delta theme string.
+     *
+     * @see ThemeDeltaCodec
+     */
+    public static @Nullable String encodeTheme(@Nullable StringTheme<?> theme,
+            @Nullable BaseTheme<?> base) {
+        if (theme == null) {
+            return null;
+        }
 
-            string = Uri.encode(string);
+        String string = null;
+
+        try {
+            string = ThemeDeltaCodec.encodeTheme(theme, base);
         } catch (Exception ignored) {
         }
 
@@ -652,6 +747,7 @@ public class DynamicThemeUtils {
 
     /**
      * Decodes a theme string.
+     * <p>It detects the format by using the {@link ThemeCodecRegistry}.
      *
      * @param theme The theme string to be decoded.
      *
@@ -666,24 +762,48 @@ public class DynamicThemeUtils {
 
         try {
             decodedTheme = Uri.decode(theme);
-            Map<String, String> map = new LinkedHashMap<>();
 
-            for (String pair : decodedTheme.split(Theme.Key.Short.SPLIT)) {
-                String[] keyValue = pair.split(Theme.Value.Short.SPLIT);
-                if (keyValue.length > 1 && !TextUtils.isEmpty(keyValue[1])) {
-                    map.put(keyValue[0], keyValue[1]);
-                }
-            }
+            final ThemeCodec codec = ThemeCodecRegistry.getCodec(decodedTheme);
+            final String json = codec != null ? codec.toJson(decodedTheme) : null;
 
-            decodedTheme = new JSONObject(map).toString();
+            decodedTheme = json != null ? json : ThemeUrlDecoder.toJson(decodedTheme);
         } catch (Exception ignored) {
         }
 
         return decodedTheme;
     }
 
+    /**
+     * Decodes a theme string and applies its values on the supplied theme.
+     * <p>It is faster than {@link #decodeTheme(String)} as it does not create an
+     * intermediate JSON string.
+     *
+     * @param theme The theme string or URL to be decoded.
+     * @param dynamicTheme The theme to apply the decoded values.
+     * @param <T> The type of the dynamic theme.
+     *
+     * @return The supplied theme after applying the decoded values.
+     *
+     * @see ThemeCodecRegistry
+     */
+    public static <T extends BaseTheme<T>> @NonNull T decodeTheme(
+            @Nullable String theme, @NonNull T dynamicTheme) {
+        if (TextUtils.isEmpty(theme)) {
+            return dynamicTheme;
+        }
+
+        try {
+            ThemeCodecRegistry.decode(theme, dynamicTheme);
+        } catch (Exception ignored) {
+        }
+
+        return dynamicTheme;
+    }
+
     /**
      * Try to map the theme with the supplied colors.
+     * <p>It maps the {@link ThemeProperty.Flag#DYNAMIC dynamic} colors of the
+     * {@link ThemeSchema}.
      *
      * @param theme The theme to be mapped.
      * @param colors The color map to be used.
@@ -696,26 +816,17 @@ public class DynamicThemeUtils {
             return theme;
         }
 
+        final int capabilities = ThemeSchema.getCapabilities(theme);
         Integer color;
 
-        if (colors.containsKey(Theme.ColorType.BACKGROUND)
-                && (color = colors.get(Theme.ColorType.BACKGROUND)) != null) {
-            theme.setBackgroundColor(color, false);
-        }
-
-        if (colors.containsKey(Theme.ColorType.SURFACE)
-                && (color = colors.get(Theme.ColorType.SURFACE)) != null) {
-            theme.setSurfaceColor(color, false);
-        }
+        for (int i = 0; i < ThemeSchema.size(); i++) {
+            final ThemeProperty property = ThemeSchema.get(i);
 
-        if (colors.containsKey(Theme.ColorType.PRIMARY)
-                && (color = colors.get(Theme.ColorType.PRIMARY)) != null) {
-            theme.setPrimaryColor(color, false);
-        }
-
-        if (colors.containsKey(Theme.ColorType.ACCENT)
-                && (color = colors.get(Theme.ColorType.ACCENT)) != null) {
-            theme.setAccentColor(color, false);
+            if (property.hasFlag(ThemeProperty.Flag.DYNAMIC)
+                    && property.isSupported(capabilities)
+                    && (color = colors.get(property.getColorType())) != null) {
+                property.set(theme, color);
+            }
         }
 
         return theme;
@@ -732,6 +843,49 @@ public class DynamicThemeUtils {
         return Theme.URL + encodeTheme(theme);
     }
 
+    /**
+     * Returns the encoded theme string with the URL.
+     * <p>It will use the {@link ThemeDeflateCodec compressed} format if it is shorter.
+     *
+     * @param theme The theme to be processed.
+     * @param compress {@code true} to try the compressed format.
+     *
+     * @return The encoded theme string with the URL.
+     */
+    public static @NonNull String getThemeUrl(@Nullable StringTheme<?> theme,
+            boolean compress) {
+        final String data = encodeTheme(theme);
+        if (!compress || theme == null || data == null) {
+            return Theme.URL + data;
+        }
+
+        String compressed = null;
+
+        try {
+            compressed = ThemeDeflateCodec.encodeTheme(theme);
+        } catch (Exception ignored) {
+        }
+
+        return Theme.URL + (compressed != null
+                && compressed.length() < data.length() ? compressed : data);
+    }
+
+    /**
+     * Returns the encoded delta theme string with the URL.
+     *
+     * @param theme The theme to be processed.
+     * @param base The base theme known to the decoder.
+     *             <p>Pass {@code null} to use the auto values as base.
+     *
+     * @return The encoded delta theme string with the URL.
+     *
+     * @see #encodeTheme(StringTheme, BaseTheme)
+     */
+    public static @NonNull String getThemeUrl(@Nullable StringTheme<?> theme,
+            @Nullable BaseTheme<?> base) {
+        return Theme.URL + encodeTheme(theme, base);
+    }
+
     /**
      * Returns the theme URI from the intent.
      *
@@ -750,9 +904,9 @@ public class DynamicThemeUtils {
 
         try {
             if (Intent.ACTION_SEND.equals(intent.getAction())) {
-                return intent.getStringExtra(Intent.EXTRA_TEXT) != null
-                        && isValidTheme(intent.getStringExtra(Intent.EXTRA_TEXT))
-                        ? Uri.parse(intent.getStringExtra(Intent.EXTRA_TEXT))
+                final String text = intent.getStringExtra(Intent.EXTRA_TEXT);
+
+                return text != null && isValidTheme(text) ? Uri.parse(text)
                         : DynamicIntentUtils.getStreamOrData(intent, Intent.ACTION_SEND);
             } else {
                 return DynamicIntentUtils.getStreamOrData(intent, Intent.ACTION_VIEW);
@@ -773,28 +927,14 @@ public class DynamicThemeUtils {
      * @return The theme data according to the URI.
      *
      * @see #getThemeUri(Intent)
+     * @see ThemeImporter
      */
     public static @Nullable String getThemeData(@Nullable Context context, @Nullable Uri uri) {
         if (context == null || uri == null) {
             return null;
         }
 
-        String data = null;
-
-        try {
-            if (uri.getQueryParameterNames().contains(Theme.PARAMETER)) {
-                data = DynamicThemeUtils.decodeTheme(uri.getQueryParameter(Theme.PARAMETER));
-            } else if (DynamicFileUtils.isValidMimeType(context, uri,
-                    Theme.MIME, Theme.EXTENSION)) {
-                data = DynamicFileUtils.readStringFromFile(context, uri);
-            } else if (DynamicFileUtils.isValidMimeType(context, uri,
-                    Theme.MIME_IMAGE_MATCH, Theme.EXTENSION_IMAGE)) {
-                data = DynamicCodeUtils.getTheme(DynamicBitmapUtils.getBitmap(context, uri));
-            }
-        } catch (Exception ignored) {
-        }
-
-        return isValidTheme(data) ? data : null;
+        return ThemeImporter.importTheme(context, uri).getData();
     }
 
     /**
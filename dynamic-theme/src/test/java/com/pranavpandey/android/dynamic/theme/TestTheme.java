@@ -0,0 +1,249 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme;
+
+import androidx.annotation.NonNull;
+
+import com.google.gson.stream.JsonWriter;
+import com.pranavpandey.android.dynamic.theme.adapter.DynamicThemeTypeAdapter;
+import com.pranavpandey.android.dynamic.theme.base.AccentTheme;
+import com.pranavpandey.android.dynamic.theme.base.BackgroundAware;
+import com.pranavpandey.android.dynamic.theme.base.BackgroundTheme;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+import com.pranavpandey.android.dynamic.theme.base.CodeTheme;
+import com.pranavpandey.android.dynamic.theme.base.CornerTheme;
+import com.pranavpandey.android.dynamic.theme.base.ElevationTheme;
+import com.pranavpandey.android.dynamic.theme.base.ErrorTheme;
+import com.pranavpandey.android.dynamic.theme.base.PrimaryTheme;
+import com.pranavpandey.android.dynamic.theme.base.StringTheme;
+import com.pranavpandey.android.dynamic.theme.base.StyleTheme;
+import com.pranavpandey.android.dynamic.theme.base.SurfaceTheme;
+import com.pranavpandey.android.dynamic.theme.base.TextTheme;
+import com.pranavpandey.android.dynamic.theme.base.TranslucentTheme;
+import com.pranavpandey.android.dynamic.theme.base.WidgetTheme;
+import com.pranavpandey.android.dynamic.theme.codec.ThemeUrlEncoder;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeSchema;
+import com.pranavpandey.android.dynamic.theme.util.DynamicThemeUtils;
+import com.pranavpandey.android.dynamic.util.DynamicUnitUtils;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * A map backed theme for the tests that implements the supplied theme interfaces.
+ * <p>Each getter and setter pair shares the value for its name, so the theme behaves like
+ * the app themes without implementing every method. The corner radius is stored in pixels
+ * and the corner size is converted from dips, same as the app themes.
+ */
+public final class TestTheme implements InvocationHandler {
+
+    /**
+     * All the theme interfaces supported by the schema.
+     */
+    public static final Class<?>[] ALL = new Class<?>[] { BackgroundTheme.class,
+            SurfaceTheme.class, PrimaryTheme.class, AccentTheme.class, ErrorTheme.class,
+            TextTheme.class, CornerTheme.class, BackgroundAware.class, TranslucentTheme.class,
+            ElevationTheme.class, StyleTheme.class, WidgetTheme.class, StringTheme.class,
+            CodeTheme.class };
+
+    /**
+     * Color keys of the theme values.
+     */
+    private static final String[] COLORS = new String[] { "BackgroundColor",
+            "TintBackgroundColor", "SurfaceColor", "TintSurfaceColor", "PrimaryColor",
+            "TintPrimaryColor", "PrimaryColorDark", "TintPrimaryColorDark", "AccentColor",
+            "TintAccentColor", "AccentColorDark", "TintAccentColorDark", "ErrorColor",
+            "TintErrorColor", "TextPrimaryColor", "TextPrimaryColorInverse",
+            "TextSecondaryColor", "TextSecondaryColorInverse" };
+
+    /**
+     * Values of this theme.
+     */
+    private final Map<String, Number> mValues;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param values The values to be used.
+     */
+    private TestTheme(@NonNull Map<String, Number> values) {
+        this.mValues = values;
+    }
+
+    /**
+     * Creates a theme with the supplied values.
+     *
+     * @param values The values to be used.
+     * @param interfaces The theme interfaces to be implemented.
+     * @param <T> The type of the theme.
+     *
+     * @return The theme with the supplied values.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @NonNull T create(
+            @NonNull Map<String, Number> values, @NonNull Class<?>... interfaces) {
+        return (T) Proxy.newProxyInstance(TestTheme.class.getClassLoader(),
+                interfaces, new TestTheme(values));
+    }
+
+    /**
+     * Creates a theme with all the interfaces and auto values.
+     *
+     * @param <T> The type of the theme.
+     *
+     * @return The theme with all the interfaces and auto values.
+     */
+    public static <T> @NonNull T create() {
+        return create(new HashMap<String, Number>(), ALL);
+    }
+
+    /**
+     * Returns random values for a theme, including the auto and system values.
+     *
+     * @param random The random to be used.
+     *
+     * @return The random values for a theme.
+     */
+    public static @NonNull Map<String, Number> random(@NonNull Random random) {
+        final Map<String, Number> values = new HashMap<>();
+
+        for (String color : COLORS) {
+            final int kind = random.nextInt(3);
+            values.put(color, kind == 0 ? Theme.AUTO : kind == 1
+                    ? 0xFF000000 | random.nextInt() : random.nextInt());
+        }
+
+        final int corner = random.nextInt(3);
+        values.put("FontScale", random.nextBoolean() ? Theme.AUTO : 50 + random.nextInt(101));
+        values.put("CornerRadius", corner == 0 ? Theme.Corner.AUTO : corner == 1
+                ? Theme.Corner.SYSTEM : DynamicUnitUtils.convertDpToPixels(random.nextInt(29)));
+        values.put("BackgroundAware", new int[] { Theme.AUTO, Theme.BackgroundAware.ENABLE,
+                Theme.BackgroundAware.DISABLE }[random.nextInt(3)]);
+        values.put("Contrast", random.nextBoolean() ? Theme.AUTO : random.nextInt(101));
+        values.put("Opacity", random.nextBoolean() ? Theme.AUTO : random.nextInt(256));
+        values.put("Elevation", new int[] { Theme.AUTO, Theme.Elevation.ENABLE,
+                Theme.Elevation.DISABLE }[random.nextInt(3)]);
+        values.put("Style", random.nextBoolean() ? Theme.AUTO : Theme.Style.CUSTOM);
+        values.put("Header", new int[] { Theme.AUTO, Theme.Visibility.SHOW,
+                Theme.Visibility.HIDE }[random.nextInt(3)]);
+
+        return values;
+    }
+
+    /**
+     * Returns the values of this theme.
+     *
+     * @return The values of this theme.
+     */
+    public @NonNull Map<String, Number> getValues() {
+        return mValues;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws IOException {
+        final String name = method.getName();
+        final Class<?> type = method.getReturnType();
+
+        switch (name) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "TestTheme" + mValues;
+            case "getCornerSize":
+                return DynamicThemeUtils.getCornerSize(get("CornerRadius"));
+            case "setCornerSize":
+                final float cornerSize = ((Number) args[0]).floatValue();
+                mValues.put("CornerRadius", cornerSize == Theme.Corner.AUTO
+                        || cornerSize == Theme.Corner.SYSTEM ? (int) cornerSize
+                        : DynamicUnitUtils.convertDpToPixels(cornerSize));
+                return proxy;
+            case "toJsonString":
+            case "toDynamicString":
+                return toDynamicString(proxy);
+            case "getThemeData":
+            case "getCodeData":
+                return ThemeUrlEncoder.encodeTheme((BaseTheme<?>) proxy);
+            case "getFingerprint":
+                return ThemeSchema.getFingerprint(proxy);
+        }
+
+        if (name.startsWith("set") && args != null && args[0] instanceof Number) {
+            mValues.put(name.substring(3), (Number) args[0]);
+            return proxy;
+        } else if (name.startsWith("set") && args != null && args[0] instanceof Boolean) {
+            mValues.put(name.substring(3), (Boolean) args[0] ? 1 : 0);
+            return proxy;
+        }
+
+        final Number value = mValues.get(name.substring(name.startsWith("is") ? 2 : 3));
+        if (type == int.class) {
+            return value != null ? value.intValue() : Theme.AUTO;
+        } else if (type == float.class) {
+            return value != null ? value.floatValue() : 0f;
+        } else if (type == long.class) {
+            return value != null ? value.longValue() : 0L;
+        } else if (type == boolean.class) {
+            return value != null && value.intValue() != 0;
+        } else if (type.isInstance(proxy)) {
+            return proxy;
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the dynamic string of the theme like the app themes.
+     *
+     * @param theme The theme to be used.
+     *
+     * @return The dynamic string of the theme.
+     *
+     * @throws IOException If there is an error in writing the theme.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static @NonNull String toDynamicString(@NonNull Object theme) throws IOException {
+        final StringWriter string = new StringWriter();
+        final JsonWriter writer = new JsonWriter(string);
+        writer.setIndent("  ");
+        new DynamicThemeTypeAdapter((BaseTheme) theme).write(writer, (BaseTheme) theme);
+        writer.flush();
+
+        return string.toString();
+    }
+
+    /**
+     * Returns the integer value for the key.
+     *
+     * @param key The key to be used.
+     *
+     * @return The integer value for the key.
+     */
+    private int get(@NonNull String key) {
+        final Number value = mValues.get(key);
+
+        return value != null ? value.intValue() : Theme.AUTO;
+    }
+}
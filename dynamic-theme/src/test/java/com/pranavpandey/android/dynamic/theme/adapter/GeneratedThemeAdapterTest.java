@@ -0,0 +1,202 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.adapter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import androidx.annotation.NonNull;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.InstanceCreator;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.annotation.GenerateAdapter;
+import com.pranavpandey.android.dynamic.theme.base.CornerTheme;
+import com.pranavpandey.android.dynamic.theme.util.DynamicThemeUtils;
+import com.pranavpandey.android.dynamic.util.DynamicUnitUtils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Tests for the {@link GeneratedThemeAdapter} of a subclass of a concrete theme.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class GeneratedThemeAdapterTest {
+
+    /**
+     * JSON with a valid value, an invalid value, a value with an unexpected type and an
+     * unknown key.
+     */
+    private static final String JSON = "{\"" + Theme.Key.CORNER_RADIUS + "\":\"8\","
+            + "\"" + Theme.Key.CORNER_RADIUS + "\":\"x\","
+            + "\"" + Theme.Key.CORNER_RADIUS + "\":{},"
+            + "\"unknown\":\"1\"}";
+
+    @Test
+    public void factoryPrefersGenerated() {
+        final Gson gson = getGson(DynamicThemeTypeAdapter.Mode.LENIENT);
+
+        assertTrue(gson.getAdapter(CustomCornerTheme.class) instanceof GeneratedThemeAdapter);
+        assertFalse(gson.getAdapter(CornerAppTheme.class) instanceof GeneratedThemeAdapter);
+    }
+
+    @Test
+    public void writeMatchesDynamic() {
+        final CustomCornerTheme theme = new CustomCornerTheme();
+        theme.setCornerSize(12);
+
+        assertEquals(getGson(DynamicThemeTypeAdapter.Mode.LENIENT).toJson(theme),
+                new DynamicThemeTypeAdapter<CornerAppTheme>(theme).toJson(theme));
+    }
+
+    @Test
+    public void lenientCounts() throws Exception {
+        final GeneratedThemeAdapter<CornerAppTheme> adapter = GeneratedThemeAdapter.get(
+                CustomCornerTheme.class, false, false, null);
+        assertNotNull(adapter);
+
+        final CornerAppTheme theme = adapter.read(new JsonReader(new StringReader(JSON)));
+        assertTrue(theme instanceof CustomCornerTheme);
+        assertEquals(8, theme.getCornerSize());
+        assertEquals(DynamicThemeTypeAdapter.Mode.LENIENT, adapter.getMode());
+        assertEquals(2, adapter.getSkippedCount());
+        assertEquals(1, adapter.getUnknownCount());
+
+        final DynamicThemeTypeAdapter<CornerAppTheme> dynamic =
+                new DynamicThemeTypeAdapter<CornerAppTheme>(new CustomCornerTheme());
+        dynamic.read(new JsonReader(new StringReader(JSON)));
+        assertEquals(dynamic.getSkippedCount(), adapter.getSkippedCount());
+        assertEquals(dynamic.getUnknownCount(), adapter.getUnknownCount());
+    }
+
+    @Test
+    public void strictThrows() {
+        final Gson gson = getGson(DynamicThemeTypeAdapter.Mode.STRICT);
+
+        try {
+            gson.fromJson(JSON, CustomCornerTheme.class);
+            fail("The invalid value is skipped in the strict mode.");
+        } catch (ThemeParseException e) {
+            assertEquals(Theme.Key.CORNER_RADIUS, e.getKey());
+            assertEquals(ThemeParseException.Reason.INVALID_VALUE, e.getReason());
+        }
+
+        try {
+            ThemeSerializer.getGson(false, false, false, DynamicThemeTypeAdapter.Mode.STRICT)
+                    .fromJson("[]", CustomCornerTheme.class);
+            fail("The invalid type is skipped in the strict mode.");
+        } catch (ThemeParseException e) {
+            assertEquals(ThemeParseException.Reason.INVALID_TYPE, e.getReason());
+        }
+    }
+
+    /**
+     * Returns the Gson instance with the {@link DynamicThemeAdapterFactory}.
+     *
+     * @param mode The mode to read the themes.
+     *
+     * @return The Gson instance with the {@link DynamicThemeAdapterFactory}.
+     */
+    private static @NonNull Gson getGson(@DynamicThemeTypeAdapter.Mode int mode) {
+        final Map<Type, InstanceCreator<?>> creators = Collections.emptyMap();
+
+        return new GsonBuilder().registerTypeAdapterFactory(
+                new DynamicThemeAdapterFactory(false, false, mode, creators)).create();
+    }
+
+    /**
+     * A concrete corner theme that fixes the type argument of the {@link CornerTheme}.
+     */
+    public static class CornerAppTheme implements CornerTheme<CornerAppTheme> {
+
+        /**
+         * Corner radius in pixels.
+         */
+        private int mCornerRadius = Theme.AUTO;
+
+        /**
+         * {@code true} if this theme is a host.
+         */
+        private boolean mHost;
+
+        @Override
+        public boolean isHost() {
+            return mHost;
+        }
+
+        @Override
+        public @NonNull CornerAppTheme setHost(boolean host) {
+            this.mHost = host;
+
+            return this;
+        }
+
+        @Override
+        public int getCornerRadius(boolean resolve) {
+            return mCornerRadius;
+        }
+
+        @Override
+        public int getCornerRadius() {
+            return getCornerRadius(true);
+        }
+
+        @Override
+        public @NonNull CornerAppTheme setCornerRadius(int cornerRadius) {
+            this.mCornerRadius = cornerRadius;
+
+            return this;
+        }
+
+        @Override
+        public int getCornerSize(boolean resolve) {
+            return DynamicThemeUtils.getCornerSize(getCornerRadius(resolve));
+        }
+
+        @Override
+        public int getCornerSize() {
+            return getCornerSize(true);
+        }
+
+        @Override
+        public @NonNull CornerAppTheme setCornerSize(float cornerSize) {
+            return setCornerRadius(cornerSize == Theme.Corner.AUTO
+                    || cornerSize == Theme.Corner.SYSTEM ? (int) cornerSize
+                    : DynamicUnitUtils.convertDpToPixels(cornerSize));
+        }
+    }
+
+    /**
+     * A subclass of the concrete theme with the generated adapter.
+     */
+    @GenerateAdapter
+    public static class CustomCornerTheme extends CornerAppTheme { }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.codec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.TestTheme;
+import com.pranavpandey.android.dynamic.theme.adapter.DynamicThemeTypeAdapter;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeSchema;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Tests for the {@link ThemeDeltaCodec}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class ThemeDeltaCodecTest {
+
+    @Test
+    public void encodeDecode() {
+        final Random random = new Random(10);
+
+        for (int i = 0; i < 200; i++) {
+            final BaseTheme theme = TestTheme.create(TestTheme.random(random), TestTheme.ALL);
+            final String data = ThemeDeltaCodec.encodeTheme(theme);
+            assertTrue(data, ThemeDeltaCodec.isValid(data));
+            assertFalse(ThemeDeltaCodec.isRelative(data));
+
+            final Map<String, Number> values = TestTheme.random(random);
+            final BaseTheme decoded = ThemeDeltaCodec.decodeTheme(data,
+                    (BaseTheme) TestTheme.create(new HashMap<>(values), TestTheme.ALL));
+            assertEquals(getTheme(theme, values), ThemeUrlEncoder.encodeTheme(decoded));
+        }
+    }
+
+    @Test
+    public void encodeDecodeBase() {
+        final Random random = new Random(11);
+
+        for (int i = 0; i < 200; i++) {
+            final Map<String, Number> values = TestTheme.random(random);
+            final Map<String, Number> initial = TestTheme.random(random);
+            final BaseTheme base = TestTheme.create(values, TestTheme.ALL);
+            final BaseTheme theme = TestTheme.create(TestTheme.random(random), TestTheme.ALL);
+            final String data = ThemeDeltaCodec.encodeTheme(theme, base);
+            assertTrue(data, ThemeDeltaCodec.isValid(data));
+            assertTrue(ThemeDeltaCodec.isRelative(data));
+            assertTrue(data.startsWith(Theme.Format.DELTA_BASE + ThemeDeltaCodec.getBase(base)));
+
+            final BaseTheme decoded = ThemeDeltaCodec.decodeTheme(data,
+                    (BaseTheme) TestTheme.create(new HashMap<>(initial), TestTheme.ALL),
+                    TestTheme.create(values, TestTheme.ALL));
+            assertEquals(getTheme(theme, initial), ThemeUrlEncoder.encodeTheme(decoded));
+        }
+    }
+
+    @Test
+    public void rejectDifferentBase() {
+        final Random random = new Random(12);
+        final BaseTheme base = TestTheme.create(TestTheme.random(random), TestTheme.ALL);
+        final BaseTheme other = TestTheme.create(TestTheme.random(random), TestTheme.ALL);
+        final BaseTheme theme = TestTheme.create(TestTheme.random(random), TestTheme.ALL);
+        final BaseTheme target = TestTheme.create(TestTheme.random(random), TestTheme.ALL);
+        final long fingerprint = ThemeSchema.getFingerprint(target);
+        final String data = ThemeDeltaCodec.encodeTheme(theme, base);
+
+        try {
+            ThemeDeltaCodec.decodeTheme(data, target, other);
+            fail("The delta theme string is decoded against a different base.");
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        try {
+            ThemeDeltaCodec.decodeTheme(data, target);
+            fail("The delta theme string is decoded without a base.");
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        assertEquals(fingerprint, ThemeSchema.getFingerprint(target));
+        assertEquals(target, ThemeCodecRegistry.DELTA.decode(data, target));
+        assertEquals(fingerprint, ThemeSchema.getFingerprint(target));
+    }
+
+    @Test
+    public void isValid() {
+        assertTrue(ThemeDeltaCodec.isValid(Theme.Format.DELTA));
+        assertTrue(ThemeDeltaCodec.isValid(Theme.Format.DELTA_BASE + "0123abcd"));
+        assertFalse(ThemeDeltaCodec.isValid(Theme.Format.DELTA_BASE));
+        assertFalse(ThemeDeltaCodec.isValid(Theme.Format.DELTA_BASE + "0123abc"));
+        assertFalse(ThemeDeltaCodec.isValid(Theme.Format.DELTA_BASE + "0123abcx"));
+    }
+
+    @Test
+    public void relativeRequiresBase() {
+        final Random random = new Random(13);
+        final String data = ThemeDeltaCodec.encodeTheme(
+                TestTheme.create(TestTheme.random(random), TestTheme.ALL),
+                TestTheme.create(TestTheme.random(random), TestTheme.ALL));
+
+        assertTrue(ThemeDeltaCodec.isValid(data));
+        assertFalse(ThemeCodecRegistry.DELTA.isValid(data));
+        assertNull(ThemeCodecRegistry.DELTA.toJson(data));
+        assertNull(ThemeCodecRegistry.DELTA.toJson(Theme.Format.DELTA_BASE + "0123abcd"));
+        assertNotNull(ThemeCodecRegistry.DELTA.toJson(Theme.Format.DELTA));
+    }
+
+    /**
+     * Returns the theme string after decoding the full theme string on a theme with the
+     * supplied values.
+     * <p>It keeps the values that cannot be read from a theme string, so that the decoded
+     * delta can be compared with it.
+     *
+     * @param theme The theme to be encoded.
+     * @param values The initial values of the decoded theme.
+     *
+     * @return The theme string after decoding the full theme string.
+     */
+    private static String getTheme(BaseTheme theme, Map<String, Number> values) {
+        final String data = ThemeUrlEncoder.encodeTheme(theme);
+        final BaseTheme decoded = TestTheme.create(new HashMap<>(values), TestTheme.ALL);
+        ThemeUrlDecoder.decode(data, 0, data.length(), new DynamicThemeTypeAdapter(decoded));
+
+        return ThemeUrlEncoder.encodeTheme(decoded);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.codec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.TestTheme;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+import com.pranavpandey.android.dynamic.theme.base.CornerTheme;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeProperty;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeSchema;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Tests for the {@link ThemePatch} on a screen density other than 1.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(qualifiers = "xxhdpi")
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class ThemePatchTest {
+
+    @Test
+    public void diffFormatParseApply() {
+        final Random random = new Random(19);
+
+        for (int i = 0; i < 200; i++) {
+            final Map<String, Number> values = TestTheme.random(random);
+            final BaseTheme from = TestTheme.create(values, TestTheme.ALL);
+            final BaseTheme to = TestTheme.create(TestTheme.random(random), TestTheme.ALL);
+
+            final ThemePatch patch = ThemePatch.diff(from, to);
+            final ThemePatch parsed = ThemePatch.parse(patch.toString());
+            assertEquals(patch, parsed);
+            assertEquals(patch.toString(), parsed.toString());
+
+            final BaseTheme applied = parsed.apply(
+                    TestTheme.create(new HashMap<>(values), TestTheme.ALL));
+            assertValues(to, applied);
+            assertTrue(ThemePatch.diff(applied, to).isEmpty());
+        }
+    }
+
+    @Test
+    public void cornerSizeInDips() {
+        final CornerTheme from = TestTheme.create();
+        final CornerTheme to = TestTheme.create();
+        from.setCornerSize(4);
+        to.setCornerSize(12);
+
+        final ThemePatch patch = ThemePatch.diff(from, to);
+        assertEquals(1, patch.size());
+        assertEquals(12, patch.getValue(0));
+        assertEquals(Theme.Key.Short.CORNER_RADIUS + Theme.Value.Short.SPLIT + "12",
+                patch.toString());
+
+        patch.apply(from);
+        assertEquals(36, from.getCornerRadius());
+        assertEquals(12, ThemePatch.parse(patch.toString()).getValue(0));
+    }
+
+    @Test
+    public void mergeKeepsUnits() {
+        final CornerTheme base = TestTheme.create();
+        final CornerTheme first = TestTheme.create();
+        final CornerTheme second = TestTheme.create();
+        base.setCornerSize(2);
+        first.setCornerSize(8);
+        second.setCornerSize(16);
+
+        final ThemePatch merged = ThemePatch.diff(base, first)
+                .merge(ThemePatch.parse(ThemePatch.diff(first, second).toString()));
+        merged.apply(base);
+        assertEquals(48, base.getCornerRadius());
+    }
+
+    /**
+     * Checks that all the schema values of the themes are equal.
+     *
+     * @param expected The expected theme.
+     * @param actual The actual theme.
+     */
+    private static void assertValues(Object expected, Object actual) {
+        for (int i = 0; i < ThemeSchema.size(); i++) {
+            final ThemeProperty property = ThemeSchema.get(i);
+            assertEquals(property.getKey(), property.get(expected, false, false),
+                    property.get(actual, false, false));
+        }
+    }
+}
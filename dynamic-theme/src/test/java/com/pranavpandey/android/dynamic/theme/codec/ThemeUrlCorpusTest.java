@@ -0,0 +1,191 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.codec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import androidx.annotation.NonNull;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.pranavpandey.android.dynamic.theme.TestTheme;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+import com.pranavpandey.android.dynamic.theme.base.StringTheme;
+import com.pranavpandey.android.dynamic.theme.util.DynamicThemeUtils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Golden corpus tests for the {@link ThemeUrlEncoder} and {@link ThemeUrlDecoder}.
+ *
+ * <p>Each line of {@code theme-urls.jsonl} has the theme interfaces and raw values along
+ * with the URL and JSON produced by the previous {@code replaceAll} chain of the
+ * {@link DynamicThemeUtils#encodeTheme(StringTheme)} and
+ * {@link DynamicThemeUtils#decodeTheme(String)}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(qualifiers = "mdpi")
+public class ThemeUrlCorpusTest {
+
+    /**
+     * Name of the corpus resource.
+     */
+    private static final String CORPUS = "theme-urls.jsonl";
+
+    /**
+     * Package of the theme interfaces.
+     */
+    private static final String BASE = "com.pranavpandey.android.dynamic.theme.base.";
+
+    @Test
+    public void encodeMatchesLegacy() throws Exception {
+        int count = 0;
+
+        try (BufferedReader reader = open()) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final JsonObject entry = JsonParser.parseString(line).getAsJsonObject();
+                final BaseTheme<?> theme = createTheme(entry);
+                final String url = entry.get("url").getAsString();
+
+                assertEquals(url, new ThemeUrlEncoder().encode(theme));
+                assertEquals(url, ThemeUrlEncoder.encodeTheme(theme));
+                assertEquals(url, DynamicThemeUtils.encodeTheme((StringTheme<?>) theme));
+                count++;
+            }
+        }
+
+        assertTrue(count > 0);
+    }
+
+    @Test
+    public void overrideIsEncoded() {
+        final Random random = new Random(7);
+        final StringTheme<?> theme = TestTheme.create(TestTheme.random(random), TestTheme.ALL);
+        final StringTheme<?> other = TestTheme.create(TestTheme.random(random), TestTheme.ALL);
+        final StringTheme<?> override = (StringTheme<?>) Proxy.newProxyInstance(
+                getClass().getClassLoader(), TestTheme.ALL, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args)
+                            throws Throwable {
+                        if ("toDynamicString".equals(method.getName())) {
+                            return other.toDynamicString();
+                        }
+
+                        return method.invoke(theme, args);
+                    }
+                });
+
+        assertFalse(ThemeUrlEncoder.isDefaultString(override.getClass()));
+        assertNotEquals(new ThemeUrlEncoder().encode(override),
+                ThemeUrlEncoder.encodeTheme(override));
+        assertEquals(new ThemeUrlEncoder().encode(other), ThemeUrlEncoder.encodeTheme(override));
+        assertEquals(new ThemeUrlEncoder().encode(other), DynamicThemeUtils.encodeTheme(override));
+    }
+
+    @Test
+    public void defaultStringIsDetected() {
+        assertTrue(ThemeUrlEncoder.isDefaultString(DefaultTheme.class));
+        assertFalse(ThemeUrlEncoder.isDefaultString(OverrideTheme.class));
+    }
+
+    @Test
+    public void decodeMatchesLegacy() throws Exception {
+        try (BufferedReader reader = open()) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final JsonObject entry = JsonParser.parseString(line).getAsJsonObject();
+
+                assertEquals(entry.get("json").getAsString(),
+                        DynamicThemeUtils.decodeTheme(entry.get("url").getAsString()));
+            }
+        }
+    }
+
+    /**
+     * Opens the corpus resource.
+     *
+     * @return The reader for the corpus.
+     */
+    private BufferedReader open() {
+        final InputStream stream = getClass().getResourceAsStream(CORPUS);
+        assertNotNull(CORPUS, stream);
+
+        return new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates the theme for a corpus entry.
+     *
+     * @param entry The corpus entry to be used.
+     *
+     * @return The theme for the corpus entry.
+     *
+     * @throws ClassNotFoundException If a theme interface cannot be found.
+     */
+    private static @NonNull BaseTheme<?> createTheme(@NonNull JsonObject entry)
+            throws ClassNotFoundException {
+        final Map<String, Number> values = new HashMap<>();
+        for (Map.Entry<String, JsonElement> value : entry.getAsJsonObject("values").entrySet()) {
+            values.put(value.getKey(), value.getValue().getAsInt());
+        }
+
+        final Class<?>[] interfaces = new Class<?>[entry.getAsJsonArray("interfaces").size()];
+        for (int i = 0; i < interfaces.length; i++) {
+            interfaces[i] = Class.forName(BASE
+                    + entry.getAsJsonArray("interfaces").get(i).getAsString());
+        }
+
+        return TestTheme.create(values, interfaces);
+    }
+
+    /**
+     * A theme that uses the default dynamic string.
+     */
+    private abstract static class DefaultTheme implements StringTheme<DefaultTheme> { }
+
+    /**
+     * A theme that overrides the dynamic string.
+     */
+    private abstract static class OverrideTheme extends DefaultTheme {
+
+        @Override
+        public @NonNull String toDynamicString() {
+            return "{}";
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.compiler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+
+import androidx.annotation.NonNull;
+
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeProperty;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeSchema;
+
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+/**
+ * Tests for the {@link ThemeAdapterProcessor} properties against the {@link ThemeSchema}.
+ */
+public class ThemeAdapterProcessorTest {
+
+    /**
+     * Value converters used by the processor in the {@link ThemeProperty.Kind} order.
+     */
+    private static final String[] CONVERTERS = new String[] { "Color", "FontScale",
+            "CornerRadius", "BackgroundAware", "Contrast", "Opacity", "Elevation",
+            "Style", "Visibility" };
+
+    @Test
+    public void propertiesMatchSchema() throws Exception {
+        assertEquals(ThemeSchema.size(), ThemeAdapterProcessor.PROPERTIES.length);
+
+        for (int i = 0; i < ThemeSchema.size(); i++) {
+            final ThemeProperty property = ThemeSchema.get(i);
+            final String[] row = ThemeAdapterProcessor.PROPERTIES[i];
+            final Class<?> type = Class.forName(Theme.class.getPackage().getName()
+                    + "." + row[0]);
+
+            assertEquals(row[1], property.getKey(),
+                    Theme.Key.class.getField(row[1]).get(null));
+            assertNotEquals(row[1], 0,
+                    ThemeSchema.getCapabilities(type) & property.getCapability());
+            assertEquals(row[1], CONVERTERS[property.getKind()], row[2]);
+            assertNotNull(row[3], getMethod(type, row[3]));
+            assertNotNull(row[4], getMethod(type, row[4]));
+        }
+    }
+
+    /**
+     * Returns the method for a call written by the processor.
+     *
+     * @param type The type declaring the method.
+     * @param call The call written by the processor.
+     *
+     * @return The method for the call, otherwise {@code null}.
+     */
+    private static Method getMethod(@NonNull Class<?> type, @NonNull String call) {
+        final String name = call.substring(0, call.indexOf('('));
+        final String args = call.substring(call.indexOf('(') + 1, call.lastIndexOf(')'));
+        final int count = args.trim().isEmpty() ? 0 : args.split(",").length;
+
+        for (Method method : type.getMethods()) {
+            if (method.getName().equals(name) && method.getParameterTypes().length == count) {
+                return method;
+            }
+        }
+
+        return null;
+    }
+}
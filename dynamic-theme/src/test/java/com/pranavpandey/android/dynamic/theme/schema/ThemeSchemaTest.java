@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.schema;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.TestTheme;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+import com.pranavpandey.android.dynamic.theme.base.CornerTheme;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Random;
+
+/**
+ * Tests for the {@link ThemeSchema} properties on a screen density other than 1.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(qualifiers = "xxhdpi")
+public class ThemeSchemaTest {
+
+    @Test
+    public void setIsInverseOfGet() {
+        final Random random = new Random(1);
+
+        for (int i = 0; i < 200; i++) {
+            final BaseTheme<?> theme = TestTheme.create(TestTheme.random(random), TestTheme.ALL);
+            final BaseTheme<?> copy = TestTheme.create();
+
+            for (int index = 0; index < ThemeSchema.size(); index++) {
+                final ThemeProperty property = ThemeSchema.get(index);
+                property.set(copy, property.get(theme, false, false));
+            }
+
+            for (int index = 0; index < ThemeSchema.size(); index++) {
+                final ThemeProperty property = ThemeSchema.get(index);
+                assertEquals(property.getKey(), property.get(theme, false, false),
+                        property.get(copy, false, false));
+            }
+        }
+    }
+
+    @Test
+    public void cornerRadiusUsesDips() {
+        final ThemeProperty property = ThemeSchema.get(Theme.Key.CORNER_RADIUS);
+        final CornerTheme<?> theme = TestTheme.create();
+        assertNotNull(property);
+
+        theme.setCornerSize(12);
+        assertEquals(36, theme.getCornerRadius());
+        assertEquals(12, property.get(theme, false, false));
+        assertEquals("12", property.format(property.get(theme, false, false)));
+
+        property.set(theme, property.parse("8"));
+        assertEquals(24, theme.getCornerRadius());
+
+        property.set(theme, property.parse(Theme.Value.AUTO));
+        assertEquals(Theme.Corner.AUTO, property.get(theme, false, false));
+        property.set(theme, property.parse(Theme.Value.SYSTEM));
+        assertEquals(Theme.Corner.SYSTEM, property.get(theme, false, false));
+    }
+}
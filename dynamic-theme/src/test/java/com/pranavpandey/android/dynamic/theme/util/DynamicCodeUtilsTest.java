@@ -0,0 +1,276 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.theme.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+import android.graphics.drawable.ColorDrawable;
+import android.graphics.drawable.Drawable;
+
+import androidx.annotation.NonNull;
+
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.google.zxing.qrcode.encoder.ByteMatrix;
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.TestTheme;
+import com.pranavpandey.android.dynamic.theme.base.BaseTheme;
+import com.pranavpandey.android.dynamic.theme.base.CodeTheme;
+import com.pranavpandey.android.dynamic.theme.base.CornerTheme;
+import com.pranavpandey.android.dynamic.theme.base.StrokeTheme;
+import com.pranavpandey.android.dynamic.theme.base.TranslucentTheme;
+import com.pranavpandey.android.dynamic.theme.schema.ResolvedTheme;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.GraphicsMode;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tests for the QR Code rendering of the {@link DynamicCodeUtils}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@GraphicsMode(GraphicsMode.Mode.NATIVE)
+public class DynamicCodeUtilsTest {
+
+    /**
+     * Output sizes of the QR Codes in pixels.
+     */
+    private static final int[] SIZES = new int[] { Theme.Size.DEFAULT, 512, 1024 };
+
+    /**
+     * Data for the QR Codes from the smallest to the largest version used by the themes.
+     */
+    private static final String[] DATA = new String[] { "theme",
+            "https://pranavpandey.org/dynamic-theme",
+            "0vA-1vA-2vA-3vA-4vX12A480-5vX406A21-4ZvA-5ZvXE05ED6-8vXDB355BAF-9vA-8ZvA-9ZvA"
+                    + "-21vXACD8C2-22vXEA78AC-12vXEB49F762-12ZvA-14vX0805805F-14ZvX36CB3D-16vA"
+                    + "-17v14-18vD-25vA-20v253-26vE-23vC-19vS" };
+
+    @Test
+    public void pixelsSupportOpaqueSquareBackground() {
+        final ByteMatrix matrix = getMatrix(DATA[0]);
+
+        assertNotNull(DynamicCodeUtils.renderCodePixels(getTheme(false, false, 255, 0), matrix));
+        assertNotNull(DynamicCodeUtils.renderCodePixels(getTheme(true, false, 255, 0), matrix));
+        assertNotNull(DynamicCodeUtils.renderCodePixels(getTheme(false, false, 128, 8), matrix));
+        assertNull(DynamicCodeUtils.renderCodePixels(getTheme(true, true, 255, 0), matrix));
+        assertNull(DynamicCodeUtils.renderCodePixels(getTheme(true, false, 128, 0), matrix));
+        assertNull(DynamicCodeUtils.renderCodePixels(getTheme(true, false, 255, 8), matrix));
+    }
+
+    @Test
+    public void pixelsMatchCanvas() {
+        final ResolvedTheme[] themes = new ResolvedTheme[] {
+                getTheme(false, false, 255, 0), getTheme(true, false, 255, 0),
+                getTheme(false, false, 128, 8) };
+
+        for (String data : DATA) {
+            final ByteMatrix matrix = getMatrix(data);
+
+            for (int size : SIZES) {
+                for (ResolvedTheme theme : themes) {
+                    final DynamicCodeUtils.Pixels pixels =
+                            DynamicCodeUtils.renderCodePixels(theme, matrix, size);
+                    final Bitmap bitmap = DynamicCodeUtils.drawCode(theme, matrix, null, size);
+                    assertNotNull(pixels);
+                    assertNotNull(bitmap);
+
+                    assertEquals(bitmap.getWidth(), pixels.getWidth());
+                    assertEquals(bitmap.getHeight(), pixels.getHeight());
+                    assertArrayEquals(data + " " + size, getPixels(bitmap), pixels.getPixels());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void pathMatchesModules() {
+        final int[] styles = new int[] { Theme.Code.Style.SQUARE,
+                Theme.Code.Style.ROUND, Theme.Code.Style.OVAL };
+        final Drawable[] overlays = new Drawable[] { null, new ColorDrawable(Color.BLACK) };
+
+        for (String data : DATA) {
+            final ByteMatrix matrix = getMatrix(data);
+
+            for (int size : SIZES) {
+                for (int style : styles) {
+                    final ResolvedTheme[] themes = new ResolvedTheme[] {
+                            getTheme(style, false, false, 255, 0),
+                            getTheme(style, true, true, 128, 8) };
+
+                    for (ResolvedTheme theme : themes) {
+                        for (Drawable overlay : overlays) {
+                            final Bitmap expected = LegacyCodeUtils.renderCode(
+                                    theme, matrix, overlay, size);
+                            final Bitmap actual = DynamicCodeUtils.drawCode(
+                                    theme, matrix, overlay, size);
+                            assertNotNull(expected);
+                            assertNotNull(actual);
+
+                            assertEquals(expected.getWidth(), actual.getWidth());
+                            assertEquals(expected.getHeight(), actual.getHeight());
+                            assertPixels(data + " " + size + " " + style, getPixels(expected),
+                                    getPixels(actual), expected.getWidth(),
+                                    style != Theme.Code.Style.SQUARE);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the resolved square code theme with the supplied background.
+     *
+     * @param strokeTheme {@code true} to implement the {@link StrokeTheme}.
+     * @param stroke {@code true} to enable the stroke.
+     * @param opacity The opacity of the background.
+     * @param cornerSize The corner size of the background in dips.
+     *
+     * @return The resolved square code theme with the supplied background.
+     */
+    static @NonNull ResolvedTheme getTheme(boolean strokeTheme,
+            boolean stroke, int opacity, int cornerSize) {
+        return getTheme(Theme.Code.Style.SQUARE, strokeTheme, stroke, opacity, cornerSize);
+    }
+
+    /**
+     * Returns the resolved code theme with the supplied style and background.
+     *
+     * @param style The style of the code.
+     * @param strokeTheme {@code true} to implement the {@link StrokeTheme}.
+     * @param stroke {@code true} to enable the stroke.
+     * @param opacity The opacity of the background.
+     * @param cornerSize The corner size of the background in dips.
+     *
+     * @return The resolved code theme with the supplied style and background.
+     */
+    static @NonNull ResolvedTheme getTheme(@Theme.Code.Style int style,
+            boolean strokeTheme, boolean stroke, int opacity, int cornerSize) {
+        final Map<String, Number> values = new HashMap<>();
+        values.put("CodeBackgroundColor", 0xFFF5F5F5);
+        values.put("CodeStrokeColor", 0xFF3F51B5);
+        values.put("CodeDataColor", 0xFF212121);
+        values.put("CodeFinderColor", 0xFFE91E63);
+        values.put("CodeOverlayColor", Theme.Color.UNKNOWN);
+        values.put("CodeContrastRatio", 0.45f);
+        values.put("CodeStyle", style);
+        values.put("Opacity", opacity);
+        values.put("Stroke", stroke ? 1 : 0);
+
+        final CornerTheme<?> theme = strokeTheme
+                ? TestTheme.create(values, CodeTheme.class, CornerTheme.class,
+                        TranslucentTheme.class, StrokeTheme.class)
+                : TestTheme.create(values, CodeTheme.class, CornerTheme.class,
+                        TranslucentTheme.class);
+        theme.setCornerSize(cornerSize);
+
+        return new ResolvedTheme((BaseTheme<?>) theme);
+    }
+
+    /**
+     * Checks that the pixels are equal, except the anti-aliased edges if they are allowed.
+     * <p>The previous renderer drew each round module and finder on its own, so the partial
+     * coverage of the edges is blended differently than a single path. A pixel is on an
+     * edge if it is different from any of its neighbours in either of the images, so the
+     * missing or extra modules and holes are still reported.
+     *
+     * @param message The message for the failure.
+     * @param expected The expected pixels.
+     * @param actual The actual pixels.
+     * @param width The width of the images.
+     * @param edges {@code true} to allow the differences on the edges.
+     */
+    private static void assertPixels(@NonNull String message, @NonNull int[] expected,
+            @NonNull int[] actual, int width, boolean edges) {
+        assertEquals(message, expected.length, actual.length);
+
+        for (int i = 0; i < expected.length; i++) {
+            if (expected[i] != actual[i] && !(edges && (isEdge(expected, width, i)
+                    || isEdge(actual, width, i)))) {
+                fail(message + " at " + i + ": expected "
+                        + Integer.toHexString(expected[i]) + " but was "
+                        + Integer.toHexString(actual[i]));
+            }
+        }
+    }
+
+    /**
+     * Checks whether the pixel is different from any of its neighbours.
+     *
+     * @param pixels The pixels of the image.
+     * @param width The width of the image.
+     * @param index The index of the pixel.
+     *
+     * @return {@code true} if the pixel is different from any of its neighbours.
+     */
+    private static boolean isEdge(@NonNull int[] pixels, int width, int index) {
+        final int x = index % width;
+        final int y = index / width;
+        final int height = pixels.length / width;
+
+        for (int row = Math.max(0, y - 1); row <= Math.min(height - 1, y + 1); row++) {
+            for (int column = Math.max(0, x - 1);
+                 column <= Math.min(width - 1, x + 1); column++) {
+                if (pixels[row * width + column] != pixels[index]) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the QR Code matrix for the supplied data.
+     *
+     * @param data The data to be encoded.
+     *
+     * @return The QR Code matrix for the supplied data.
+     */
+    static @NonNull ByteMatrix getMatrix(@NonNull String data) {
+        final ByteMatrix matrix = DynamicCodeUtils.encodeCode(data,
+                ErrorCorrectionLevel.L, "UTF-8");
+        assertNotNull(matrix);
+
+        return matrix;
+    }
+
+    /**
+     * Returns the pixels of the bitmap.
+     *
+     * @param bitmap The bitmap to be used.
+     *
+     * @return The pixels of the bitmap.
+     */
+    static @NonNull int[] getPixels(@NonNull Bitmap bitmap) {
+        final int[] pixels = new int[bitmap.getWidth() * bitmap.getHeight()];
+        bitmap.getPixels(pixels, 0, bitmap.getWidth(), 0, 0,
+                bitmap.getWidth(), bitmap.getHeight());
+
+        return pixels;
+    }
+}
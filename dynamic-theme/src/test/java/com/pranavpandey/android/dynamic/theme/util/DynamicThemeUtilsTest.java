@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.util;
+
+import static org.junit.Assert.assertEquals;
+
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.TestTheme;
+import com.pranavpandey.android.dynamic.theme.base.StringTheme;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Equivalence tests for the theme string helpers against the {@link LegacyThemeUtils}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class DynamicThemeUtilsTest {
+
+    /**
+     * Characters used to build the random strings, biased towards the white spaces, line
+     * breaks, quotes and the characters used by the patterns.
+     */
+    private static final String ALPHABET = " \t\r\n\u000B\f\u00A0\u2028|+\"\\[]{}:,#s0aZ=-";
+
+    @Test
+    public void normalizeMatchesLegacy() {
+        for (String string : getStrings()) {
+            assertEquals(LegacyThemeUtils.normalize(string),
+                    DynamicThemeUtils.normalize(string));
+        }
+    }
+
+    @Test
+    public void formatMatchesLegacy() {
+        for (String string : getStrings()) {
+            assertEquals(LegacyThemeUtils.format(string), DynamicThemeUtils.format(string));
+        }
+    }
+
+    @Test
+    public void formatCodeMatchesLegacy() {
+        assertEquals(LegacyThemeUtils.formatCode(null), DynamicCodeUtils.format(null));
+
+        for (String string : getStrings()) {
+            assertEquals(LegacyThemeUtils.formatCode(string), DynamicCodeUtils.format(string));
+        }
+    }
+
+    /**
+     * Returns the strings to be tested.
+     * <p>It has the random strings, pretty theme JSON with white spaces inside the strings
+     * and the theme URLs with an empty, short or repeated query.
+     *
+     * @return The strings to be tested.
+     */
+    private static List<String> getStrings() {
+        final Random random = new Random(3);
+        final List<String> strings = new ArrayList<>();
+        strings.add("");
+        strings.add(" ");
+        strings.add("\" \"");
+        strings.add("\"\t\"");
+        strings.add(Theme.QUERY);
+        strings.add(" " + Theme.URL + " ");
+        strings.add(Theme.QUERY + Theme.QUERY + "0vA");
+
+        for (int i = 0; i < 2000; i++) {
+            final int length = random.nextInt(120);
+            final StringBuilder builder = new StringBuilder(length);
+
+            for (int j = 0; j < length; j++) {
+                builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+
+            strings.add(builder.toString());
+        }
+
+        for (int i = 0; i < 200; i++) {
+            final StringTheme<?> theme = TestTheme.create(
+                    TestTheme.random(random), TestTheme.ALL);
+            final String json = theme.toDynamicString();
+            final String url = DynamicThemeUtils.encodeTheme(theme);
+
+            strings.add(json);
+            strings.add(json.replace(":", " : ").replace("\"#", "\" #"));
+            strings.add(Theme.URL + url);
+            strings.add("\n " + Theme.URL + url + " \t");
+            strings.add(Theme.URL + url + "&" + Theme.QUERY + url);
+        }
+
+        return strings;
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.util;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.PorterDuff;
+import android.graphics.PorterDuffColorFilter;
+import android.graphics.PorterDuffXfermode;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.graphics.drawable.Drawable;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.Nullable;
+
+import com.google.zxing.qrcode.encoder.ByteMatrix;
+import com.pranavpandey.android.dynamic.theme.Theme;
+import com.pranavpandey.android.dynamic.theme.schema.ResolvedTheme;
+import com.pranavpandey.android.dynamic.theme.schema.ThemeSchema;
+import com.pranavpandey.android.dynamic.util.DynamicBitmapUtils;
+import com.pranavpandey.android.dynamic.util.DynamicColorUtils;
+
+/**
+ * Previous QR Code renderer that draws each data module with its own call on a second
+ * bitmap, kept to compare the output and frame time of the {@link DynamicCodeUtils}.
+ */
+public class LegacyCodeUtils {
+
+    /**
+     * Renders the encoded QR Code matrix by drawing each data module on its own.
+     * <p>The matrix is only read, so the same matrix can be rendered with different styles
+     * or colors without encoding the data again.
+     *
+     * @param theme The resolved code theme to render the QR Code.
+     * @param byteMatrix The encoded QR Code matrix.
+     * @param overlay The optional QR Code overlay.
+     *
+     * @return The rendered QR Code from the resolved theme.
+     *
+     * @see DynamicCodeUtils#renderCode(ResolvedTheme, ByteMatrix, Drawable)
+     */
+    public static @Nullable Bitmap renderCode(@Nullable ResolvedTheme theme,
+            @Nullable ByteMatrix byteMatrix, @Nullable Drawable overlay) {
+        return renderCode(theme, byteMatrix, overlay, Theme.Size.DEFAULT);
+    }
+
+    /**
+     * Renders the encoded QR Code matrix of the supplied size by drawing each data module
+     * on its own.
+     *
+     * @param theme The resolved code theme to render the QR Code.
+     * @param byteMatrix The encoded QR Code matrix.
+     * @param overlay The optional QR Code overlay.
+     * @param size The output size of the QR Code in pixels.
+     *
+     * @return The rendered QR Code from the resolved theme.
+     *
+     * @see DynamicCodeUtils#renderCode(ResolvedTheme, ByteMatrix, Drawable, int)
+     */
+    public static @Nullable Bitmap renderCode(@Nullable ResolvedTheme theme,
+            @Nullable ByteMatrix byteMatrix, @Nullable Drawable overlay, int size) {
+        if (theme == null || !theme.isCode() || byteMatrix == null) {
+            return null;
+        }
+
+        final boolean cornerTheme = (theme.getCapabilities()
+                & ThemeSchema.Capability.CORNER) != 0;
+        Bitmap bitmap = null;
+        Bitmap bitmapCode;
+        @ColorInt int backgroundColor =
+                DynamicColorUtils.removeAlpha(theme.getCodeBackgroundColor());
+        @ColorInt int dataColor = DynamicColorUtils.removeAlpha(
+                DynamicColorUtils.getContrastColor(theme.getCodeDataColor(),
+                        backgroundColor, theme.getCodeContrastRatio()));
+        @ColorInt int finderExternalColor = dataColor;
+        @ColorInt int finderInternalColor = DynamicColorUtils.removeAlpha(
+                DynamicColorUtils.getContrastColor(theme.getCodeFinderColor(),
+                        backgroundColor, theme.getCodeContrastRatio()));
+        @Theme.Code.Style int style = theme.getCodeStyle();
+
+        @ColorInt int overlayColor = Theme.Color.UNKNOWN;
+        if (theme.getCodeOverlayColor() != Theme.Color.UNKNOWN) {
+            overlayColor = DynamicColorUtils.removeAlpha(DynamicColorUtils.getContrastColor(
+                    theme.getCodeOverlayColor(), backgroundColor, theme.getCodeContrastRatio()));
+        }
+
+        try {
+            int quietZone = Theme.Size.QUIET_ZONE;
+            int inputWidth = byteMatrix.getWidth();
+            int inputHeight = byteMatrix.getHeight();
+            int codeWidth = inputWidth + (quietZone * 2);
+            int codeHeight = inputHeight + (quietZone * 2);
+            int outputWidth = Math.max(size, codeWidth);
+            int outputHeight = Math.max(size, codeHeight);
+            int multiple = Math.min(outputWidth / codeWidth, outputHeight / codeHeight);
+
+            final int FINDER_SIZE = 7;
+            final float OVERLAY_FACTOR = Theme.Size.FACTOR_OVERLAY;
+            final float PADDING_FACTOR = style == Theme.Code.Style.OVAL ? 1.85f : 2f;
+            final int OVERLAY_SIZE = overlay != null ? (int) (Math.min(
+                    inputWidth, inputHeight) * OVERLAY_FACTOR) : 0;
+            final int OVERLAY_SIZE_CENTER = OVERLAY_SIZE / 2;
+            final float SCALE_DOWN_FACTOR = (style == Theme.Code.Style.ROUND
+                    || style == Theme.Code.Style.OVAL ? 21f / 30f : 1f);
+
+            int overlaySize = (int) (multiple * (OVERLAY_SIZE
+                    - (Theme.Size.FACTOR_OVERLAY_PADDING * OVERLAY_SIZE)));
+            float corner = Theme.Corner.MIN;
+            int cornerDp = Theme.Corner.MIN;
+
+            if (cornerTheme) {
+                corner = theme.getCodeCornerRadius();
+                cornerDp = theme.getCodeCornerSize();
+
+                final int startWidth = (outputWidth - codeWidth * multiple) / 2;
+                final int startHeight = (outputHeight - codeHeight * multiple) / 2;
+
+                if (corner > Math.min(startWidth, startHeight)) {
+                    final int factor = (int) (corner - Math.min(startWidth, startHeight));
+                    outputWidth = outputWidth + factor;
+                    outputHeight = outputHeight + factor;
+                }
+            }
+
+            int inputCenterX = inputWidth / 2;
+            int inputCenterY = inputHeight / 2;
+            int outputCenterX = outputWidth / 2;
+            int outputCenterY = outputHeight / 2;
+            int leftPadding = (int) ((outputWidth - (inputWidth * multiple)) / PADDING_FACTOR);
+            int topPadding = (int) ((outputHeight - (inputHeight * multiple)) / PADDING_FACTOR);
+            int dataSize = (int) (multiple * SCALE_DOWN_FACTOR);
+            int dataRadius = dataSize / 2;
+            int finderDiameter = multiple * FINDER_SIZE;
+            float cornerData = Theme.Corner.MIN;
+
+            if (cornerTheme) {
+                cornerData = style == Theme.Code.Style.ROUND
+                        ? Math.min(theme.getCodeCornerRadius(), finderDiameter / 2)
+                        : Theme.Corner.MIN;
+            }
+
+            bitmap = Bitmap.createBitmap(outputWidth, outputHeight, Bitmap.Config.ARGB_8888);
+            bitmapCode = Bitmap.createBitmap(outputWidth, outputHeight, Bitmap.Config.ARGB_8888);
+            final Canvas canvas = new Canvas(bitmap);
+            final Canvas canvasCode = new Canvas(bitmapCode);
+            final Paint paint = DynamicCodeUtils.getPaint(style);
+
+            if (theme.isStrokeTheme()) {
+                final Drawable background;
+                if (theme.isStroke()) {
+                    background = DynamicCodeUtils.getCornerDrawableWithStroke(
+                            outputWidth, outputHeight, cornerDp, backgroundColor,
+                            false, theme.getCodeStrokeColor());
+                } else {
+                    background = DynamicCodeUtils.getCornerDrawable(outputWidth,
+                            outputHeight, cornerDp, backgroundColor, false);
+                }
+
+                if ((theme.getCapabilities() & ThemeSchema.Capability.TRANSLUCENT) != 0) {
+                    background.setAlpha(theme.getCodeOpacity());
+                }
+
+                background.setBounds(0, 0, outputWidth, outputHeight);
+                background.draw(canvas);
+            } else {
+                paint.setColor(backgroundColor);
+                canvas.drawPaint(paint);
+            }
+
+            for (int inputY = 0, outputY = topPadding; inputY < inputHeight;
+                 inputY++, outputY += multiple) {
+                for (int inputX = 0, outputX = leftPadding; inputX < inputWidth;
+                     inputX++, outputX += multiple) {
+                    if (byteMatrix.get(inputX, inputY) == 1) {
+                        if (!(inputX <= FINDER_SIZE && inputY <= FINDER_SIZE
+                                || inputX >= inputWidth - FINDER_SIZE
+                                && inputY <= FINDER_SIZE
+                                || inputX <= FINDER_SIZE
+                                && inputY >= inputHeight - FINDER_SIZE
+                                || inputX >= inputCenterX - OVERLAY_SIZE_CENTER
+                                && inputX <= inputCenterX + OVERLAY_SIZE_CENTER
+                                && inputY >= inputCenterY - OVERLAY_SIZE_CENTER
+                                && inputY <= inputCenterY + OVERLAY_SIZE_CENTER)) {
+                            paint.setColor(dataColor);
+
+                            if (style == Theme.Code.Style.OVAL) {
+                                canvasCode.drawCircle(outputX, outputY, dataRadius, paint);
+                            } else {
+                                canvasCode.drawRect(new Rect(outputX, outputY,
+                                        outputX + dataSize, outputY + dataSize), paint);
+                            }
+                        }
+                    }
+                }
+            }
+
+            drawCodeFinder(canvasCode, leftPadding, topPadding, finderDiameter, paint,
+                    finderExternalColor, finderInternalColor, cornerData, style);
+            drawCodeFinder(canvasCode, leftPadding + (inputWidth - FINDER_SIZE) * multiple,
+                    topPadding, finderDiameter, paint, finderExternalColor,
+                    finderInternalColor, cornerData, style);
+            drawCodeFinder(canvasCode, leftPadding, topPadding + (inputHeight - FINDER_SIZE)
+                            * multiple, finderDiameter, paint, finderExternalColor,
+                    finderInternalColor, cornerData, style);
+
+            canvas.drawBitmap(bitmapCode, 0, 0, null);
+            bitmapCode.recycle();
+
+            if (overlay != null) {
+                Bitmap overlayBitmap = DynamicBitmapUtils.getBitmap(
+                        overlay, overlaySize, overlaySize);
+
+                if (overlayColor != Theme.Color.UNKNOWN) {
+                    paint.setColorFilter(new PorterDuffColorFilter(
+                            overlayColor, PorterDuff.Mode.SRC_ATOP));
+                } else {
+                    paint.setColorFilter(null);
+                }
+
+                if (overlayBitmap != null) {
+                    canvas.drawBitmap(overlayBitmap, outputCenterX - overlaySize / 2f,
+                            outputCenterY - overlaySize / 2f, paint);
+                }
+            }
+        } catch (Exception ignored) {
+        }
+
+        return bitmap;
+    }
+
+    /**
+     * Draws the finder for the QR Code according to the supplied parameters.
+     *
+     * @param canvas The canvas to be used.
+     * @param x The x-axis start location.
+     * @param y The y-axis start location.
+     * @param diameter The diameter to be used.
+     * @param paint The paint to be used.
+     * @param parent The parent color to be set.
+     * @param child The child color to be set.
+     * @param corner The corner radius to be set.
+     * @param style The style to be used.
+     */
+    private static void drawCodeFinder(@Nullable Canvas canvas, int x, int y,
+            int diameter, @Nullable Paint paint, @ColorInt int parent, @ColorInt int child,
+            float corner, @Theme.Code.Style int style) {
+        if (canvas == null || paint == null) {
+            return;
+        }
+
+        final int PARENT_SIZE = diameter * 5 / 7;
+        final int PARENT_OFFSET = diameter / 7;
+        final int CHILD_SIZE = diameter * 3 / 7;
+        final int CHILD_OFFSET = diameter * 2 / 7;
+        final Paint clear = new Paint(Paint.ANTI_ALIAS_FLAG | Paint.DITHER_FLAG);
+        clear.setXfermode(new PorterDuffXfermode(PorterDuff.Mode.CLEAR));
+
+        if (style == Theme.Code.Style.OVAL) {
+            paint.setColor(parent);
+            canvas.drawCircle(x + PARENT_OFFSET + CHILD_OFFSET,
+                    y + PARENT_OFFSET + CHILD_OFFSET, diameter / 2f, paint);
+            canvas.drawCircle(x + PARENT_OFFSET + CHILD_OFFSET,
+                    y + PARENT_OFFSET + CHILD_OFFSET, PARENT_SIZE / 2f, clear);
+            paint.setColor(child);
+            canvas.drawCircle(x + PARENT_OFFSET + CHILD_OFFSET,
+                    y + PARENT_OFFSET + CHILD_OFFSET, CHILD_SIZE / 2f, paint);
+        } else if (style == Theme.Code.Style.ROUND) {
+            paint.setColor(parent);
+            canvas.drawRoundRect(new RectF(x, y, x + diameter,
+                    y + diameter), corner, corner, paint);
+            canvas.drawRoundRect(new RectF(x + PARENT_OFFSET, y + PARENT_OFFSET,
+                    x + diameter - PARENT_OFFSET, y + diameter - PARENT_OFFSET),
+                    corner, corner, clear);
+            paint.setColor(child);
+            canvas.drawRoundRect(new RectF(x + CHILD_OFFSET, y + CHILD_OFFSET,
+                    x + diameter - CHILD_OFFSET, y + diameter - CHILD_OFFSET),
+                    corner, corner, paint);
+        } else {
+            paint.setColor(parent);
+            canvas.drawRect(new Rect(x, y, x + diameter, y + diameter), paint);
+            canvas.drawRect(x + PARENT_OFFSET, y + PARENT_OFFSET,
+                    x + diameter - PARENT_OFFSET, y + diameter - PARENT_OFFSET, clear);
+            paint.setColor(child);
+            canvas.drawRect(x + CHILD_OFFSET, y + CHILD_OFFSET,
+                    x + diameter - CHILD_OFFSET, y + diameter - CHILD_OFFSET, paint);
+        }
+    }
+}
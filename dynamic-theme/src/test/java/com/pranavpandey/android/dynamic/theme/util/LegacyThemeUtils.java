@@ -0,0 +1,90 @@
+/*
+ * Copyright 2019-2025 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pranavpandey.android.dynamic.theme.util;
+
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.theme.Theme;
+
+/**
+ * Previous regex based implementations of the theme string helpers.
+ * <p>They are kept as the reference for the equivalence tests and the benchmarks.
+ */
+public final class LegacyThemeUtils {
+
+    /**
+     * Formats the theme string with the previous regex chain.
+     *
+     * @param string The theme string to be formatted.
+     *
+     * @return The formatted theme string.
+     *
+     * @see DynamicThemeUtils#format(String)
+     */
+    public static @NonNull String format(@NonNull String string) {
+        try {
+            String[] query = string.trim().split(Theme.QUERY);
+            String theme = query.length > 1 && !TextUtils.isEmpty(query[1])
+                    ? DynamicThemeUtils.decodeTheme(query[1]) : string.trim();
+
+            if (theme == null) {
+                theme = string.trim();
+            }
+
+            return normalize(theme);
+        } catch (Exception ignored) {
+        }
+
+        return string;
+    }
+
+    /**
+     * Removes the line breaks, white spaces and extra quotes with the previous regex chain.
+     *
+     * @param string The theme string to be normalized.
+     *
+     * @return The normalized theme string.
+     *
+     * @see DynamicThemeUtils#normalize(String)
+     */
+    public static @NonNull String normalize(@NonNull String string) {
+        return string.replaceAll(DynamicCodeUtils.PATTERN_LINE_BREAK, "")
+                .replaceAll(DynamicCodeUtils.PATTERN_SPACE, "")
+                .replaceAll(DynamicCodeUtils.PATTERN_QUOTES, "\"");
+    }
+
+    /**
+     * Formats the code data with the previous regex.
+     *
+     * @param data The data to be formatted.
+     *
+     * @return The formatted data suitable for the code.
+     *
+     * @see DynamicCodeUtils#format(String)
+     */
+    public static @Nullable String formatCode(@Nullable String data) {
+        if (data == null) {
+            return null;
+        }
+
+        return data.replaceAll(DynamicCodeUtils.PATTERN_LINE_BREAK, DynamicCodeUtils.LINE_BREAK);
+    }
+}